@@ -0,0 +1,101 @@
+package com.haraldsson.syntropy.ai;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.IdentityComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.systems.jobs.JobBoard;
+import com.haraldsson.syntropy.world.EntitySpatialHash;
+import com.haraldsson.syntropy.world.StockpileIndex;
+import com.haraldsson.syntropy.world.World;
+
+import java.util.Arrays;
+
+/**
+ * World facts shared by every pawn's think pass in one tick. AITaskSystem calls
+ * begin() before running the trees and end() after; in between, questions such
+ * as "is there an open haul job" or "how many colonists are alive" are answered
+ * once and reused by every pawn and node instead of recomputed per priority call.
+ *
+ * Job facts are also keyed on JobBoard.getVersion(), so a claim made by an
+ * earlier pawn this tick is seen by later ones; stockpile space is sampled along
+ * with them. Outside begin()/end() every query is computed fresh.
+ */
+public class ThinkContext {
+    private static final byte UNKNOWN = 0;
+    private static final byte NO = 1;
+    private static final byte YES = 2;
+
+    private boolean active;
+    private long jobVersion = -1;
+    private byte anyOpenJob;
+    private byte openHaulJob;
+    private final byte[] openJobFrom = new byte[BuildingType.values().length];
+    private int aliveNonLeaders = -1;
+
+    /** Starts a think pass — forgets everything memoised last tick. */
+    public void begin() {
+        active = true;
+        jobVersion = -1;
+        aliveNonLeaders = -1;
+    }
+
+    public void end() {
+        active = false;
+    }
+
+    /** True if any open job exists on the board. */
+    public boolean hasOpenJob(ECSWorld ecsWorld, World world) {
+        JobBoard board = board(ecsWorld, world);
+        if (!active) return board.hasOpenJob(type -> true);
+        if (anyOpenJob == UNKNOWN) anyOpenJob = board.hasOpenJob(type -> true) ? YES : NO;
+        return anyOpenJob == YES;
+    }
+
+    /** True if an open job exists for an item type some stockpile zone still has room for. */
+    public boolean hasOpenHaulJob(ECSWorld ecsWorld, World world) {
+        JobBoard board = board(ecsWorld, world);
+        if (!active) return computeOpenHaulJob(board, world);
+        if (openHaulJob == UNKNOWN) openHaulJob = computeOpenHaulJob(board, world) ? YES : NO;
+        return openHaulJob == YES;
+    }
+
+    public boolean hasOpenJobFrom(ECSWorld ecsWorld, World world, BuildingType buildingType) {
+        JobBoard board = board(ecsWorld, world);
+        if (!active) return board.hasOpenJobFrom(buildingType);
+        int i = buildingType.ordinal();
+        if (openJobFrom[i] == UNKNOWN) openJobFrom[i] = board.hasOpenJobFrom(buildingType) ? YES : NO;
+        return openJobFrom[i] == YES;
+    }
+
+    /** Living colonists other than the leader — the pawns EntitySpatialHash.ALIVE_NON_LEADER accepts. */
+    public int getAliveNonLeaderCount(ECSWorld ecsWorld) {
+        if (active && aliveNonLeaders >= 0) return aliveNonLeaders;
+        int n = 0;
+        for (Entity e : ecsWorld.getEntitiesWith(PositionComponent.class, HealthComponent.class, IdentityComponent.class)) {
+            if (EntitySpatialHash.ALIVE_NON_LEADER.test(e)) n++;
+        }
+        if (active) aliveNonLeaders = n;
+        return n;
+    }
+
+    /** The seeded job board; clears the job memo if the open sets changed since it was filled. */
+    private JobBoard board(ECSWorld ecsWorld, World world) {
+        JobBoard board = world.getJobBoard();
+        board.ensureSeeded(ecsWorld);
+        if (active && board.getVersion() != jobVersion) {
+            jobVersion = board.getVersion();
+            anyOpenJob = UNKNOWN;
+            openHaulJob = UNKNOWN;
+            Arrays.fill(openJobFrom, UNKNOWN);
+        }
+        return board;
+    }
+
+    private static boolean computeOpenHaulJob(JobBoard board, World world) {
+        StockpileIndex stockpiles = world.getStockpiles();
+        return board.hasOpenJob(type -> stockpiles.isEmpty() || stockpiles.hasSpaceFor(type));
+    }
+}
@@ -2,6 +2,12 @@ package com.haraldsson.syntropy.ai;
 
 import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.systems.jobs.JobBoard;
+import com.haraldsson.syntropy.world.BuildingIndex;
+import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.World;
 
 /**
@@ -21,4 +27,39 @@ public abstract class ThinkNode {
      * Execute this node's behavior. Returns true if the node handled the entity.
      */
     public abstract boolean execute(Entity entity, ECSWorld ecsWorld, World world, float delta);
+
+    /**
+     * Called by ThinkTreeRoot when this node becomes the entity's active node.
+     * Nodes are shared between pawns, so per-pawn state (a cached target) goes on
+     * the entity — AIComponent.cachedTarget.
+     */
+    public void onEnter(Entity entity, ECSWorld ecsWorld, World world) {}
+
+    /** Called when the entity leaves this node — it finished, failed, or was interrupted. */
+    public void onExit(Entity entity, ECSWorld ecsWorld, World world) {
+        AIComponent ai = entity.get(AIComponent.class);
+        if (ai != null) ai.cachedTarget = null;
+    }
+
+    /** The world's job board, seeded from building output on first use. */
+    protected static JobBoard jobBoard(ECSWorld ecsWorld, World world) {
+        JobBoard board = world.getJobBoard();
+        board.ensureSeeded(ecsWorld);
+        return board;
+    }
+
+    /** The world's building index, synced with any buildings added since last use. */
+    protected static BuildingIndex buildings(ECSWorld ecsWorld, World world) {
+        BuildingIndex index = world.getBuildings();
+        index.sync(ecsWorld);
+        return index;
+    }
+
+    /**
+     * Stockpile tile to deliver a carried item to. Sticks with the pawn's current
+     * target while it is still a valid drop-off so paths aren't recomputed each tick.
+     */
+    protected static Tile findDepositTile(World world, AIComponent ai, PositionComponent pos, ItemType type) {
+        return world.getStockpiles().findDepositTile(world, type, pos.x, pos.y, ai.targetX, ai.targetY);
+    }
 }
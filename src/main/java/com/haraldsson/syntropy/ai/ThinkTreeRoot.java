@@ -2,6 +2,7 @@ package com.haraldsson.syntropy.ai;
 
 import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
 import com.haraldsson.syntropy.world.World;
 
 import java.util.ArrayList;
@@ -10,15 +11,35 @@ import java.util.List;
 /**
  * Pattern 3 — Root of a colonist's AI brain.
  * Evaluates all children, picks the one with the highest priority, and executes it.
+ *
+ * The chosen node is sticky: it keeps executing until it returns false (finished
+ * or failed) or an interrupt arrives — AIComponent.requestRethink() from a need
+ * category change or job completion, or the staggered check every thinkInterval
+ * seconds (offset by a per-pawn phase so pawns don't all think on the same
+ * frame). A check only switches when another node scores strictly higher than
+ * the active one. Nodes get onEnter/onExit on every switch so they can cache
+ * targets instead of re-scanning each tick.
  */
 public class ThinkTreeRoot extends ThinkNode {
+    public static final float DEFAULT_THINK_INTERVAL = 0.5f;
+    private static final float GOLDEN_RATIO_FRACTION = 0.618034f;
+
     private final List<ThinkNode> children = new ArrayList<>();
+    private float thinkInterval = DEFAULT_THINK_INTERVAL;
 
     public ThinkTreeRoot addChild(ThinkNode node) {
         children.add(node);
         return this;
     }
 
+    public void setThinkInterval(float seconds) {
+        this.thinkInterval = seconds;
+    }
+
+    public float getThinkInterval() {
+        return thinkInterval;
+    }
+
     @Override
     public float getPriority(Entity entity, ECSWorld ecsWorld, World world) {
         return 1f; // root always valid
@@ -26,20 +47,61 @@ public class ThinkTreeRoot extends ThinkNode {
 
     @Override
     public boolean execute(Entity entity, ECSWorld ecsWorld, World world, float delta) {
+        return execute(entity, ecsWorld, world, delta, 1f);
+    }
+
+    /**
+     * @param intervalScale multiplier on the think interval — AITaskSystem passes
+     *                      more than 1 for pawns far from the action
+     */
+    public boolean execute(Entity entity, ECSWorld ecsWorld, World world, float delta, float intervalScale) {
+        AIComponent ai = entity.get(AIComponent.class);
+        if (ai == null) { // nothing to remember state on — select every call
+            ThinkNode best = select(entity, null, ecsWorld, world);
+            return best != null && best.execute(entity, ecsWorld, world, delta);
+        }
+
+        if (ai.thinkTimer < 0f) {
+            // Spread first thinks over the interval by entity id
+            ai.thinkTimer = (entity.getId() * GOLDEN_RATIO_FRACTION) % 1f * thinkInterval;
+            ai.rethinkRequested = true;
+        }
+        ai.thinkTimer -= delta;
+        if (ai.rethinkRequested || ai.activeNode == null || ai.thinkTimer <= 0f) {
+            switchTo(entity, ai, select(entity, ai.activeNode, ecsWorld, world), ecsWorld, world);
+            ai.rethinkRequested = false;
+            if (ai.thinkTimer <= 0f) ai.thinkTimer += thinkInterval * intervalScale;
+            if (ai.thinkTimer <= 0f) ai.thinkTimer = thinkInterval * intervalScale; // long frame
+        }
+        if (ai.activeNode == null) return false;
+
+        boolean ran = ai.activeNode.execute(entity, ecsWorld, world, delta);
+        if (!ran) {
+            switchTo(entity, ai, null, ecsWorld, world);
+            ai.requestRethink();
+        }
+        return ran;
+    }
+
+    private static void switchTo(Entity entity, AIComponent ai, ThinkNode next, ECSWorld ecsWorld, World world) {
+        if (next == ai.activeNode) return;
+        if (ai.activeNode != null) ai.activeNode.onExit(entity, ecsWorld, world);
+        ai.activeNode = next;
+        if (next != null) next.onEnter(entity, ecsWorld, world);
+    }
+
+    /** Highest-priority child; on a tie the currently active node keeps running. */
+    private ThinkNode select(Entity entity, ThinkNode active, ECSWorld ecsWorld, World world) {
         ThinkNode best = null;
         float bestPriority = 0f;
 
         for (ThinkNode child : children) {
             float p = child.getPriority(entity, ecsWorld, world);
-            if (p > bestPriority) {
+            if (p > bestPriority || (p == bestPriority && p > 0f && child == active)) {
                 bestPriority = p;
                 best = child;
             }
         }
-
-        if (best != null) {
-            return best.execute(entity, ecsWorld, world, delta);
-        }
-        return false;
+        return best;
     }
 }
@@ -4,9 +4,12 @@ import com.haraldsson.syntropy.ai.ThinkNode;
 import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.*;
+import com.haraldsson.syntropy.entities.BuildingType;
 import com.haraldsson.syntropy.entities.ColonistRole;
 import com.haraldsson.syntropy.entities.Item;
 import com.haraldsson.syntropy.entities.TaskType;
+import com.haraldsson.syntropy.systems.jobs.Job;
+import com.haraldsson.syntropy.systems.jobs.JobBoard;
 import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.World;
 
@@ -51,43 +54,73 @@ public class ThinkNode_DoAssignedJob extends ThinkNode {
         return false;
     }
 
+    /**
+     * Interrupted (hunger, rest) before picking anything up — give the job back
+     * rather than holding it until the claim times out. A researcher stops
+     * counting towards the project as soon as they leave.
+     */
+    @Override
+    public void onExit(Entity entity, ECSWorld ecsWorld, World world) {
+        super.onExit(entity, ecsWorld, world);
+        AIComponent ai = entity.get(AIComponent.class);
+        if (ai != null && ai.taskType == TaskType.RESEARCHING) ai.clearTask();
+        InventoryComponent inv = entity.get(InventoryComponent.class);
+        if (inv == null || inv.carriedItem == null) world.getJobBoard().release(entity);
+    }
+
     private boolean hasWorkAvailable(ColonistRole role, Entity entity, ECSWorld ecsWorld, World world) {
         return switch (role) {
             case HAULER -> {
                 InventoryComponent inv = entity.get(InventoryComponent.class);
                 if (inv != null && inv.carriedItem != null) yield true;
-                for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class)) {
-                    if (bldg.get(BuildingComponent.class).hasOutput()) yield true;
-                }
-                yield false;
-            }
-            case MINER -> {
-                for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class)) {
-                    BuildingComponent bc = bldg.get(BuildingComponent.class);
-                    if ("MINER".equals(bc.buildingType) && bc.hasOutput()) yield true;
-                }
-                yield false;
-            }
-            case FARMER -> {
-                for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class)) {
-                    BuildingComponent bc = bldg.get(BuildingComponent.class);
-                    if ("FOOD_GROWER".equals(bc.buildingType) && bc.hasOutput()) yield true;
-                }
-                yield false;
+                JobBoard board = jobBoard(ecsWorld, world);
+                yield board.getClaim(entity) != null || world.getThinkContext().hasOpenJob(ecsWorld, world);
             }
+            case MINER -> hasCollectWork(entity, ecsWorld, world, BuildingType.MINER);
+            case FARMER -> hasCollectWork(entity, ecsWorld, world, BuildingType.FOOD_GROWER);
+            case RESEARCHER -> hasResearchWork(world);
             default -> false;
         };
     }
 
+    private boolean hasCollectWork(Entity entity, ECSWorld ecsWorld, World world, BuildingType buildingType) {
+        JobBoard board = jobBoard(ecsWorld, world);
+        Job held = board.getClaim(entity);
+        if (held != null) return held.getBuildingType() == buildingType;
+        return world.getThinkContext().hasOpenJobFrom(ecsWorld, world, buildingType);
+    }
+
     private boolean executeJob(ColonistRole role, Entity entity, ECSWorld ecsWorld, World world, float delta) {
         return switch (role) {
             case HAULER -> executeHaul(entity, ecsWorld, world, delta);
-            case MINER -> executeCollectFrom(entity, ecsWorld, world, delta, "MINER");
-            case FARMER -> executeCollectFrom(entity, ecsWorld, world, delta, "FOOD_GROWER");
+            case MINER -> executeCollectFrom(entity, ecsWorld, world, delta, BuildingType.MINER);
+            case FARMER -> executeCollectFrom(entity, ecsWorld, world, delta, BuildingType.FOOD_GROWER);
+            case RESEARCHER -> executeResearch(entity, world);
             default -> false;
         };
     }
 
+    private static boolean hasResearchWork(World world) {
+        return world.getResearch() != null && world.getResearch().hasActiveProjects();
+    }
+
+    /**
+     * Research is done where the pawn stands; ResearchSystem counts every pawn
+     * whose task is RESEARCHING, so leaving the node (or picking up another job)
+     * takes them off the project.
+     */
+    private boolean executeResearch(Entity entity, World world) {
+        AIComponent ai = entity.get(AIComponent.class);
+        PositionComponent pos = entity.get(PositionComponent.class);
+        InventoryComponent inv = entity.get(InventoryComponent.class);
+        if (ai == null || pos == null || !hasResearchWork(world)) return false;
+        if (inv != null && inv.carriedItem != null) return false; // deliver first
+        if (ai.taskType != TaskType.RESEARCHING) {
+            ai.setTask(TaskType.RESEARCHING, (int) Math.floor(pos.x), (int) Math.floor(pos.y));
+        }
+        return true;
+    }
+
     private boolean executeHaul(Entity entity, ECSWorld ecsWorld, World world, float delta) {
         AIComponent ai = entity.get(AIComponent.class);
         PositionComponent pos = entity.get(PositionComponent.class);
@@ -95,15 +128,17 @@ public class ThinkNode_DoAssignedJob extends ThinkNode {
         if (ai == null || pos == null || inv == null) return false;
 
         if (inv.carriedItem != null) {
-            Tile stockpile = world.getStockpileTile();
+            Tile stockpile = findDepositTile(world, ai, pos, inv.carriedItem.getType());
             if (stockpile == null) return false;
-            ai.setTask(TaskType.MOVE_TO_STOCKPILE, stockpile.getX(), stockpile.getY());
-            ai.stuckTimer += delta;
+            if (ai.taskType != TaskType.MOVE_TO_STOCKPILE
+                    || ai.targetX != stockpile.getX() || ai.targetY != stockpile.getY()) {
+                ai.setTask(TaskType.MOVE_TO_STOCKPILE, stockpile.getX(), stockpile.getY());
+            }
             if (ai.stuckTimer > STUCK_TIMEOUT_SECONDS) {
                 ai.recoverFromStuck(pos, world);
                 return false;
             }
-            ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+            ai.walk(MOVE_SPEED);
             if (ai.isAtTarget(pos.x, pos.y)) {
                 stockpile.addItem(inv.carriedItem);
                 inv.carriedItem = null;
@@ -113,41 +148,13 @@ public class ThinkNode_DoAssignedJob extends ThinkNode {
             return true;
         }
 
-        Entity nearest = null;
-        float nearestDist = Float.MAX_VALUE;
-        for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class, PositionComponent.class)) {
-            BuildingComponent bc = bldg.get(BuildingComponent.class);
-            if (!bc.hasOutput()) continue;
-            PositionComponent bp = bldg.get(PositionComponent.class);
-            float dx = pos.x - bp.x;
-            float dy = pos.y - bp.y;
-            float dist = dx * dx + dy * dy;
-            if (dist < nearestDist) {
-                nearestDist = dist;
-                nearest = bldg;
-            }
-        }
-        if (nearest == null) return false;
-        PositionComponent bp = nearest.get(PositionComponent.class);
-        BuildingComponent bc = nearest.get(BuildingComponent.class);
         // FIX BUG1: haul logic now handles all item types including WOOD (2026-02-20)
-        ai.setTask(TaskType.HAULING, (int) Math.floor(bp.x), (int) Math.floor(bp.y));
-        ai.stuckTimer += delta;
-        if (ai.stuckTimer > STUCK_TIMEOUT_SECONDS) {
-            ai.recoverFromStuck(pos, world);
-            return false;
-        }
-        ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
-        if (ai.isAtTarget(pos.x, pos.y)) {
-            Item output = bc.takeOutput();
-            if (output != null) inv.carriedItem = output;
-            ai.clearTask();
-            ai.stuckTimer = 0f;
-        }
-        return true;
+        JobBoard board = jobBoard(ecsWorld, world);
+        Job job = board.claimHaul(entity, pos.x, pos.y, type -> true);
+        return goCollect(entity, ai, pos, inv, world, board, job, TaskType.HAULING, delta);
     }
 
-    private boolean executeCollectFrom(Entity entity, ECSWorld ecsWorld, World world, float delta, String buildingType) {
+    private boolean executeCollectFrom(Entity entity, ECSWorld ecsWorld, World world, float delta, BuildingType buildingType) {
         AIComponent ai = entity.get(AIComponent.class);
         PositionComponent pos = entity.get(PositionComponent.class);
         InventoryComponent inv = entity.get(InventoryComponent.class);
@@ -155,15 +162,17 @@ public class ThinkNode_DoAssignedJob extends ThinkNode {
 
         // If carrying, deliver to stockpile
         if (inv.carriedItem != null) {
-            Tile stockpile = world.getStockpileTile();
+            Tile stockpile = findDepositTile(world, ai, pos, inv.carriedItem.getType());
             if (stockpile == null) return false;
-            ai.setTask(TaskType.MOVE_TO_STOCKPILE, stockpile.getX(), stockpile.getY());
-            ai.stuckTimer += delta;
+            if (ai.taskType != TaskType.MOVE_TO_STOCKPILE
+                    || ai.targetX != stockpile.getX() || ai.targetY != stockpile.getY()) {
+                ai.setTask(TaskType.MOVE_TO_STOCKPILE, stockpile.getX(), stockpile.getY());
+            }
             if (ai.stuckTimer > STUCK_TIMEOUT_SECONDS) {
                 ai.recoverFromStuck(pos, world);
                 return false;
             }
-            ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+            ai.walk(MOVE_SPEED);
             if (ai.isAtTarget(pos.x, pos.y)) {
                 stockpile.addItem(inv.carriedItem);
                 inv.carriedItem = null;
@@ -173,39 +182,43 @@ public class ThinkNode_DoAssignedJob extends ThinkNode {
             return true;
         }
 
-        Entity nearest = null;
-        float nearestDist = Float.MAX_VALUE;
-        for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class, PositionComponent.class)) {
-            BuildingComponent bc = bldg.get(BuildingComponent.class);
-            if (!buildingType.equals(bc.buildingType) || !bc.hasOutput()) continue;
-            PositionComponent bp = bldg.get(PositionComponent.class);
-            float dx = pos.x - bp.x;
-            float dy = pos.y - bp.y;
-            float dist = dx * dx + dy * dy;
-            if (dist < nearestDist) {
-                nearestDist = dist;
-                nearest = bldg;
-            }
+        JobBoard board = jobBoard(ecsWorld, world);
+        Job held = board.getClaim(entity);
+        if (held != null && held.getBuildingType() != buildingType) return false; // busy with another role's job
+        Job job = board.claimCollect(entity, buildingType, pos.x, pos.y);
+        TaskType task = buildingType == BuildingType.MINER ? TaskType.MOVE_TO_MINER : TaskType.MOVE_TO_FOOD_GROWER;
+        return goCollect(entity, ai, pos, inv, world, board, job, task, delta);
+    }
+
+    /** Walk to the claimed job's building and take one unit of output. */
+    private boolean goCollect(Entity entity, AIComponent ai, PositionComponent pos, InventoryComponent inv,
+                              World world, JobBoard board, Job job, TaskType task, float delta) {
+        if (job == null) return false;
+        BuildingComponent bc = job.getBuilding().get(BuildingComponent.class);
+        PositionComponent bp = job.getBuilding().get(PositionComponent.class);
+        if (bc == null || bp == null) {
+            board.complete(entity);
+            return false;
+        }
+        int tx = (int) Math.floor(bp.x);
+        int ty = (int) Math.floor(bp.y);
+        if (ai.taskType != task || ai.targetX != tx || ai.targetY != ty) {
+            ai.setTask(task, tx, ty);
         }
-        if (nearest == null) return false;
-        BuildingComponent bc = nearest.get(BuildingComponent.class);
-        PositionComponent bp = nearest.get(PositionComponent.class);
-        TaskType task = "MINER".equals(buildingType) ? TaskType.MOVE_TO_MINER : TaskType.MOVE_TO_FOOD_GROWER;
-        ai.setTask(task, (int) Math.floor(bp.x), (int) Math.floor(bp.y));
-        ai.stuckTimer += delta;
         if (ai.stuckTimer > STUCK_TIMEOUT_SECONDS) {
+            board.release(entity);
             ai.recoverFromStuck(pos, world);
             return false;
         }
-        ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+        ai.walk(MOVE_SPEED);
         if (ai.isAtTarget(pos.x, pos.y)) {
-            Item output = bc.takeOutput();
+            Item output = bc.takeOutput(job.getItemType()); // the type we claimed, not whatever is first
             if (output != null) inv.carriedItem = output;
+            board.complete(entity);
+            ai.requestRethink(); // job done — pick the next task now
             ai.clearTask();
             ai.stuckTimer = 0f;
         }
         return true;
     }
 }
-
-
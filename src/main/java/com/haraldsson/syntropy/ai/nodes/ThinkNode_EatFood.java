@@ -4,6 +4,7 @@ import com.haraldsson.syntropy.ai.ThinkNode;
 import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.*;
+import com.haraldsson.syntropy.entities.BuildingType;
 import com.haraldsson.syntropy.entities.HungerCategory;
 import com.haraldsson.syntropy.entities.Item;
 import com.haraldsson.syntropy.entities.ItemType;
@@ -50,7 +51,6 @@ public class ThinkNode_EatFood extends ThinkNode {
 
         // Step 1: Timeout check for stuck navigation states
         if (ai.taskType == TaskType.MOVE_TO_FOOD || ai.taskType == TaskType.MOVE_TO_FOOD_GROWER) {
-            ai.stuckTimer += delta;
             if (ai.stuckTimer > STUCK_TIMEOUT_SECONDS) {
                 ai.clearTask();
                 ai.stuckTimer = 0f;
@@ -68,7 +68,7 @@ public class ThinkNode_EatFood extends ThinkNode {
                 ai.setTask(TaskType.MOVE_TO_FOOD, foodTile.getX(), foodTile.getY());
                 ai.stuckTimer = 0f;
             }
-            ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+            ai.walk(MOVE_SPEED);
             if (ai.isAtTarget(pos.x, pos.y)) {
                 Item food = foodTile.takeFirstItem(ItemType.FOOD);
                 if (food != null) needs.eat();
@@ -90,15 +90,18 @@ public class ThinkNode_EatFood extends ThinkNode {
                 return true;
             }
             // Otherwise deliver to stockpile then eat
-            Tile stockpile = world.getStockpileTile();
+            Tile stockpile = findDepositTile(world, ai, pos, ItemType.FOOD);
             if (stockpile == null) {
                 inv.carriedItem = null;
                 ai.clearTask();
                 ai.stuckTimer = 0f;
                 return false;
             }
-            ai.setTask(TaskType.HAULING, stockpile.getX(), stockpile.getY());
-            ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+            if (ai.taskType != TaskType.HAULING
+                    || ai.targetX != stockpile.getX() || ai.targetY != stockpile.getY()) {
+                ai.setTask(TaskType.HAULING, stockpile.getX(), stockpile.getY());
+            }
+            ai.walk(MOVE_SPEED);
             if (ai.isAtTarget(pos.x, pos.y)) {
                 stockpile.addItem(inv.carriedItem);
                 inv.carriedItem = null;
@@ -113,11 +116,9 @@ public class ThinkNode_EatFood extends ThinkNode {
         // Step 3: Find the nearest FOOD_GROWER building with output to pick up
         Entity nearest = null;
         float nearestDist = Float.MAX_VALUE;
-        for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class, PositionComponent.class)) {
-            BuildingComponent bc = bldg.get(BuildingComponent.class);
-            if (!"FOOD_GROWER".equalsIgnoreCase(bc.buildingType) && !"FOODGROWER".equalsIgnoreCase(bc.buildingType)) continue;
-            if (!bc.hasOutput()) continue;
+        for (Entity bldg : buildings(ecsWorld, world).getBuildingsWithOutput(BuildingType.FOOD_GROWER)) {
             PositionComponent bp = bldg.get(PositionComponent.class);
+            if (bp == null) continue;
             float dx = pos.x - bp.x;
             float dy = pos.y - bp.y;
             float dist = dx * dx + dy * dy;
@@ -133,7 +134,7 @@ public class ThinkNode_EatFood extends ThinkNode {
                 ai.setTask(TaskType.MOVE_TO_FOOD_GROWER, (int) Math.floor(bp.x), (int) Math.floor(bp.y));
                 ai.stuckTimer = 0f;
             }
-            ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+            ai.walk(MOVE_SPEED);
             if (ai.isAtTarget(pos.x, pos.y)) {
                 Item output = bc.takeOutput();
                 if (output != null && inv != null) {
@@ -144,7 +145,7 @@ public class ThinkNode_EatFood extends ThinkNode {
                         ai.clearTask();
                     } else {
                         inv.carriedItem = output;
-                        Tile stockpile = world.getStockpileTile();
+                        Tile stockpile = findDepositTile(world, ai, pos, ItemType.FOOD);
                         if (stockpile != null) {
                             ai.setTask(TaskType.HAULING, stockpile.getX(), stockpile.getY());
                         } else {
@@ -7,17 +7,19 @@ import com.haraldsson.syntropy.ecs.components.*;
 import com.haraldsson.syntropy.entities.ColonistRole;
 import com.haraldsson.syntropy.entities.Item;
 import com.haraldsson.syntropy.entities.TaskType;
+import com.haraldsson.syntropy.systems.jobs.Job;
+import com.haraldsson.syntropy.systems.jobs.JobBoard;
+import com.haraldsson.syntropy.world.StockpileIndex;
 import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.World;
 
 /**
  * Haul items from building output to stockpile. Priority 50 (assigned job level).
- * Stops hauling a resource type if stockpile already has 5+ of it.
+ * Stops hauling a resource type once no stockpile zone accepting it has free space.
  */
 public class ThinkNode_Haul extends ThinkNode {
     private static final float MOVE_SPEED = 2.2f;
     private static final float STUCK_TIMEOUT_SECONDS = 5f;
-    private static final int STOCKPILE_CAP_PER_TYPE = 5;
 
     @Override
     public float getPriority(Entity entity, ECSWorld ecsWorld, World world) {
@@ -28,17 +30,22 @@ public class ThinkNode_Haul extends ThinkNode {
         InventoryComponent inv = entity.get(InventoryComponent.class);
         if (inv != null && inv.carriedItem != null) return 50f; // must deliver
 
-        Tile stockpile = world.getStockpileTile();
-
         // FIX BUG1: haul logic now handles all item types including WOOD (2026-02-20)
-        for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class)) {
-            BuildingComponent bc = bldg.get(BuildingComponent.class);
-            if (!bc.hasOutput()) continue;
-            // Skip if stockpile already has enough of this item type
-            if (stockpile != null && stockpile.countItems(bc.producedItemType) >= STOCKPILE_CAP_PER_TYPE) continue;
-            return 50f;
-        }
-        return 0f;
+        JobBoard board = jobBoard(ecsWorld, world);
+        if (board.getClaim(entity) != null) return 50f;
+        // Skip item types no stockpile zone has room for (answered once per tick for all pawns)
+        return world.getThinkContext().hasOpenHaulJob(ecsWorld, world) ? 50f : 0f;
+    }
+
+    /**
+     * Interrupted (hunger, rest) before picking anything up — give the job back
+     * rather than holding it until the claim times out.
+     */
+    @Override
+    public void onExit(Entity entity, ECSWorld ecsWorld, World world) {
+        super.onExit(entity, ecsWorld, world);
+        InventoryComponent inv = entity.get(InventoryComponent.class);
+        if (inv == null || inv.carriedItem == null) world.getJobBoard().release(entity);
     }
 
     @Override
@@ -48,17 +55,19 @@ public class ThinkNode_Haul extends ThinkNode {
         InventoryComponent inv = entity.get(InventoryComponent.class);
         if (ai == null || pos == null || inv == null) return false;
 
-        // If carrying something, deliver to stockpile
+        // If carrying something, deliver to the nearest stockpile zone with room
         if (inv.carriedItem != null) {
-            Tile stockpile = world.getStockpileTile();
+            Tile stockpile = findDepositTile(world, ai, pos, inv.carriedItem.getType());
             if (stockpile == null) return false;
-            ai.setTask(TaskType.MOVE_TO_STOCKPILE, stockpile.getX(), stockpile.getY());
-            ai.stuckTimer += delta;
+            if (ai.taskType != TaskType.MOVE_TO_STOCKPILE
+                    || ai.targetX != stockpile.getX() || ai.targetY != stockpile.getY()) {
+                ai.setTask(TaskType.MOVE_TO_STOCKPILE, stockpile.getX(), stockpile.getY());
+            }
             if (ai.stuckTimer > STUCK_TIMEOUT_SECONDS) {
                 ai.recoverFromStuck(pos, world);
                 return false;
             }
-            ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+            ai.walk(MOVE_SPEED);
             if (ai.isAtTarget(pos.x, pos.y)) {
                 stockpile.addItem(inv.carriedItem);
                 inv.carriedItem = null;
@@ -68,39 +77,36 @@ public class ThinkNode_Haul extends ThinkNode {
             return true;
         }
 
-        Tile stockpile = world.getStockpileTile();
-
         // FIX BUG1: haul logic now handles all item types including WOOD (2026-02-20)
-        // Find the nearest building with output to pick up (skip if stockpile full for that type)
-        Entity nearest = null;
-        float nearestDist = Float.MAX_VALUE;
-        for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class, PositionComponent.class)) {
-            BuildingComponent bc = bldg.get(BuildingComponent.class);
-            if (!bc.hasOutput()) continue;
-            // Skip buildings whose output type is already at cap in stockpile
-            if (stockpile != null && stockpile.countItems(bc.producedItemType) >= STOCKPILE_CAP_PER_TYPE) continue;
-            PositionComponent bp = bldg.get(PositionComponent.class);
-            float dx = pos.x - bp.x;
-            float dy = pos.y - bp.y;
-            float dist = dx * dx + dy * dy;
-            if (dist < nearestDist) {
-                nearestDist = dist;
-                nearest = bldg;
-            }
+        // Claim a job (or keep the one we hold) — skip types whose stockpiles are full
+        JobBoard board = jobBoard(ecsWorld, world);
+        StockpileIndex stockpiles = world.getStockpiles();
+        Job job = board.claimHaul(entity, pos.x, pos.y,
+                type -> stockpiles.isEmpty() || stockpiles.hasSpaceFor(type));
+        if (job == null) return false;
+        Entity building = job.getBuilding();
+        BuildingComponent bc = building.get(BuildingComponent.class);
+        PositionComponent bp = building.get(PositionComponent.class);
+        if (bc == null || bp == null) {
+            board.complete(entity);
+            return false;
+        }
+        int tx = (int) Math.floor(bp.x);
+        int ty = (int) Math.floor(bp.y);
+        if (ai.taskType != TaskType.HAULING || ai.targetX != tx || ai.targetY != ty) {
+            ai.setTask(TaskType.HAULING, tx, ty);
         }
-        if (nearest == null) return false;
-        BuildingComponent bc = nearest.get(BuildingComponent.class);
-        PositionComponent bp = nearest.get(PositionComponent.class);
-        ai.setTask(TaskType.HAULING, (int) Math.floor(bp.x), (int) Math.floor(bp.y));
-        ai.stuckTimer += delta;
         if (ai.stuckTimer > STUCK_TIMEOUT_SECONDS) {
+            board.release(entity); // let someone with a clear path take it
             ai.recoverFromStuck(pos, world);
             return false;
         }
-        ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+        ai.walk(MOVE_SPEED);
         if (ai.isAtTarget(pos.x, pos.y)) {
-            Item output = bc.takeOutput();
+            Item output = bc.takeOutput(job.getItemType()); // the type we claimed, not whatever is first
             if (output != null) inv.carriedItem = output;
+            board.complete(entity);
+            ai.requestRethink(); // job done — pick the next task now
             ai.clearTask();
             ai.stuckTimer = 0f;
         }
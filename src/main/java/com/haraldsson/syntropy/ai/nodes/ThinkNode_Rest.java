@@ -31,6 +31,21 @@ public class ThinkNode_Rest extends ThinkNode {
         };
     }
 
+    /** Looks up the pawn's bed once per rest instead of every tick. */
+    @Override
+    public void onEnter(Entity entity, ECSWorld ecsWorld, World world) {
+        AIComponent ai = entity.get(AIComponent.class);
+        if (ai == null) return;
+        ai.cachedTarget = null;
+        for (Entity bedEntity : ecsWorld.getEntitiesWith(BedComponent.class)) {
+            BedComponent bed = bedEntity.get(BedComponent.class);
+            if (bed.ownerEntityId == entity.getId()) {
+                ai.cachedTarget = bedEntity;
+                break;
+            }
+        }
+    }
+
     @Override
     public boolean execute(Entity entity, ECSWorld ecsWorld, World world, float delta) {
         NeedsComponent needs = entity.get(NeedsComponent.class);
@@ -45,14 +60,11 @@ public class ThinkNode_Rest extends ThinkNode {
             ai.stuckTimer = 0f;
         }
 
-        // Find owned bed
-        Entity ownedBed = null;
-        for (Entity bedEntity : ecsWorld.getEntitiesWith(BedComponent.class)) {
-            BedComponent bed = bedEntity.get(BedComponent.class);
-            if (bed.ownerEntityId == entity.getId()) {
-                ownedBed = bedEntity;
-                break;
-            }
+        // Owned bed, cached on enter
+        Entity ownedBed = ai.cachedTarget;
+        if (ownedBed != null) {
+            BedComponent bed = ownedBed.get(BedComponent.class);
+            if (bed == null || bed.ownerEntityId != entity.getId()) ownedBed = null;
         }
 
         if (ownedBed != null) {
@@ -65,14 +77,13 @@ public class ThinkNode_Rest extends ThinkNode {
 
                 if (!ai.isAtTarget(pos.x, pos.y)) {
                     // Walk toward the bed; timeout if stuck
-                    ai.stuckTimer += delta;
                     if (ai.stuckTimer >= BED_STUCK_TIMEOUT) {
                         // Can't reach bed — fall back to sleeping on the ground
                         ai.stuckTimer = 0f;
                         ai.setTask(TaskType.RESTING, (int) Math.floor(pos.x), (int) Math.floor(pos.y));
                         ai.resetWanderCooldown(REST_DURATION);
                     } else {
-                        ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+                        ai.walk(MOVE_SPEED);
                     }
                     return true;
                 }
@@ -5,6 +5,7 @@ import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.*;
 import com.haraldsson.syntropy.entities.TaskType;
+import com.haraldsson.syntropy.world.EntitySpatialHash;
 import com.haraldsson.syntropy.world.World;
 
 /**
@@ -24,15 +25,19 @@ public class ThinkNode_Socialize extends ThinkNode {
         // Only socialize when not hungry or tired
         if (needs.isHungry() || needs.isTired()) return 0f;
 
-        // Check if there are other living colonists to socialize with
-        for (Entity other : ecsWorld.getEntitiesWith(PositionComponent.class, HealthComponent.class, IdentityComponent.class)) {
-            if (other == entity) continue;
-            HealthComponent otherHealth = other.get(HealthComponent.class);
-            if (otherHealth.dead) continue;
-            if (other.has(LeaderComponent.class)) continue; // don't chase the leader
-            return 10f;
-        }
-        return 0f;
+        // Check if there are other living colonists to socialize with — a shared
+        // per-tick count; the nearest one is only looked up on enter
+        int others = world.getThinkContext().getAliveNonLeaderCount(ecsWorld)
+                - (EntitySpatialHash.ALIVE_NON_LEADER.test(entity) ? 1 : 0);
+        return others > 0 ? 10f : 0f;
+    }
+
+    @Override
+    public void onEnter(Entity entity, ECSWorld ecsWorld, World world) {
+        AIComponent ai = entity.get(AIComponent.class);
+        PositionComponent pos = entity.get(PositionComponent.class);
+        if (ai == null || pos == null) return;
+        ai.cachedTarget = world.getEntityHash().nearest(pos.x, pos.y, entity, EntitySpatialHash.ALIVE_NON_LEADER);
     }
 
     @Override
@@ -50,24 +55,12 @@ public class ThinkNode_Socialize extends ThinkNode {
             return true;
         }
 
-        // Find nearest living non-leader colonist
-        Entity nearest = null;
-        float nearestDist = Float.MAX_VALUE;
-        for (Entity other : ecsWorld.getEntitiesWith(PositionComponent.class, HealthComponent.class, IdentityComponent.class)) {
-            if (other == entity) continue;
-            HealthComponent otherHealth = other.get(HealthComponent.class);
-            if (otherHealth.dead) continue;
-            if (other.has(LeaderComponent.class)) continue;
-            PositionComponent otherPos = other.get(PositionComponent.class);
-            float dx = pos.x - otherPos.x;
-            float dy = pos.y - otherPos.y;
-            float dist = dx * dx + dy * dy;
-            if (dist < nearestDist) {
-                nearestDist = dist;
-                nearest = other;
-            }
+        // Partner picked on enter; look again only if they died or vanished
+        Entity nearest = ai.cachedTarget;
+        if (nearest == null || !EntitySpatialHash.ALIVE_NON_LEADER.test(nearest)) {
+            nearest = world.getEntityHash().nearest(pos.x, pos.y, entity, EntitySpatialHash.ALIVE_NON_LEADER);
+            ai.cachedTarget = nearest;
         }
-
         if (nearest == null) return false;
 
         PositionComponent targetPos = nearest.get(PositionComponent.class);
@@ -82,9 +75,11 @@ public class ThinkNode_Socialize extends ThinkNode {
             return true;
         }
 
-        // Move toward the other colonist
-        ai.setTask(TaskType.WANDER, (int) targetPos.x, (int) targetPos.y);
-        ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+        // Move toward the other colonist; keep the path unless they changed tile
+        if (ai.taskType != TaskType.WANDER || ai.targetX != (int) targetPos.x || ai.targetY != (int) targetPos.y) {
+            ai.setTask(TaskType.WANDER, (int) targetPos.x, (int) targetPos.y);
+        }
+        ai.walk(MOVE_SPEED);
         return true;
     }
 }
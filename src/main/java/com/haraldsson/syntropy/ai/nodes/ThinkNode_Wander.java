@@ -42,7 +42,7 @@ public class ThinkNode_Wander extends ThinkNode {
             }
             ai.resetWanderCooldown(2f + (float) Math.random() * 2f);
         }
-        ai.moveTowardTarget(pos, delta, MOVE_SPEED, world);
+        ai.walk(MOVE_SPEED);
         if (ai.isAtTarget(pos.x, pos.y)) {
             ai.clearTask();
         }
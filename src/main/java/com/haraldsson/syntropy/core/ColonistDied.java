@@ -0,0 +1,9 @@
+package com.haraldsson.syntropy.core;
+
+/** Payload of {@link EventType#COLONIST_DIED}. */
+public record ColonistDied(String name) {
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -2,21 +2,29 @@ package com.haraldsson.syntropy.core;
 
 /**
  * Pattern 4 — Event types for the decoupled event bus.
+ * Each type declares the payload class it carries; GameEvents rejects a fire()
+ * with any other payload, and typed subscriptions are checked against it.
  */
 public enum EventType {
-    RESOURCE_PRODUCED,
-    RESOURCE_CONSUMED,
-    COLONIST_DIED,
-    COLONIST_BORN,
-    POLLUTION_INCREASED,
-    BUILDING_PLACED,
-    BUILDING_COMPLETED,
-    RESEARCH_COMPLETED,
-    LEADER_DIED,
-    LEADER_SUCCEEDED,
-    FACTION_RELATION_CHANGED,
-    COLONIST_RECRUITED,
-    BLUEPRINT_PLACED,
-    BLUEPRINT_COMPLETED
-}
+    RESOURCE_PRODUCED(ResourceProduced.class),
+    RESOURCE_CONSUMED(Object.class),
+    COLONIST_DIED(ColonistDied.class),
+    COLONIST_BORN(Object.class),
+    POLLUTION_INCREASED(Object.class),
+    BUILDING_PLACED(Object.class),
+    BUILDING_COMPLETED(String.class),      // building type name
+    RESEARCH_COMPLETED(ResearchCompleted.class),
+    LEADER_DIED(LeaderDied.class),
+    LEADER_SUCCEEDED(String.class),        // new leader's name
+    FACTION_RELATION_CHANGED(Object.class),
+    COLONIST_RECRUITED(Object.class),
+    BLUEPRINT_PLACED(Object.class),
+    BLUEPRINT_COMPLETED(Object.class);
+
+    /** Class every payload of this type is an instance of. Object = not pinned down yet. */
+    public final Class<?> payloadType;
 
+    EventType(Class<?> payloadType) {
+        this.payloadType = payloadType;
+    }
+}
@@ -19,10 +19,11 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.*;
 import com.haraldsson.syntropy.ecs.systems.*;
-import com.haraldsson.syntropy.entities.Item;
+import com.haraldsson.syntropy.entities.ItemType;
 import com.haraldsson.syntropy.input.PlayerController;
 import com.haraldsson.syntropy.systems.EventSystem;
 import com.haraldsson.syntropy.systems.Technology;
+import com.haraldsson.syntropy.systems.belts.BeltSegment;
 import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.WorldGenerator;
 
@@ -46,9 +47,13 @@ public class GameApp extends ApplicationAdapter {
     private PlayerController playerController;
     private EventSystem eventSystem;
 
+    private SpatialHashSystem spatialHashSystem;
     private NeedsSystem needsSystem;
     private BuildingProductionSystem buildingProductionSystem;
+    private BeltSystem beltSystem;
+    private LogisticsSystem logisticsSystem;
     private AITaskSystem aiTaskSystem;
+    private MovementSystem movementSystem;
     private AgingSystem agingSystem;
     private MoodSystem moodSystem;
 
@@ -75,12 +80,17 @@ public class GameApp extends ApplicationAdapter {
 
         WorldGenerator.GenerationResult result = WorldGenerator.generate(WORLD_WIDTH, WORLD_HEIGHT);
         gameState = new GameState(result.world, result.ecsWorld);
+        gameState.events.log("WORLD: seed " + result.seed);
 
         playerController = new PlayerController(gameState.world, gameState.ecsWorld, camera, viewport, TILE_SIZE);
         eventSystem = new EventSystem();
+        spatialHashSystem = new SpatialHashSystem();
         needsSystem = new NeedsSystem();
         buildingProductionSystem = new BuildingProductionSystem();
+        beltSystem = new BeltSystem();
+        logisticsSystem = new LogisticsSystem();
         aiTaskSystem = new AITaskSystem();
+        movementSystem = new MovementSystem();
         agingSystem = new AgingSystem();
         moodSystem = new MoodSystem();
 
@@ -108,25 +118,27 @@ public class GameApp extends ApplicationAdapter {
         // Inject events reference into systems that need it
         buildingProductionSystem.setEvents(events);
 
-        events.on(EventType.COLONIST_DIED, payload -> {
-            String name = payload instanceof String ? (String) payload : "A colonist";
-            events.log("DEATH: " + name + " has died.");
-        });
+        // Every unit of output becomes a haul/collect job on the current world's board
+        events.onResourceProduced((building, itemType) ->
+                gameState.world.getJobBoard().onResourceProduced(building, itemType));
 
-        events.on(EventType.LEADER_DIED, payload -> {
-            String name = payload instanceof String ? (String) payload : "The leader";
-            events.log("LEADER DIED: " + name + "! Succession needed.");
-        });
+        events.on(EventType.COLONIST_DIED, ColonistDied.class, died ->
+                events.log("DEATH: %s has died.", died.name()));
 
-        events.on(EventType.RESEARCH_COMPLETED, payload -> {
-            String techName = payload instanceof String ? (String) payload : "Unknown tech";
-            events.log("RESEARCH: " + techName + " completed!");
-        });
+        events.on(EventType.LEADER_DIED, LeaderDied.class, died ->
+                events.log("LEADER DIED: %s! Succession needed.", died.name()));
 
-        events.on(EventType.BUILDING_COMPLETED, payload -> {
-            String type = payload instanceof String ? (String) payload : "Building";
-            events.log("BUILT: " + type + " construction complete.");
+        events.on(EventType.RESEARCH_COMPLETED, ResearchCompleted.class, done -> {
+            events.log("RESEARCH: %s completed!", done.name());
+            if (gameState.research.isCompleted("basic_bots")
+                    && gameState.ecsWorld.getEntitiesWith(BotComponent.class).isEmpty()) {
+                LogisticsSystem.spawnBots(gameState.ecsWorld, gameState.world, LogisticsSystem.BOTS_PER_UNLOCK);
+                events.log("BOTS: %s worker bots online.", LogisticsSystem.BOTS_PER_UNLOCK);
+            }
         });
+
+        events.on(EventType.BUILDING_COMPLETED, String.class, type ->
+                events.log("BUILT: %s construction complete.", type));
     }
 
     @Override
@@ -155,11 +167,15 @@ public class GameApp extends ApplicationAdapter {
         }
 
         playerController.update(delta);
+        spatialHashSystem.update(gameState.ecsWorld, gameState.world, delta);
         aiTaskSystem.update(gameState.ecsWorld, gameState.world, delta);
+        movementSystem.update(gameState.ecsWorld, gameState.world, delta);
         needsSystem.update(gameState.ecsWorld, gameState.world, delta);
         moodSystem.update(gameState.ecsWorld, gameState.world, delta);
         buildingProductionSystem.update(gameState.ecsWorld, gameState.world, delta);
-        gameState.research.update(delta);
+        beltSystem.update(gameState.ecsWorld, gameState.world, delta);
+        logisticsSystem.update(gameState.ecsWorld, gameState.world, delta);
+        gameState.research.update(gameState.ecsWorld, delta);
         eventSystem.update(gameState.ecsWorld, gameState.world, delta);
         gameState.pollution.update(gameState.ecsWorld, gameState.world, delta);
         agingSystem.update(gameState.ecsWorld, gameState.world, delta);
@@ -171,11 +187,11 @@ public class GameApp extends ApplicationAdapter {
                 health.deathEventFired = true;
                 IdentityComponent id = e.get(IdentityComponent.class);
                 if (e.has(LeaderComponent.class)) {
-                    gameState.events.fire(EventType.LEADER_DIED, id.name);
+                    gameState.events.fire(EventType.LEADER_DIED, new LeaderDied(id.name));
                     // Trigger succession for any cause of leader death, not only old age
                     agingSystem.triggerSuccession(id.name + " has died.");
                 } else {
-                    gameState.events.fire(EventType.COLONIST_DIED, id.name);
+                    gameState.events.fire(EventType.COLONIST_DIED, new ColonistDied(id.name));
                 }
             }
         }
@@ -255,6 +271,7 @@ public class GameApp extends ApplicationAdapter {
     private void resetGame() {
         WorldGenerator.GenerationResult result = WorldGenerator.generate(WORLD_WIDTH, WORLD_HEIGHT);
         gameState = new GameState(result.world, result.ecsWorld);
+        gameState.events.log("WORLD: seed " + result.seed);
         playerController = new PlayerController(gameState.world, gameState.ecsWorld, camera, viewport, TILE_SIZE);
         eventSystem = new EventSystem();
         pendingSuccession = false;
@@ -267,7 +284,8 @@ public class GameApp extends ApplicationAdapter {
     private void handleSaveLoad() {
         if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
             try {
-                SaveLoadSystem.save(gameState.world, gameState.ecsWorld, "syntropy_save.json");
+                buildingProductionSystem.syncTimers();
+                SaveLoadSystem.save(gameState.world, gameState.ecsWorld, gameState.research, "syntropy_save.json");
                 showStatus("Game saved!");
             } catch (Exception e) {
                 showStatus("Save failed: " + e.getMessage());
@@ -277,6 +295,7 @@ public class GameApp extends ApplicationAdapter {
             try {
                 SaveLoadSystem.LoadResult loadResult = SaveLoadSystem.load("syntropy_save.json");
                 gameState = new GameState(loadResult.world, loadResult.ecsWorld);
+                gameState.research.loadState(loadResult.research);
                 playerController = new PlayerController(gameState.world, gameState.ecsWorld, camera, viewport, TILE_SIZE);
                 eventSystem = new EventSystem();
                 wireEventBus();
@@ -310,9 +329,11 @@ public class GameApp extends ApplicationAdapter {
         spriteBatch.begin();
 
         renderTiles();
+        renderBelts();
         renderBuildings();
         renderGroundItems();
         renderColonists();
+        renderBots();
         renderWorldText();
 
         spriteBatch.end();
@@ -334,11 +355,32 @@ public class GameApp extends ApplicationAdapter {
         }
     }
 
+    private void renderBelts() {
+        Texture beltTex = spriteManager.getBeltTexture();
+        for (BeltSegment belt : gameState.world.getBelts().getSegments()) {
+            BeltSegment.Direction dir = belt.getDirection();
+            for (int i = 0; i < belt.getLengthTiles(); i++) {
+                int x = belt.getStartX() + dir.dx * i;
+                int y = belt.getStartY() + dir.dy * i;
+                if (beltTex != null) spriteBatch.draw(beltTex, x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+            }
+            ItemType[] items = belt.getItems();
+            for (int i = 0; i < items.length; i++) {
+                Texture itemTex = spriteManager.getItemTexture(items[i]);
+                if (itemTex == null) continue;
+                float along = belt.getItemPosition(i);
+                float cx = (belt.getStartX() + 0.5f + dir.dx * (along - 0.5f)) * TILE_SIZE;
+                float cy = (belt.getStartY() + 0.5f + dir.dy * (along - 0.5f)) * TILE_SIZE;
+                spriteBatch.draw(itemTex, cx - 4, cy - 4, 8, 8);
+            }
+        }
+    }
+
     private void renderBuildings() {
         for (Entity e : gameState.ecsWorld.getEntitiesWith(BuildingComponent.class, PositionComponent.class)) {
             BuildingComponent bc = e.get(BuildingComponent.class);
             PositionComponent pos = e.get(PositionComponent.class);
-            Texture tex = spriteManager.getBuildingTexture(bc.buildingType);
+            Texture tex = spriteManager.getBuildingTexture(bc.buildingType.name());
             if (tex != null) {
                 spriteBatch.draw(tex, pos.x * TILE_SIZE + 6, pos.y * TILE_SIZE + 6,
                         TILE_SIZE - 12, TILE_SIZE - 12);
@@ -368,44 +410,45 @@ public class GameApp extends ApplicationAdapter {
         for (int y = 0; y < gameState.world.getHeight(); y++) {
             for (int x = 0; x < gameState.world.getWidth(); x++) {
                 Tile tile = gameState.world.getTile(x, y);
-                if (tile.getGroundItems().isEmpty()) continue;
+                if (!tile.hasAnyItem()) continue;
 
                 if (tile.isStockpile()) {
                     // Stockpile: show item type icons with counts as text
                     float tx = x * TILE_SIZE + 2;
                     float ty = y * TILE_SIZE + TILE_SIZE - 2;
-                    int stoneCount = tile.countItems(com.haraldsson.syntropy.entities.ItemType.STONE);
-                    int foodCount = tile.countItems(com.haraldsson.syntropy.entities.ItemType.FOOD);
-                    int woodCount = tile.countItems(com.haraldsson.syntropy.entities.ItemType.WOOD);
+                    int stoneCount = tile.countItems(ItemType.STONE);
+                    int foodCount = tile.countItems(ItemType.FOOD);
+                    int woodCount = tile.countItems(ItemType.WOOD);
                     int line = 0;
                     if (stoneCount > 0) {
-                        Texture tex = spriteManager.getItemTexture(com.haraldsson.syntropy.entities.ItemType.STONE);
+                        Texture tex = spriteManager.getItemTexture(ItemType.STONE);
                         if (tex != null) spriteBatch.draw(tex, tx, ty - 10 - line * 12, 8, 8);
                         smallFont.setColor(0.7f, 0.7f, 0.65f, 1f);
                         smallFont.draw(spriteBatch, "x" + stoneCount, tx + 10, ty - 1 - line * 12);
                         line++;
                     }
                     if (foodCount > 0) {
-                        Texture tex = spriteManager.getItemTexture(com.haraldsson.syntropy.entities.ItemType.FOOD);
+                        Texture tex = spriteManager.getItemTexture(ItemType.FOOD);
                         if (tex != null) spriteBatch.draw(tex, tx, ty - 10 - line * 12, 8, 8);
                         smallFont.setColor(0.9f, 0.75f, 0.2f, 1f);
                         smallFont.draw(spriteBatch, "x" + foodCount, tx + 10, ty - 1 - line * 12);
                         line++;
                     }
                     if (woodCount > 0) {
-                        Texture tex = spriteManager.getItemTexture(com.haraldsson.syntropy.entities.ItemType.WOOD);
+                        Texture tex = spriteManager.getItemTexture(ItemType.WOOD);
                         if (tex != null) spriteBatch.draw(tex, tx, ty - 10 - line * 12, 8, 8);
                         smallFont.setColor(0.6f, 0.4f, 0.15f, 1f);
                         smallFont.draw(spriteBatch, "x" + woodCount, tx + 10, ty - 1 - line * 12);
                     }
                 } else {
                     // Non-stockpile: show one small item icon per ground item (max 3)
-                    int shown = Math.min(tile.getGroundItems().size(), 3);
-                    for (int i = 0; i < shown; i++) {
-                        Item item = tile.getGroundItems().get(i);
-                        Texture tex = spriteManager.getItemTexture(item.getType());
-                        if (tex != null) {
-                            spriteBatch.draw(tex, x * TILE_SIZE + 4 + i * 9, y * TILE_SIZE + 4, 8, 8);
+                    int shown = 0;
+                    for (ItemType type : ItemType.values()) {
+                        Texture tex = spriteManager.getItemTexture(type);
+                        for (int n = tile.countItems(type); n > 0 && shown < 3; n--, shown++) {
+                            if (tex != null) {
+                                spriteBatch.draw(tex, x * TILE_SIZE + 4 + shown * 9, y * TILE_SIZE + 4, 8, 8);
+                            }
                         }
                     }
                 }
@@ -413,6 +456,21 @@ public class GameApp extends ApplicationAdapter {
         }
     }
 
+    private void renderBots() {
+        Texture botTex = spriteManager.getBotTexture();
+        for (Entity e : gameState.ecsWorld.getEntitiesWith(BotComponent.class, PositionComponent.class)) {
+            PositionComponent pos = e.get(PositionComponent.class);
+            if (botTex != null) {
+                spriteBatch.draw(botTex, pos.x * TILE_SIZE + 10, pos.y * TILE_SIZE + 10, 12, 12);
+            }
+            InventoryComponent inv = e.get(InventoryComponent.class);
+            if (inv != null && inv.carriedItem != null) {
+                Texture itemTex = spriteManager.getItemTexture(inv.carriedItem.getType());
+                if (itemTex != null) spriteBatch.draw(itemTex, pos.x * TILE_SIZE + 12, pos.y * TILE_SIZE + 20, 8, 8);
+            }
+        }
+    }
+
     private void renderColonists() {
         int half = TILE_SIZE / 2;
         for (Entity e : gameState.ecsWorld.getEntitiesWith(PositionComponent.class, HealthComponent.class, NeedsComponent.class)) {
@@ -1,34 +1,130 @@
 package com.haraldsson.syntropy.core;
 
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.entities.ItemType;
+
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 
 /**
  * Pattern 4 — Event Bus.
  * Systems never call each other directly. All communication goes through events.
  * Instance-based (not static) — lives inside GameState for serialization safety.
+ *
+ * Listeners sit in plain arrays indexed by EventType ordinal, so firing is an
+ * array walk with no map lookup or iterator. Every EventType names its payload
+ * class: fire() rejects any other payload, and on(type, payloadClass, listener)
+ * only accepts a class that covers it, so a typed listener never misses events.
+ *
+ * RESOURCE_PRODUCED fires once per unit of output, so it has a primitive
+ * channel too. fireResourceProduced(building, item) hands the fields straight
+ * to ResourceListeners. A ResourceProduced record is built only if someone
+ * subscribed to the untyped channel.
+ *
+ * The log is a fixed ring of entries that keep a template and up to two
+ * arguments. The text is formatted only when getEventLog() is read, and that
+ * list is rebuilt only after a new entry. Logging an enum or a String
+ * allocates nothing.
  */
 public class GameEvents {
-    private final Map<EventType, List<Consumer<Object>>> listeners = new HashMap<>();
-    private final List<String> eventLog = new ArrayList<>();
     private static final int MAX_LOG = 20;
+    private static final EventType[] TYPES = EventType.values();
+    private static final Consumer<Object>[] NO_HANDLERS = handlers(0);
+
+    /** Typed RESOURCE_PRODUCED subscriber — gets the fields, no payload object. */
+    public interface ResourceListener {
+        void onResourceProduced(Entity building, ItemType itemType);
+    }
+
+    private final Consumer<Object>[][] listeners;
+    private ResourceListener[] resourceListeners = new ResourceListener[0];
+
+    private final LogEntry[] log = new LogEntry[MAX_LOG];
+    private int logHead;   // next slot to write
+    private int logCount;
+    private List<String> logView = Collections.emptyList();
+    private boolean logDirty;
+
+    private static final class LogEntry {
+        String template;
+        Object arg0;
+        Object arg1;
+        int args;
+        String text; // formatted on first read
+    }
+
+    public GameEvents() {
+        listeners = handlerTable(TYPES.length);
+        Arrays.fill(listeners, NO_HANDLERS);
+        for (int i = 0; i < MAX_LOG; i++) log[i] = new LogEntry();
+    }
+
+    // Java can't create generic arrays; these are the only two places that need to
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Consumer<Object>[] handlers(int length) {
+        return new Consumer[length];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Consumer<Object>[][] handlerTable(int length) {
+        return new Consumer[length][];
+    }
 
     public void on(EventType type, Consumer<Object> listener) {
-        listeners.computeIfAbsent(type, k -> new ArrayList<>()).add(listener);
+        Consumer<Object>[] old = listeners[type.ordinal()];
+        Consumer<Object>[] handlers = Arrays.copyOf(old, old.length + 1);
+        handlers[old.length] = listener;
+        listeners[type.ordinal()] = handlers;
+    }
+
+    /**
+     * Subscribes with a typed payload.
+     * @throws IllegalArgumentException if {@code payloadType} doesn't cover the type's declared payload
+     */
+    public <T> void on(EventType type, Class<T> payloadType, Consumer<? super T> listener) {
+        if (!payloadType.isAssignableFrom(type.payloadType)) {
+            throw new IllegalArgumentException(type + " carries " + type.payloadType.getSimpleName()
+                    + ", not " + payloadType.getSimpleName());
+        }
+        on(type, payload -> listener.accept(payloadType.cast(payload)));
+    }
+
+    public void onResourceProduced(ResourceListener listener) {
+        resourceListeners = Arrays.copyOf(resourceListeners, resourceListeners.length + 1);
+        resourceListeners[resourceListeners.length - 1] = listener;
     }
 
+    /** @throws IllegalArgumentException if the payload isn't an instance of the type's payload class */
     public void fire(EventType type, Object payload) {
-        List<Consumer<Object>> handlers = listeners.get(type);
-        if (handlers != null) {
-            for (Consumer<Object> handler : handlers) {
-                handler.accept(payload);
-            }
+        if (!type.payloadType.isInstance(payload)) {
+            throw new IllegalArgumentException(type + " expects " + type.payloadType.getSimpleName()
+                    + ", got " + (payload == null ? "null" : payload.getClass().getSimpleName()));
+        }
+        for (Consumer<Object> handler : listeners[type.ordinal()]) {
+            handler.accept(payload);
+        }
+    }
+
+    /** RESOURCE_PRODUCED for one unit. Allocation-free unless untyped listeners need a record. */
+    public void fireResourceProduced(Entity building, ItemType itemType) {
+        for (ResourceListener listener : resourceListeners) {
+            listener.onResourceProduced(building, itemType);
+        }
+        Consumer<Object>[] handlers = listeners[EventType.RESOURCE_PRODUCED.ordinal()];
+        if (handlers.length > 0) {
+            ResourceProduced payload = new ResourceProduced(building, itemType);
+            for (Consumer<Object> handler : handlers) handler.accept(payload);
         }
     }
 
+    public boolean hasListeners(EventType type) {
+        return listeners[type.ordinal()].length > 0
+                || (type == EventType.RESOURCE_PRODUCED && resourceListeners.length > 0);
+    }
+
     /** Fire an event and also log a human-readable message. */
     public void fireAndLog(EventType type, Object payload, String message) {
         fire(type, payload);
@@ -36,17 +132,57 @@ public class GameEvents {
     }
 
     public void log(String message) {
-        eventLog.add(message);
-        if (eventLog.size() > MAX_LOG) eventLog.remove(0);
+        append(message, null, null, 0);
+    }
+
+    /** Logs String.format(template, arg) — formatted only if the log is read. */
+    public void log(String template, Object arg) {
+        append(template, arg, null, 1);
     }
 
+    /** Logs String.format(template, arg0, arg1) — formatted only if the log is read. */
+    public void log(String template, Object arg0, Object arg1) {
+        append(template, arg0, arg1, 2);
+    }
+
+    private void append(String template, Object arg0, Object arg1, int args) {
+        LogEntry entry = log[logHead];
+        entry.template = template;
+        entry.arg0 = arg0;
+        entry.arg1 = arg1;
+        entry.args = args;
+        entry.text = null;
+        logHead = (logHead + 1) % MAX_LOG;
+        if (logCount < MAX_LOG) logCount++;
+        logDirty = true;
+    }
+
+    /** The last MAX_LOG messages, oldest first. */
     public List<String> getEventLog() {
-        return eventLog;
+        if (logDirty) {
+            List<String> view = new ArrayList<>(logCount);
+            int first = (logHead - logCount + MAX_LOG) % MAX_LOG;
+            for (int i = 0; i < logCount; i++) view.add(text(log[(first + i) % MAX_LOG]));
+            logView = Collections.unmodifiableList(view);
+            logDirty = false;
+        }
+        return logView;
+    }
+
+    private static String text(LogEntry entry) {
+        if (entry.text == null) {
+            entry.text = switch (entry.args) {
+                case 1 -> String.format(entry.template, entry.arg0);
+                case 2 -> String.format(entry.template, entry.arg0, entry.arg1);
+                default -> entry.template;
+            };
+        }
+        return entry.text;
     }
 
     /** Clear all listeners (call on load). */
     public void clearListeners() {
-        listeners.clear();
+        Arrays.fill(listeners, NO_HANDLERS);
+        resourceListeners = new ResourceListener[0];
     }
 }
-
@@ -16,7 +16,8 @@ import com.haraldsson.syntropy.entities.ItemType;
 import com.haraldsson.syntropy.entities.TaskType;
 import com.haraldsson.syntropy.input.PlayerController;
 import com.haraldsson.syntropy.systems.EventSystem;
-import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.EntitySpatialHash;
+import com.haraldsson.syntropy.world.StockpileIndex;
 import com.haraldsson.syntropy.world.World;
 
 import java.util.List;
@@ -177,13 +178,10 @@ public class GameHud {
         GameEvents gameEvents = gameState.events;
 
         // Resources
-        int totalStone = 0, totalFood = 0, totalWood = 0;
-        Tile stockpile = world.getStockpileTile();
-        if (stockpile != null) {
-            totalStone = stockpile.countItems(ItemType.STONE);
-            totalFood = stockpile.countItems(ItemType.FOOD);
-            totalWood = stockpile.countItems(ItemType.WOOD);
-        }
+        StockpileIndex stockpiles = world.getStockpiles();
+        int totalStone = stockpiles.count(ItemType.STONE);
+        int totalFood = stockpiles.count(ItemType.FOOD);
+        int totalWood = stockpiles.count(ItemType.WOOD);
         resourceLabel.setText("Stockpile  Stone: " + totalStone + "  Food: " + totalFood + "  Wood: " + totalWood);
 
         // Colonist list — compact with percentage bars
@@ -205,9 +203,9 @@ public class GameHud {
                     col.append(" (").append(formatTask(ai.taskType.name())).append(")");
                 }
                 col.append("\n");
-                int hp = (int)(needs.health * 100);
-                int hunger = (int)(needs.hunger * 100);
-                int energy = (int)(needs.energy * 100);
+                int hp = (int)(needs.getHealth() * 100);
+                int hunger = (int)(needs.getHunger() * 100);
+                int energy = (int)(needs.getEnergy() * 100);
                 int mood = moodComp != null ? (int)(moodComp.mood) : 50;
                 col.append("    HP:").append(hp).append("%");
                 col.append(" Food:").append(hunger).append("%");
@@ -240,7 +238,7 @@ public class GameHud {
             NeedsComponent ln = leaderEntity.get(NeedsComponent.class);
             leaderInfoLabel.setText("Hunger: " + ln.getHungerCategory().name()
                     + "  Energy: " + ln.getEnergyCategory().name()
-                    + "  HP: " + (int)(ln.health * 100) + "%");
+                    + "  HP: " + (int)(ln.getHealth() * 100) + "%");
         } else {
             leaderInfoLabel.setText("");
         }
@@ -275,12 +273,12 @@ public class GameHud {
         }
 
         // Colonist bar (Pattern 7) — rebuild each frame
-        updateColonistBar(ecsWorld);
+        updateColonistBar(ecsWorld, world);
 
         stage.act(Gdx.graphics.getDeltaTime());
     }
 
-    private void updateColonistBar(ECSWorld ecsWorld) {
+    private void updateColonistBar(ECSWorld ecsWorld, World world) {
         colonistBarTable.clearChildren();
         for (Entity e : ecsWorld.getEntitiesWith(IdentityComponent.class, HealthComponent.class)) {
             if (e.has(LeaderComponent.class)) continue; // leader shown in top-left
@@ -303,7 +301,7 @@ public class GameHud {
                 AIComponent ai = e.get(AIComponent.class);
 
                 String name = truncateName(id.name, 8);
-                String status = deriveStatus(ai, e, ecsWorld);
+                String status = deriveStatus(ai, e, world);
 
                 Label nameLabel = new Label(name, skin, "hud");
                 nameLabel.setColor(Color.WHITE);
@@ -314,8 +312,8 @@ public class GameHud {
                 entry.add(statusLabel).left().row();
 
                 if (needs != null) {
-                    int h = (int)(needs.hunger * 100);
-                    int en = (int)(needs.energy * 100);
+                    int h = (int)(needs.getHunger() * 100);
+                    int en = (int)(needs.getEnergy() * 100);
                     Label hungerLabel = new Label("Food:" + h + "%", skin, "small");
                     hungerLabel.setColor(h > 50 ? Color.GREEN : h > 20 ? Color.ORANGE : Color.RED);
                     Label energyLabel = new Label("Zzz:" + en + "%", skin, "small");
@@ -329,7 +327,7 @@ public class GameHud {
         }
     }
 
-    private String deriveStatus(AIComponent ai, Entity entity, ECSWorld ecsWorld) {
+    private String deriveStatus(AIComponent ai, Entity entity, World world) {
         if (ai == null) return "IDLE";
         TaskType task = ai.taskType;
         if (task == TaskType.RESTING) return "SLEEPING";
@@ -338,26 +336,17 @@ public class GameHud {
                 || task == TaskType.MOVE_TO_FOOD_GROWER) return "WORKING";
         if (task == TaskType.SOCIALIZING) return "SOCIALIZING";
         if (task == TaskType.WANDER) {
-            if (isNearAnotherColonist(entity, ecsWorld)) return "SOCIALIZING";
+            if (isNearAnotherColonist(entity, world)) return "SOCIALIZING";
         }
         if (task == TaskType.IDLE) return "IDLE";
         return task.name();
     }
 
-    private boolean isNearAnotherColonist(Entity entity, ECSWorld ecsWorld) {
+    private boolean isNearAnotherColonist(Entity entity, World world) {
         PositionComponent pos = entity.get(PositionComponent.class);
         if (pos == null) return false;
-        for (Entity other : ecsWorld.getEntitiesWith(PositionComponent.class, HealthComponent.class, IdentityComponent.class)) {
-            if (other == entity) continue;
-            if (other.has(LeaderComponent.class)) continue;
-            HealthComponent h = other.get(HealthComponent.class);
-            if (h.dead) continue;
-            PositionComponent op = other.get(PositionComponent.class);
-            float dx = pos.x - op.x;
-            float dy = pos.y - op.y;
-            if (dx * dx + dy * dy <= SOCIAL_DISPLAY_RANGE * SOCIAL_DISPLAY_RANGE) return true;
-        }
-        return false;
+        return world.getEntityHash().anyInRadius(pos.x, pos.y, SOCIAL_DISPLAY_RANGE,
+                entity, EntitySpatialHash.ALIVE_NON_LEADER);
     }
 
     private String makeBar(float value, int width) {
@@ -30,6 +30,7 @@ public class GameState {
         this.ecsWorld = ecsWorld;
         this.events = new GameEvents();
         this.research = new ResearchSystem(this.events);
+        world.setResearch(research);
         this.pollution = new PollutionSystem();
     }
 }
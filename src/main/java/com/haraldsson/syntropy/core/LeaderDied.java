@@ -0,0 +1,9 @@
+package com.haraldsson.syntropy.core;
+
+/** Payload of {@link EventType#LEADER_DIED}. */
+public record LeaderDied(String name) {
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,9 @@
+package com.haraldsson.syntropy.core;
+
+/** Payload of {@link EventType#RESEARCH_COMPLETED}: the tech's id and display name. */
+public record ResearchCompleted(String techId, String name) {
+    @Override
+    public String toString() {
+        return name;
+    }
+}
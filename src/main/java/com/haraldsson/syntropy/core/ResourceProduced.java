@@ -0,0 +1,15 @@
+package com.haraldsson.syntropy.core;
+
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.entities.ItemType;
+
+/**
+ * Payload of {@link EventType#RESOURCE_PRODUCED}: which building produced one unit of what.
+ * Only built for untyped listeners; GameEvents.ResourceListener gets the fields directly.
+ */
+public record ResourceProduced(Entity building, ItemType itemType) {
+    @Override
+    public String toString() {
+        return itemType.name();
+    }
+}
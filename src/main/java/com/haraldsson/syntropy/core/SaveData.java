@@ -1,6 +1,7 @@
 package com.haraldsson.syntropy.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -10,19 +11,35 @@ import java.util.Map;
 public class SaveData {
     public int worldWidth;
     public int worldHeight;
-    public int stockpileX = -1;
+    public int stockpileX = -1;  // legacy single-tile stockpile; read only when stockpiles is empty
     public int stockpileY = -1;
+    public List<StockpileData> stockpiles = new ArrayList<>();
     public List<TileData> tiles = new ArrayList<>();
     public List<EntityData> entities = new ArrayList<>();
+    public ResearchData research;  // null in saves from before research was saved
 
     public static class TileData {
         public int x, y;
         public String terrain;
         public boolean stockpile;
+        public int stockpileZone = -1;  // index into stockpiles
         public List<String> groundItems = new ArrayList<>();
         public int buildingEntityId = -1;
     }
 
+    public static class StockpileData {
+        public List<String> accepts = new ArrayList<>();
+        public int capacityPerTile;
+    }
+
+    public static class ResearchData {
+        public List<String> completed = new ArrayList<>();
+        public Map<String, Float> progress = new HashMap<>();  // partially researched techs
+        public List<String> active = new ArrayList<>();
+        public List<String> queue = new ArrayList<>();
+        public int maxConcurrentProjects;
+    }
+
     public static class EntityData {
         public int id;
 
@@ -69,6 +86,8 @@ public class SaveData {
         public int maxOutput;
         public String producedItemType;
         public List<String> outputBuffer;
+        public String recipeId;
+        public List<String> inputBuffer;
         public float pollutionRate;
 
         // Leader
@@ -79,8 +98,15 @@ public class SaveData {
         public boolean hasAging;
         public float ageYears, maxAge, yearAccumulator;
 
+        // Worker bot (state is not kept — bots wake up idle)
+        public boolean hasBot;
+
         // Role
         public boolean hasRole;
         public String roleName;
+
+        // Work priorities (ColonistRole name → 0–4); saves without them get the role defaults
+        public boolean hasWorkSettings;
+        public Map<String, Integer> workPriorities;
     }
 }
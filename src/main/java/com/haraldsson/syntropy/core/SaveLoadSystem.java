@@ -10,6 +10,11 @@ import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.*;
 import com.haraldsson.syntropy.entities.Item;
 import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.entities.Recipe;
+import com.haraldsson.syntropy.entities.RecipeBook;
+import com.haraldsson.syntropy.systems.ResearchSystem;
+import com.haraldsson.syntropy.world.StockpileIndex;
+import com.haraldsson.syntropy.world.StockpileZone;
 import com.haraldsson.syntropy.world.TerrainType;
 import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.World;
@@ -27,7 +32,12 @@ public final class SaveLoadSystem {
     // ── Save ─────────────────────────────────────────────────────────
 
     public static void save(World world, ECSWorld ecsWorld, String fileName) {
+        save(world, ecsWorld, null, fileName);
+    }
+
+    public static void save(World world, ECSWorld ecsWorld, ResearchSystem research, String fileName) {
         SaveData data = new SaveData();
+        if (research != null) data.research = research.saveState();
         data.worldWidth = world.getWidth();
         data.worldHeight = world.getHeight();
 
@@ -40,8 +50,13 @@ public final class SaveLoadSystem {
                 td.y = y;
                 td.terrain = tile.getTerrainType().name();
                 td.stockpile = tile.isStockpile();
-                for (Item item : tile.getGroundItems()) {
-                    td.groundItems.add(item.getType().name());
+                if (tile.getStockpileZone() != null) {
+                    td.stockpileZone = world.getStockpiles().getZones().indexOf(tile.getStockpileZone());
+                }
+                for (ItemType type : ItemType.values()) {
+                    for (int i = tile.countItems(type); i > 0; i--) {
+                        td.groundItems.add(type.name());
+                    }
                 }
                 // Track building entity id
                 if (tile.getBuildingEntity() != null) {
@@ -51,11 +66,14 @@ public final class SaveLoadSystem {
             }
         }
 
-        // Stockpile
-        Tile sp = world.getStockpileTile();
-        if (sp != null) {
-            data.stockpileX = sp.getX();
-            data.stockpileY = sp.getY();
+        // Stockpile zones (tiles reference them by index)
+        for (StockpileZone zone : world.getStockpiles().getZones()) {
+            SaveData.StockpileData sd = new SaveData.StockpileData();
+            for (ItemType type : ItemType.values()) {
+                if (zone.accepts(type)) sd.accepts.add(type.name());
+            }
+            sd.capacityPerTile = zone.getCapacityPerTile();
+            data.stockpiles.add(sd);
         }
 
         // Entities
@@ -77,8 +95,8 @@ public final class SaveLoadSystem {
                 }
                 if (comp instanceof NeedsComponent) {
                     NeedsComponent n = (NeedsComponent) comp;
-                    ed.hunger = n.hunger; ed.energy = n.energy;
-                    ed.needsHealth = n.health;
+                    ed.hunger = n.getHunger(); ed.energy = n.getEnergy();
+                    ed.needsHealth = n.getHealth();
                     ed.hasNeeds = true;
                 }
                 if (comp instanceof MoodComponent) {
@@ -112,14 +130,23 @@ public final class SaveLoadSystem {
                 }
                 if (comp instanceof BuildingComponent) {
                     BuildingComponent bc = (BuildingComponent) comp;
-                    ed.buildingType = bc.buildingType;
+                    ed.buildingType = bc.buildingType.name();
                     ed.buildingTimer = bc.timer;
                     ed.productionInterval = bc.productionInterval;
                     ed.maxOutput = bc.maxOutput;
                     ed.producedItemType = bc.producedItemType.name();
                     ed.outputBuffer = new ArrayList<>();
-                    for (Item item : bc.outputBuffer) {
-                        ed.outputBuffer.add(item.getType().name());
+                    for (ItemType type : ItemType.values()) {
+                        for (int i = bc.outputBuffer.count(type); i > 0; i--) {
+                            ed.outputBuffer.add(type.name());
+                        }
+                    }
+                    ed.recipeId = bc.recipe != null ? bc.recipe.getId() : null;
+                    ed.inputBuffer = new ArrayList<>();
+                    for (ItemType type : ItemType.values()) {
+                        for (int i = bc.inputBuffer.count(type); i > 0; i--) {
+                            ed.inputBuffer.add(type.name());
+                        }
                     }
                     ed.hasBuilding = true;
                 }
@@ -143,6 +170,15 @@ public final class SaveLoadSystem {
                     ed.roleName = rc.role.name();
                     ed.hasRole = true;
                 }
+                if (comp instanceof BotComponent) {
+                    ed.hasBot = true;
+                }
+                if (comp instanceof WorkSettingsComponent) {
+                    WorkSettingsComponent ws = (WorkSettingsComponent) comp;
+                    ed.workPriorities = new java.util.HashMap<>();
+                    ws.getAllPriorities().forEach((role, p) -> ed.workPriorities.put(role.name(), p));
+                    ed.hasWorkSettings = true;
+                }
             }
             data.entities.add(ed);
         }
@@ -166,17 +202,14 @@ public final class SaveLoadSystem {
         Tile[][] tiles = new Tile[data.worldWidth][data.worldHeight];
         for (SaveData.TileData td : data.tiles) {
             Tile tile = new Tile(td.x, td.y, TerrainType.valueOf(td.terrain));
-            tile.setStockpile(td.stockpile);
             for (String itemName : td.groundItems) {
-                tile.addItem(new Item(ItemType.valueOf(itemName)));
+                tile.addItems(ItemType.valueOf(itemName), 1);
             }
             tiles[td.x][td.y] = tile;
         }
 
         World world = new World(data.worldWidth, data.worldHeight, tiles);
-        if (data.stockpileX >= 0 && data.stockpileY >= 0) {
-            world.setStockpileTile(tiles[data.stockpileX][data.stockpileY]);
-        }
+        loadStockpiles(data, world, tiles);
 
         // Rebuild entities
         Entity.resetIdCounter();
@@ -192,8 +225,8 @@ public final class SaveLoadSystem {
             }
             if (ed.hasNeeds) {
                 NeedsComponent n = new NeedsComponent();
-                n.hunger = ed.hunger; n.energy = ed.energy;
-                n.health = ed.needsHealth;
+                n.setHunger(ed.hunger); n.setEnergy(ed.energy);
+                n.setHealth(ed.needsHealth);
                 entity.add(n);
                 MoodComponent mc = new MoodComponent();
                 mc.mood = ed.mood;
@@ -235,7 +268,16 @@ public final class SaveLoadSystem {
                 bc.timer = ed.buildingTimer;
                 if (ed.outputBuffer != null) {
                     for (String itemName : ed.outputBuffer) {
-                        bc.outputBuffer.add(new Item(ItemType.valueOf(itemName)));
+                        bc.outputBuffer.add(ItemType.valueOf(itemName));
+                    }
+                }
+                if (ed.recipeId != null) {
+                    Recipe recipe = RecipeBook.get(ed.recipeId);
+                    if (recipe != null) bc.recipe = recipe;
+                }
+                if (ed.inputBuffer != null) {
+                    for (String itemName : ed.inputBuffer) {
+                        bc.inputBuffer.add(ItemType.valueOf(itemName));
                     }
                 }
                 entity.add(bc);
@@ -266,17 +308,71 @@ public final class SaveLoadSystem {
                         com.haraldsson.syntropy.entities.ColonistRole.valueOf(ed.roleName));
                 entity.add(rc);
             }
+            if (ed.hasBot) {
+                entity.add(new BotComponent());
+            }
+            if (ed.hasWorkSettings) {
+                WorkSettingsComponent ws = new WorkSettingsComponent();
+                if (ed.workPriorities != null) {
+                    ed.workPriorities.forEach((role, p) ->
+                            ws.setPriority(com.haraldsson.syntropy.entities.ColonistRole.valueOf(role), p));
+                }
+                entity.add(ws);
+            } else if (ed.hasRole && ed.hasAI) { // older save — give pawns their spawn settings back
+                entity.add(entity.has(LeaderComponent.class) ? new WorkSettingsComponent()
+                        : WorkSettingsComponent.defaultsFor(
+                                com.haraldsson.syntropy.entities.ColonistRole.valueOf(ed.roleName)));
+            }
         }
 
-        return new LoadResult(world, ecsWorld);
+        return new LoadResult(world, ecsWorld, data.research);
+    }
+
+    private static void loadStockpiles(SaveData data, World world, Tile[][] tiles) {
+        StockpileIndex stockpiles = world.getStockpiles();
+        if (data.stockpiles != null && !data.stockpiles.isEmpty()) {
+            List<List<Tile>> zoneTiles = new ArrayList<>();
+            for (int i = 0; i < data.stockpiles.size(); i++) zoneTiles.add(new ArrayList<>());
+            for (SaveData.TileData td : data.tiles) {
+                if (td.stockpileZone >= 0 && td.stockpileZone < zoneTiles.size()) {
+                    zoneTiles.get(td.stockpileZone).add(tiles[td.x][td.y]);
+                }
+            }
+            for (int i = 0; i < data.stockpiles.size(); i++) {
+                if (zoneTiles.get(i).isEmpty()) continue;
+                SaveData.StockpileData sd = data.stockpiles.get(i);
+                StockpileZone zone = stockpiles.createZone(zoneTiles.get(i));
+                if (zone == null) continue;
+                for (ItemType type : ItemType.values()) {
+                    zone.setAccepts(type, sd.accepts.contains(type.name()));
+                }
+                zone.setCapacityPerTile(sd.capacityPerTile);
+            }
+            return;
+        }
+        // Legacy saves: every flagged tile (or the single stockpileX/Y) becomes one zone
+        List<Tile> legacy = new ArrayList<>();
+        for (SaveData.TileData td : data.tiles) {
+            if (td.stockpile) legacy.add(tiles[td.x][td.y]);
+        }
+        if (legacy.isEmpty() && data.stockpileX >= 0 && data.stockpileY >= 0) {
+            legacy.add(tiles[data.stockpileX][data.stockpileY]);
+        }
+        if (!legacy.isEmpty()) stockpiles.createZone(legacy);
     }
 
     public static class LoadResult {
         public final World world;
         public final ECSWorld ecsWorld;
+        /** Saved research state, or null for older saves — pass to ResearchSystem.loadState. */
+        public final SaveData.ResearchData research;
         public LoadResult(World world, ECSWorld ecsWorld) {
+            this(world, ecsWorld, null);
+        }
+        public LoadResult(World world, ECSWorld ecsWorld, SaveData.ResearchData research) {
             this.world = world;
             this.ecsWorld = ecsWorld;
+            this.research = research;
         }
     }
 }
@@ -26,6 +26,8 @@ public class SpriteManager {
         generateColonistTextures();
         generateItemTextures();
         generateStockpileTexture();
+        generateBeltTexture();
+        generateBotTexture();
     }
 
     // ── Helpers ──
@@ -299,12 +301,64 @@ public class SpriteManager {
         return textures.get("stockpile");
     }
 
+    // ── Belts ──
+
+    private void generateBeltTexture() {
+        int s = T;
+        Pixmap pm = new Pixmap(s, s, Pixmap.Format.RGBA8888);
+        // Rubber belt between two steel rails
+        for (int y = 0; y < s; y++) {
+            for (int x = 0; x < s; x++) {
+                float n = (rng.nextFloat() - 0.5f) * 0.02f;
+                boolean rail = x < 3 || x >= s - 3;
+                boolean slat = (y % 6) == 0;
+                float base = rail ? 0.38f : (slat ? 0.16f : 0.1f);
+                setPixel(pm, x, y, clamp(base + n), clamp(base + n), clamp(base + 0.02f + n));
+            }
+        }
+        textures.put("belt", new Texture(pm));
+        pm.dispose();
+    }
+
+    /** Direction-neutral belt tile; items drawn on top show the flow. */
+    public Texture getBeltTexture() {
+        return textures.get("belt");
+    }
+
+    // ── Bots ──
+
+    private void generateBotTexture() {
+        int s = 12;
+        Pixmap pm = new Pixmap(s, s, Pixmap.Format.RGBA8888);
+        // Round hover drone with a cyan eye
+        for (int y = 0; y < s; y++) {
+            for (int x = 0; x < s; x++) {
+                float dx = x - s / 2f + 0.5f;
+                float dy = y - s / 2f + 0.5f;
+                float dist = (float) Math.sqrt(dx * dx + dy * dy);
+                if (dist < s / 2f - 0.5f) {
+                    float shade = 0.55f - dist * 0.04f;
+                    setPixel(pm, x, y, shade, shade, clamp(shade + 0.05f));
+                }
+            }
+        }
+        pm.setColor(0.3f, 0.9f, 1f, 1f);
+        pm.fillRectangle(s / 2 - 2, s / 2 - 1, 4, 2);
+        textures.put("bot", new Texture(pm));
+        pm.dispose();
+    }
+
+    public Texture getBotTexture() {
+        return textures.get("bot");
+    }
+
     // ── Buildings ──
 
     private void generateBuildingTextures() {
         generateMiner();
         generateFoodGrower();
         generateWoodcutter();
+        generateSmelter();
         generateBed();
     }
 
@@ -508,6 +562,41 @@ public class SpriteManager {
         pm.dispose();
     }
 
+    private void generateSmelter() {
+        int s = T - 8;
+        Pixmap pm = new Pixmap(s, s, Pixmap.Format.RGBA8888);
+
+        // Dark brick body
+        for (int y = 0; y < s; y++) {
+            for (int x = 0; x < s; x++) {
+                float n = (rng.nextFloat() - 0.5f) * 0.05f;
+                boolean mortar = y % 5 == 0 || (x + (y / 5) * 3) % 8 == 0;
+                float b = mortar ? 0.2f : 0.34f;
+                setPixel(pm, x, y, clamp(b + 0.08f + n), clamp(b - 0.04f + n), clamp(b - 0.08f + n));
+            }
+        }
+
+        // Furnace mouth with glow
+        int midX = s / 2;
+        pm.setColor(0.08f, 0.05f, 0.03f, 1f);
+        pm.fillRectangle(midX - 6, s - 14, 12, 10);
+        pm.setColor(0.95f, 0.45f, 0.1f, 1f);
+        pm.fillRectangle(midX - 4, s - 10, 8, 5);
+        pm.setColor(1f, 0.8f, 0.3f, 1f);
+        pm.fillRectangle(midX - 2, s - 8, 4, 2);
+
+        // Chimney
+        pm.setColor(0.25f, 0.22f, 0.2f, 1f);
+        pm.fillRectangle(s - 10, 0, 5, 10);
+
+        // Border
+        pm.setColor(0.12f, 0.08f, 0.06f, 1f);
+        pm.drawRectangle(0, 0, s, s);
+
+        textures.put("building_SMELTER", new Texture(pm));
+        pm.dispose();
+    }
+
     private void generateBed() {
         int s = T - 8;
         Pixmap pm = new Pixmap(s, s, Pixmap.Format.RGBA8888);
@@ -915,6 +1004,7 @@ public class SpriteManager {
         generateStoneItem();
         generateFoodItem();
         generateWoodItem();
+        generateMetalItem();
     }
 
     private void generateStoneItem() {
@@ -967,6 +1057,24 @@ public class SpriteManager {
         pm.dispose();
     }
 
+    private void generateMetalItem() {
+        int s = 12;
+        Pixmap pm = new Pixmap(s, s, Pixmap.Format.RGBA8888);
+        // Ingot — trapezoid bar
+        for (int y = 3; y < 9; y++) {
+            int inset = (y - 3) / 2;
+            for (int x = 1 + inset; x < s - 1 - inset; x++) {
+                float shade = 0.62f - (y - 3) * 0.03f;
+                setPixel(pm, x, y, shade, shade * 1.02f, shade * 1.08f);
+            }
+        }
+        // Highlight along the top face
+        pm.setColor(0.85f, 0.87f, 0.9f, 1f);
+        pm.drawLine(2, 3, s - 3, 3);
+        textures.put("item_METAL", new Texture(pm));
+        pm.dispose();
+    }
+
     private void generateFoodItem() {
         int s = 12;
         Pixmap pm = new Pixmap(s, s, Pixmap.Format.RGBA8888);
@@ -9,19 +9,36 @@ import java.util.List;
  */
 public class ECSWorld {
     private final List<Entity> entities = new ArrayList<>();
+    private int modCount; // bumped on entity or component add/remove so indexes can tell when to rescan
 
     public Entity createEntity() {
         Entity entity = new Entity();
         entities.add(entity);
+        entity.world = this;
+        modCount++;
         return entity;
     }
 
     public void addEntity(Entity entity) {
         entities.add(entity);
+        entity.world = this;
+        modCount++;
     }
 
     public void removeEntity(Entity entity) {
-        entities.remove(entity);
+        if (entities.remove(entity)) {
+            if (entity.world == this) entity.world = null;
+            modCount++;
+        }
+    }
+
+    /** Called by Entity when one of its components is added or removed. */
+    void componentsChanged() {
+        modCount++;
+    }
+
+    public int getModCount() {
+        return modCount;
     }
 
     public List<Entity> getAll() {
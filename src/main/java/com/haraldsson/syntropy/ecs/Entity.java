@@ -6,12 +6,15 @@ import java.util.Map;
 
 /**
  * An entity is just an ID with a bag of components.
+ * Adding or removing a component bumps the owning ECSWorld's modCount, so
+ * indexes keyed on it also see components attached to existing entities.
  */
 public class Entity {
     private static int nextId = 0;
 
     private final int id;
     private final Map<Class<? extends Component>, Component> components = new HashMap<>();
+    ECSWorld world; // set while registered with an ECSWorld
 
     public Entity() {
         this.id = nextId++;
@@ -23,6 +26,7 @@ public class Entity {
 
     public <T extends Component> Entity add(T component) {
         components.put(component.getClass(), component);
+        if (world != null) world.componentsChanged();
         return this;
     }
 
@@ -36,7 +40,7 @@ public class Entity {
     }
 
     public void remove(Class<? extends Component> type) {
-        components.remove(type);
+        if (components.remove(type) != null && world != null) world.componentsChanged();
     }
 
     public Map<Class<? extends Component>, Component> getComponents() {
@@ -1,8 +1,9 @@
 package com.haraldsson.syntropy.ecs.components;
 
+import com.haraldsson.syntropy.ai.ThinkNode;
 import com.haraldsson.syntropy.ecs.Component;
+import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.entities.TaskType;
-import com.haraldsson.syntropy.world.Pathfinder;
 import com.haraldsson.syntropy.world.World;
 
 import java.util.List;
@@ -15,7 +16,7 @@ public class AIComponent implements Component {
     public float wanderCooldown;
     public boolean aiDisabled;
 
-    // Per-colonist stuck detection (FIX 1)
+    // Per-colonist stuck detection (FIX 1) — seconds without progress, kept by MovementSystem
     public float stuckTimer = 0f;
     public int stuckTargetX = -1;
     public int stuckTargetY = -1;
@@ -24,6 +25,20 @@ public class AIComponent implements Component {
     public List<int[]> currentPath = null;
     public int pathIndex = 0;
 
+    // Locomotion request for this tick, consumed by MovementSystem — not saved
+    public float walkSpeed;
+
+    // Think scheduling, owned by ThinkTreeRoot — not saved
+    public ThinkNode activeNode;
+    public float thinkTimer = -1f;      // < 0 until the first think assigns this pawn's phase
+    public boolean rethinkRequested;
+    public Entity cachedTarget;         // set by the active node's onEnter (bed, social partner); cleared on exit
+
+    /** Re-run full node selection on the next tick instead of waiting for the think interval. */
+    public void requestRethink() {
+        rethinkRequested = true;
+    }
+
     public void setTask(TaskType type, int tx, int ty) {
         this.taskType = type;
         this.targetX = tx;
@@ -47,81 +62,27 @@ public class AIComponent implements Component {
         return dx * dx + dy * dy < 0.02f;
     }
 
-    public void moveTowardTarget(PositionComponent pos, float delta, float speed) {
-        moveTowardTarget(pos, delta, speed, null);
-    }
-
-    public void moveTowardTarget(PositionComponent pos, float delta, float speed, World world) {
-        if (targetX < 0 || targetY < 0) return;
-        if (world != null) {
-            // Lazily compute A* path if not set (C4)
-            if (currentPath == null) {
-                int sx = (int) Math.floor(pos.x);
-                int sy = (int) Math.floor(pos.y);
-                currentPath = Pathfinder.findPath(world, sx, sy, targetX, targetY);
-                pathIndex = 0;
-                if (currentPath.isEmpty() && (sx != targetX || sy != targetY)) {
-                    return; // no path found — stuck timer will fire
-                }
-            }
-
-            // Follow path waypoints (C3)
-            if (pathIndex < currentPath.size()) {
-                int[] waypoint = currentPath.get(pathIndex);
-                float wpCx = waypoint[0] + 0.5f; // center of tile
-                float wpCy = waypoint[1] + 0.5f;
-                float dx = wpCx - pos.x;
-                float dy = wpCy - pos.y;
-                float dist = (float) Math.sqrt(dx * dx + dy * dy);
-                if (dist < 0.1f) {
-                    pathIndex++;
-                    return;
-                }
-                float nx = pos.x + (dx / dist) * speed * delta;
-                float ny = pos.y + (dy / dist) * speed * delta;
-                if (world.canMove(nx, pos.y)) pos.x = nx;
-                if (world.canMove(pos.x, ny)) pos.y = ny;
-            } else {
-                // Path exhausted or start==goal — final approach to target center
-                float tcx = targetX + 0.5f;
-                float tcy = targetY + 0.5f;
-                float dx = tcx - pos.x;
-                float dy = tcy - pos.y;
-                float dist = (float) Math.sqrt(dx * dx + dy * dy);
-                if (dist < 0.05f) {
-                    pos.x = tcx;
-                    pos.y = tcy;
-                    return;
-                }
-                float nx = pos.x + (dx / dist) * speed * delta;
-                float ny = pos.y + (dy / dist) * speed * delta;
-                if (world.canMove(nx, pos.y)) pos.x = nx;
-                if (world.canMove(pos.x, ny)) pos.y = ny;
-            }
-        } else {
-            // No world — direct movement (fallback, no collision)
-            float tcx = targetX + 0.5f;
-            float tcy = targetY + 0.5f;
-            float dx = tcx - pos.x;
-            float dy = tcy - pos.y;
-            float dist = (float) Math.sqrt(dx * dx + dy * dy);
-            if (dist < 0.05f) {
-                pos.x = tcx;
-                pos.y = tcy;
-                return;
-            }
-            float step = speed * delta;
-            pos.x += (dx / dist) * step;
-            pos.y += (dy / dist) * step;
-        }
+    /**
+     * Walk toward the current target at the given speed this tick. Nodes call this
+     * every tick they want to move; MovementSystem does the stepping and clears it.
+     */
+    public void walk(float speed) {
+        walkSpeed = speed;
     }
 
+    /**
+     * Gives up on the current target after MovementSystem saw no progress for the
+     * node's stuck timeout. Pawns on walkable ground just drop the task and re-think
+     * where they stand; only one wedged inside impassable terrain is moved out.
+     */
     public void recoverFromStuck(PositionComponent pos, World world) {
-        // FIX BUG4d: stuck NPC teleports to nearest passable tile before clearing task (2026-02-20)
-        int[] nearest = world.findNearestPassableTile(pos.x, pos.y);
-        if (nearest != null) {
-            pos.x = nearest[0] + 0.5f;
-            pos.y = nearest[1] + 0.5f;
+        if (!world.isPassable((int) Math.floor(pos.x), (int) Math.floor(pos.y))) {
+            // FIX BUG4d: stuck NPC teleports to nearest passable tile before clearing task (2026-02-20)
+            int[] nearest = world.findNearestPassableTile(pos.x, pos.y);
+            if (nearest != null) {
+                pos.x = nearest[0] + 0.5f;
+                pos.y = nearest[1] + 0.5f;
+            }
         }
         clearTask();
         stuckTimer = 0f;
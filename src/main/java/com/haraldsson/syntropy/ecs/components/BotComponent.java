@@ -0,0 +1,31 @@
+package com.haraldsson.syntropy.ecs.components;
+
+import com.haraldsson.syntropy.ecs.Component;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.entities.ItemType;
+
+/**
+ * Worker bot. Bots have no think tree — LogisticsNetwork assigns them one
+ * delivery at a time and LogisticsSystem flies them straight to it. The carried
+ * item lives in the entity's InventoryComponent like a colonist's.
+ */
+public class BotComponent implements Component {
+    public static final float DEFAULT_SPEED = 3.5f;
+
+    public enum State { IDLE, TO_PICKUP, TO_DROP }
+
+    public State state = State.IDLE;
+    public ItemType itemType;
+    public Entity source;          // building to collect from
+    public Entity targetBuilding;  // building input to deliver to; null = stockpile at (dropX, dropY)
+    public int dropX;
+    public int dropY;
+    public float speed = DEFAULT_SPEED;
+
+    public void clear() {
+        state = State.IDLE;
+        itemType = null;
+        source = null;
+        targetBuilding = null;
+    }
+}
@@ -1,48 +1,155 @@
 package com.haraldsson.syntropy.ecs.components;
 
 import com.haraldsson.syntropy.ecs.Component;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.entities.BuildingType;
 import com.haraldsson.syntropy.entities.Item;
+import com.haraldsson.syntropy.entities.ItemStacks;
 import com.haraldsson.syntropy.entities.ItemType;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.haraldsson.syntropy.entities.Recipe;
+import com.haraldsson.syntropy.entities.RecipeBook;
 
 public class BuildingComponent implements Component {
-    public String buildingType;  // "MINER" or "FOOD_GROWER"
-    public boolean built = true;
-    public final List<Item> outputBuffer = new ArrayList<>();
+    /** Input buffer holds this many cycles' worth of each recipe input. */
+    public static final int INPUT_CYCLES = 4;
+
+    public BuildingType buildingType;
+    public Recipe recipe;          // null = legacy source producing producedItemType from nothing
+    private boolean built = true; // set through setBuilt so the BuildingIndex's emission total stays in sync
+    /** Prefer addOutput/takeOutput — they keep the world's BuildingIndex in sync. */
+    public final ItemStacks outputBuffer = new ItemStacks();
+    /** Prefer addInput — it wakes a building waiting on inputs. */
+    public final ItemStacks inputBuffer = new ItemStacks();
     public float timer;
     public float productionInterval;
     public int maxOutput;
     public ItemType producedItemType;
-    public float pollutionRate;    // pollution per second when operating
+    private float pollutionRate;   // pollution per second when operating — see setPollutionRate
     public boolean ecoFriendly;    // eco-friendly variant flag
 
+    // Set when registered with a BuildingIndex; not saved
+    private OutputListener outputListener;
+    private Entity owner;
+
+    /**
+     * Notified when the output buffer goes from empty to non-empty or back, and when
+     * something that blocked production clears (a full buffer frees a slot, or
+     * inputs arrive for a full cycle), and when the building's emission (built
+     * state or pollution rate) changes.
+     */
+    public interface OutputListener {
+        void onOutputChanged(Entity building, BuildingComponent bc);
+
+        void onUnblocked(Entity building, BuildingComponent bc);
+
+        void onEmissionChanged(Entity building, BuildingComponent bc);
+    }
+
     public BuildingComponent() {}
 
     public BuildingComponent(String type, float interval, int max, ItemType produced) {
+        this(BuildingType.fromName(type), interval, max, produced);
+    }
+
+    public BuildingComponent(BuildingType type, float interval, int max, ItemType produced) {
         this.buildingType = type;
         this.productionInterval = interval;
         this.maxOutput = max;
         this.producedItemType = produced;
-        // Default pollution rates
-        if ("MINER".equals(type)) {
-            this.pollutionRate = 0.3f;
-        } else if ("FOOD_GROWER".equals(type)) {
-            this.pollutionRate = 0.05f;
+        this.pollutionRate = type.defaultPollutionRate;
+        Recipe source = RecipeBook.defaultFor(type);
+        if (source != null && !source.hasInputs() && source.getPrimaryOutput() == produced) {
+            this.recipe = source;
         }
     }
 
+    /** A building running {@code recipe}, with the recipe's duration and pollution. */
+    public BuildingComponent(Recipe recipe, int max) {
+        this.buildingType = recipe.getBuilding();
+        this.recipe = recipe;
+        this.productionInterval = recipe.getDuration();
+        this.maxOutput = max;
+        this.producedItemType = recipe.getPrimaryOutput();
+        this.pollutionRate = recipe.getPollutionRate();
+    }
+
+    public void setOutputListener(Entity owner, OutputListener listener) {
+        this.owner = owner;
+        this.outputListener = listener;
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /** Construction finished (or reverted). Notifies the BuildingIndex so emission totals follow. */
+    public void setBuilt(boolean built) {
+        if (this.built == built) return;
+        this.built = built;
+        if (outputListener != null) outputListener.onEmissionChanged(owner, this);
+    }
+
+    public float getPollutionRate() {
+        return pollutionRate;
+    }
+
+    /** Changes the rate, e.g. for an eco-friendly variant. Notifies the BuildingIndex. */
+    public void setPollutionRate(float pollutionRate) {
+        if (this.pollutionRate == pollutionRate) return;
+        this.pollutionRate = pollutionRate;
+        if (outputListener != null) outputListener.onEmissionChanged(owner, this);
+    }
+
+    /** Pollution per second this building currently puts out — zero until built. */
+    public float getEmission() {
+        return built ? pollutionRate : 0f;
+    }
+
     public boolean hasOutput() {
         return !outputBuffer.isEmpty();
     }
 
+    public void addOutput(ItemType type) {
+        boolean wasEmpty = outputBuffer.isEmpty();
+        outputBuffer.add(type);
+        if (wasEmpty && outputListener != null) outputListener.onOutputChanged(owner, this);
+    }
+
     public Item takeOutput() {
-        return outputBuffer.isEmpty() ? null : outputBuffer.remove(0);
+        ItemType type = outputBuffer.firstType();
+        return type == null ? null : takeOutput(type);
+    }
+
+    /** Takes one unit of a specific output type, or null if none is buffered. */
+    public Item takeOutput(ItemType type) {
+        boolean wasFull = outputBuffer.total() + (recipe != null ? recipe.getOutputTotal() : 1) > maxOutput;
+        Item item = outputBuffer.take(type);
+        if (item != null && outputListener != null) {
+            if (outputBuffer.isEmpty()) outputListener.onOutputChanged(owner, this);
+            if (wasFull) outputListener.onUnblocked(owner, this);
+        }
+        return item;
+    }
+
+    /** How many more of {@code type} the input buffer takes; 0 if the recipe doesn't use it. */
+    public int getInputSpace(ItemType type) {
+        if (recipe == null) return 0;
+        return Math.max(0, recipe.getInput(type) * INPUT_CYCLES - inputBuffer.count(type));
+    }
+
+    /** Adds up to {@code amount} inputs, limited by getInputSpace; returns how many were accepted. */
+    public int addInput(ItemType type, int amount) {
+        int n = Math.min(amount, getInputSpace(type));
+        if (n <= 0) return 0;
+        boolean couldRun = recipe.canRun(inputBuffer);
+        inputBuffer.add(type, n);
+        if (!couldRun && recipe.canRun(inputBuffer) && outputListener != null) {
+            outputListener.onUnblocked(owner, this);
+        }
+        return n;
     }
 
     public int getOutputCount() {
-        return outputBuffer.size();
+        return outputBuffer.total();
     }
 }
-
@@ -9,6 +9,12 @@ import com.haraldsson.syntropy.ecs.Component;
 public class MoodComponent implements Component {
     public float mood = 50f;  // base neutral mood (0–100 scale)
 
+    // MoodSystem's per-pawn cache — offsets are only re-evaluated when their inputs change; not saved
+    public float[] thoughtOffsets;   // one per ThoughtWorker, in worker order
+    public long[] inputKeys;         // fingerprint per ThoughtInput at the last evaluation
+    public float targetMood;
+    public int cacheGeneration = -1; // MoodSystem worker-list generation the cache was built for
+
     public MoodComponent() {}
 
     public boolean isHappy() { return mood >= 60f; }
@@ -1,29 +1,75 @@
 package com.haraldsson.syntropy.ecs.components;
 
 import com.haraldsson.syntropy.ecs.Component;
+import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.entities.EnergyCategory;
 import com.haraldsson.syntropy.entities.HungerCategory;
 
 /**
  * Colonist needs — raw floats 0.0–1.0 internally, exposed as tiered categories.
  * Mood is NOT stored here — it's calculated by MoodSystem via ThoughtWorkers (Pattern 2).
+ *
+ * Hunger and energy decay at constant rates, and health changes at a rate fixed
+ * by the current categories, so each value is stored as (value at baseTime,
+ * rate) and evaluated on read against the Schedule's clock. NeedsSystem rebases
+ * the component whenever a category boundary is crossed; every write goes
+ * through a setter, which rebases and tells the Schedule to re-plan.
+ * Ongoing external damage (pollution exposure) is folded into the health rate
+ * the same way, instead of being written every frame.
+ * Until attached to a Schedule the values simply hold still.
  */
 public class NeedsComponent implements Component {
     public static final float HUNGER_DECAY = 0.006f;   // per second (0–1 scale) — ~167s from full to empty
     public static final float ENERGY_DECAY = 0.008f;
     public static final float HEALTH_REGEN = 0.003f;
+    public static final float STARVATION_DAMAGE = 0.01f; // per second while STARVING
     public static final float EAT_AMOUNT = 0.6f;
     public static final float REST_AMOUNT = 0.4f;
 
-    // Raw values 0.0–1.0
-    public float hunger = 1f;
-    public float energy = 1f;
-    public float health = 1f;
+    /** Sim clock and change notification — implemented by NeedsSystem. */
+    public interface Schedule {
+        double now();
+        void onNeedsChanged(Entity pawn, NeedsComponent needs);
+    }
+
+    // Values at baseTime, 0.0–1.0
+    private float hungerBase = 1f;
+    private float energyBase = 1f;
+    private float healthBase = 1f;
+    private float healthRate;   // per second, from the categories at baseTime and the exposure
+    private float exposure;     // external health loss per second; not saved, re-sampled after load
+    private double baseTime;
+    private Schedule schedule;
+    private Entity owner;
+
+    // Last categories NeedsSystem reported to the AI — a change triggers a re-think
+    public HungerCategory notifiedHunger;
+    public EnergyCategory notifiedEnergy;
+
+    // ── Values ──
+
+    public float getHunger() { return Math.max(0f, (float) (hungerBase - HUNGER_DECAY * elapsed())); }
+    public float getEnergy() { return Math.max(0f, (float) (energyBase - ENERGY_DECAY * elapsed())); }
+    public float getHealth() { return clamp((float) (healthBase + healthRate * elapsed())); }
+
+    public void setHunger(float value) { rebase(); hungerBase = clamp(value); changed(); }
+    public void setEnergy(float value) { rebase(); energyBase = clamp(value); changed(); }
+    public void setHealth(float value) { rebase(); healthBase = clamp(value); changed(); }
+
+    public float getExposure() { return exposure; }
+
+    /** Sets the ongoing external health loss per second; a no-op if unchanged. */
+    public void setExposure(float perSecond) {
+        if (perSecond == exposure) return;
+        rebase();
+        exposure = Math.max(0f, perSecond);
+        changed();
+    }
 
     // ── Category accessors (Pattern 1) ──
 
-    public HungerCategory getHungerCategory() { return HungerCategory.fromLevel(hunger); }
-    public EnergyCategory getEnergyCategory() { return EnergyCategory.fromLevel(energy); }
+    public HungerCategory getHungerCategory() { return HungerCategory.fromLevel(getHunger()); }
+    public EnergyCategory getEnergyCategory() { return EnergyCategory.fromLevel(getEnergy()); }
 
     // ── Convenience checks ──
 
@@ -34,9 +80,68 @@ public class NeedsComponent implements Component {
 
     // ── Actions ──
 
-    public void eat() { hunger = Math.min(1f, hunger + EAT_AMOUNT); }
-    public void rest() { energy = Math.min(1f, energy + REST_AMOUNT); }
-    public void restPartial(float amount) { energy = Math.min(1f, energy + amount); }
-    public void heal(float amount) { health = Math.min(1f, health + amount); }
-    public void damage(float amount) { health = Math.max(0f, health - amount); }
+    public void eat() { setHunger(getHunger() + EAT_AMOUNT); }
+    public void rest() { setEnergy(getEnergy() + REST_AMOUNT); }
+    public void restPartial(float amount) { setEnergy(getEnergy() + amount); }
+    public void heal(float amount) { setHealth(getHealth() + amount); }
+    public void damage(float amount) { setHealth(getHealth() - amount); }
+
+    // ── Scheduling, used by NeedsSystem ──
+
+    /** Starts evaluating against the schedule's clock from its current time. */
+    public void attach(Entity pawn, Schedule schedule) {
+        rebase();
+        this.owner = pawn;
+        this.schedule = schedule;
+        this.baseTime = schedule != null ? schedule.now() : 0.0;
+    }
+
+    /** Folds elapsed decay into the stored values and re-derives the health rate from the current categories and exposure. */
+    public void rebase() {
+        hungerBase = getHunger();
+        energyBase = getEnergy();
+        healthBase = getHealth();
+        baseTime = schedule != null ? schedule.now() : baseTime;
+        HungerCategory hunger = HungerCategory.fromLevel(hungerBase);
+        if (hunger == HungerCategory.STARVING) {
+            healthRate = -STARVATION_DAMAGE; // half the original rate
+        } else if (hunger == HungerCategory.FED && EnergyCategory.fromLevel(energyBase) == EnergyCategory.RESTED) {
+            healthRate = HEALTH_REGEN;
+        } else {
+            healthRate = 0f;
+        }
+        healthRate -= exposure;
+    }
+
+    /**
+     * Seconds from the last rebase until the next hunger/energy category boundary
+     * or until health runs out, whichever is first. Infinite if nothing will change.
+     */
+    public double secondsUntilNextChange() {
+        double next = Double.POSITIVE_INFINITY;
+        float hungerBound = HungerCategory.fromLevel(hungerBase).lowerBound;
+        if (hungerBound >= 0f) next = Math.min(next, (hungerBase - hungerBound) / HUNGER_DECAY);
+        float energyBound = EnergyCategory.fromLevel(energyBase).lowerBound;
+        if (energyBound >= 0f) next = Math.min(next, (energyBase - energyBound) / ENERGY_DECAY);
+        if (healthRate < 0f) next = Math.min(next, healthBase / -healthRate);
+        return next;
+    }
+
+    /** The pawn died outside the needs schedule (old age) — lets NeedsSystem start the drop and despawn. */
+    public void died() {
+        if (schedule != null) schedule.onNeedsChanged(owner, this);
+    }
+
+    private double elapsed() {
+        return schedule != null ? schedule.now() - baseTime : 0.0;
+    }
+
+    private void changed() {
+        rebase(); // health rate follows the new categories
+        if (schedule != null) schedule.onNeedsChanged(owner, this);
+    }
+
+    private static float clamp(float v) {
+        return Math.max(0f, Math.min(1f, v));
+    }
 }
@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
  */
 public class WorkSettingsComponent implements Component {
     private final Map<ColonistRole, Integer> priorities = new HashMap<>();
+    private List<ColonistRole> activeSorted; // null until built, cleared by setPriority
 
     public WorkSettingsComponent() {
         // Default: all jobs at priority 0 (disabled)
@@ -21,22 +22,39 @@ public class WorkSettingsComponent implements Component {
         }
     }
 
+    /**
+     * A new colonist's settings: their role at 3, hauling at 2, and research at 1
+     * so anyone with nothing better to do staffs the colony's research projects.
+     */
+    public static WorkSettingsComponent defaultsFor(ColonistRole role) {
+        WorkSettingsComponent ws = new WorkSettingsComponent();
+        ws.setPriority(role, 3); // default priority for assigned role
+        ws.setPriority(ColonistRole.HAULER, 2); // everyone hauls at low priority
+        if (role != ColonistRole.RESEARCHER) ws.setPriority(ColonistRole.RESEARCHER, 1);
+        return ws;
+    }
+
     public void setPriority(ColonistRole job, int priority) {
         if (priority < 0 || priority > 4)
             throw new IllegalArgumentException("Priority must be 0–4, got " + priority);
         priorities.put(job, priority);
+        activeSorted = null;
     }
 
     public int getPriority(ColonistRole job) {
         return priorities.getOrDefault(job, 0);
     }
 
+    /** Enabled jobs, highest priority first. Cached — the think tree asks every tick. */
     public List<ColonistRole> getActiveJobsSorted() {
-        return priorities.entrySet().stream()
-                .filter(e -> e.getValue() > 0)
-                .sorted(Map.Entry.<ColonistRole, Integer>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        if (activeSorted == null) {
+            activeSorted = Collections.unmodifiableList(priorities.entrySet().stream()
+                    .filter(e -> e.getValue() > 0)
+                    .sorted(Map.Entry.<ColonistRole, Integer>comparingByValue().reversed())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList()));
+        }
+        return activeSorted;
     }
 
     public Map<ColonistRole, Integer> getAllPriorities() {
@@ -1,20 +1,25 @@
 package com.haraldsson.syntropy.ecs.systems;
 
+import com.haraldsson.syntropy.ai.ThinkContext;
 import com.haraldsson.syntropy.ai.ThinkTreeFactory;
 import com.haraldsson.syntropy.ai.ThinkTreeRoot;
 import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.GameSystem;
 import com.haraldsson.syntropy.ecs.components.*;
+import com.haraldsson.syntropy.systems.jobs.JobBoard;
 import com.haraldsson.syntropy.world.World;
 
 /**
  * AI system — runs Think Tree for each NPC colonist.
  * The leader entity is skipped (has LeaderComponent, controlled by player).
+ * Pawns further than FAR_DISTANCE tiles from the leader re-think less often.
  */
 public class AITaskSystem extends GameSystem {
     private final ThinkTreeRoot colonistTree;
     private static final int MAX_RECOVERY_RADIUS = 5;
+    public static final float FAR_DISTANCE = 24f;
+    public static final float FAR_INTERVAL_SCALE = 3f;
 
     public AITaskSystem() {
         this.colonistTree = ThinkTreeFactory.createColonistTree();
@@ -22,6 +27,18 @@ public class AITaskSystem extends GameSystem {
 
     @Override
     public void update(ECSWorld ecsWorld, World world, float delta) {
+        // Free claims held by dead or stalled pawns before anyone looks for work
+        JobBoard jobBoard = world.getJobBoard();
+        jobBoard.ensureSeeded(ecsWorld);
+        jobBoard.update(delta);
+
+        PositionComponent leaderPos = null;
+        for (Entity leader : ecsWorld.getEntitiesWith(LeaderComponent.class, PositionComponent.class)) {
+            leaderPos = leader.get(PositionComponent.class);
+        }
+
+        ThinkContext context = world.getThinkContext();
+        context.begin(); // world facts are memoised across every pawn this tick
         for (Entity e : ecsWorld.getEntitiesWith(
                 AIComponent.class, NeedsComponent.class, PositionComponent.class,
                 InventoryComponent.class, HealthComponent.class)) {
@@ -43,8 +60,15 @@ public class AITaskSystem extends GameSystem {
                 continue; // skip this frame's think cycle
             }
 
-            colonistTree.execute(e, ecsWorld, world, delta);
+            float intervalScale = 1f;
+            if (leaderPos != null) {
+                float dx = pos.x - leaderPos.x;
+                float dy = pos.y - leaderPos.y;
+                if (dx * dx + dy * dy > FAR_DISTANCE * FAR_DISTANCE) intervalScale = FAR_INTERVAL_SCALE;
+            }
+            colonistTree.execute(e, ecsWorld, world, delta, intervalScale);
         }
+        context.end();
     }
 
     /**
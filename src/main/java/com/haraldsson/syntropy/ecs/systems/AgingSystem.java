@@ -49,6 +49,8 @@ public class AgingSystem extends GameSystem {
 
             if (aging.shouldDieOfOldAge()) {
                 health.dead = true;
+                NeedsComponent needs = e.get(NeedsComponent.class);
+                if (needs != null) needs.died();
                 IdentityComponent id = e.get(IdentityComponent.class);
                 String name = id != null ? id.name : "Unknown";
 
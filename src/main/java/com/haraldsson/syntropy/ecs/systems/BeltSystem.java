@@ -0,0 +1,14 @@
+package com.haraldsson.syntropy.ecs.systems;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.GameSystem;
+import com.haraldsson.syntropy.world.World;
+
+/** Advances the world's conveyor belts and inserters. Cost is per segment, not per item. */
+public class BeltSystem extends GameSystem {
+    @Override
+    public void update(ECSWorld ecsWorld, World world, float delta) {
+        if (world.getBelts().isEmpty()) return;
+        world.getBelts().update(delta);
+    }
+}
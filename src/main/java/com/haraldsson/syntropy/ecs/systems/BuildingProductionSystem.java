@@ -1,37 +1,163 @@
 package com.haraldsson.syntropy.ecs.systems;
 
-import com.haraldsson.syntropy.core.EventType;
 import com.haraldsson.syntropy.core.GameEvents;
 import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.GameSystem;
 import com.haraldsson.syntropy.ecs.components.BuildingComponent;
-import com.haraldsson.syntropy.entities.Item;
 import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.entities.Recipe;
+import com.haraldsson.syntropy.world.BuildingIndex;
 import com.haraldsson.syntropy.world.World;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Event-driven production. Each building has one pending completion in a queue
+ * keyed by absolute sim time; update() only visits buildings that are due, so the
+ * per-tick cost tracks completions rather than building count.
+ *
+ * Due buildings are grouped by Recipe and each group runs as one batch: the
+ * recipe's outputs are expanded once per group into scratch arrays, and each
+ * building only pays for its own capacity/input check and the items it adds.
+ *
+ * A building that comes due with a full buffer or missing inputs is parked (no
+ * queue entry) until takeOutput frees a slot or addInput completes a cycle's
+ * inputs — the BuildingIndex reports that as a wakeup and the building produces
+ * on the next tick, as it did when timers kept running.
+ * bc.timer is only written back on production, parking and syncTimers() (for saves).
+ */
 public class BuildingProductionSystem extends GameSystem {
+    private static final int MAX_OUTPUT_KINDS = ItemType.values().length;
+
     private GameEvents events;
 
+    private final PriorityQueue<Scheduled> queue = new PriorityQueue<>();
+    private final Map<Entity, Scheduled> pending = new HashMap<>();
+    private final Map<Recipe, List<Entity>> batches = new LinkedHashMap<>(); // due this tick, grouped by recipe
+    private final ItemType[] batchTypes = new ItemType[MAX_OUTPUT_KINDS]; // current batch's outputs
+    private final int[] batchAmounts = new int[MAX_OUTPUT_KINDS];
+    private World scheduledWorld;
+    private double clock;
+    private long seq;
+
+    private record Scheduled(Entity building, double dueAt, long seq) implements Comparable<Scheduled> {
+        @Override
+        public int compareTo(Scheduled o) {
+            int c = Double.compare(dueAt, o.dueAt);
+            return c != 0 ? c : Long.compare(seq, o.seq);
+        }
+    }
+
     public void setEvents(GameEvents events) {
         this.events = events;
     }
 
     @Override
     public void update(ECSWorld ecsWorld, World world, float delta) {
-        for (Entity e : ecsWorld.getEntitiesWith(BuildingComponent.class)) {
+        if (world != scheduledWorld) { // new game or load — old entries belong to the previous world
+            queue.clear();
+            pending.clear();
+            batches.clear();
+            clock = 0;
+            scheduledWorld = world;
+        }
+        BuildingIndex buildings = world.getBuildings();
+        buildings.sync(ecsWorld);
+        for (Entity e = buildings.pollWakeup(); e != null; e = buildings.pollWakeup()) {
+            if (pending.containsKey(e) || !buildings.contains(e)) continue;
             BuildingComponent bc = e.get(BuildingComponent.class);
-            if (!bc.built) continue;
-            bc.timer += delta;
-            if (bc.timer >= bc.productionInterval && bc.outputBuffer.size() < bc.maxOutput) {
-                bc.timer = 0f;
-                ItemType itemType = bc.producedItemType;
-                bc.outputBuffer.add(new Item(itemType));
-                if (events != null && itemType != null) {
-                    events.fireAndLog(EventType.RESOURCE_PRODUCED, itemType.name(),
-                            "PRODUCED: " + itemType.name() + " from " + bc.buildingType);
-                }
+            schedule(e, clock + Math.max(0f, bc.productionInterval - bc.timer));
+        }
+
+        clock += delta;
+        while (!queue.isEmpty() && queue.peek().dueAt <= clock) {
+            Scheduled s = queue.poll();
+            Entity e = s.building;
+            if (pending.get(e) != s) continue;
+            pending.remove(e);
+            if (!buildings.contains(e)) continue; // removed since it was scheduled
+            Recipe recipe = e.get(BuildingComponent.class).recipe;
+            List<Entity> batch = batches.get(recipe);
+            if (batch == null) {
+                batch = new ArrayList<>();
+                batches.put(recipe, batch);
             }
+            batch.add(e);
+        }
+        for (Map.Entry<Recipe, List<Entity>> entry : batches.entrySet()) {
+            List<Entity> batch = entry.getValue();
+            if (batch.isEmpty()) continue;
+            runBatch(entry.getKey(), batch);
+            batch.clear(); // lists are kept per recipe and reused
         }
     }
+
+    /**
+     * Runs one cycle for every due building of one recipe (null = legacy source).
+     * The recipe's output list, total and input requirement are resolved once for
+     * the batch; each building then only checks its own buffers and appends.
+     */
+    private void runBatch(Recipe recipe, List<Entity> due) {
+        int outputTotal = recipe != null ? recipe.getOutputTotal() : 1;
+        boolean needsInputs = recipe != null && recipe.hasInputs();
+        int kinds = recipe != null ? recipe.getOutputKinds() : 1;
+        for (int k = 0; k < kinds; k++) {
+            batchTypes[k] = recipe != null ? recipe.getOutputType(k) : null;
+            batchAmounts[k] = recipe != null ? recipe.getOutputAmount(k) : 1;
+        }
+        for (Entity e : due) {
+            BuildingComponent bc = e.get(BuildingComponent.class);
+            if (!bc.isBuilt()) {
+                schedule(e, clock + bc.productionInterval);
+                continue;
+            }
+            if (bc.outputBuffer.total() + outputTotal > bc.maxOutput
+                    || (needsInputs && !recipe.canRun(bc.inputBuffer))) {
+                bc.timer = bc.productionInterval; // parked until takeOutput/addInput wakes it
+                continue;
+            }
+            bc.timer = 0f;
+            if (needsInputs) recipe.consume(bc.inputBuffer);
+            for (int k = 0; k < kinds; k++) {
+                produce(e, bc, recipe != null ? batchTypes[k] : bc.producedItemType, batchAmounts[k]);
+            }
+            schedule(e, clock + bc.productionInterval);
+        }
+    }
+
+    private void produce(Entity e, BuildingComponent bc, ItemType itemType, int amount) {
+        if (itemType == null) return;
+        for (int i = 0; i < amount; i++) {
+            bc.addOutput(itemType);
+            if (events != null) { // one event per unit — the job board posts one haul job each
+                events.fireResourceProduced(e, itemType);
+                events.log("PRODUCED: %s from %s", itemType, bc.buildingType);
+            }
+        }
+    }
+
+    /** Writes elapsed progress back into bc.timer for every scheduled building. Call before saving. */
+    public void syncTimers() {
+        for (Scheduled s : pending.values()) {
+            BuildingComponent bc = s.building.get(BuildingComponent.class);
+            if (bc == null) continue;
+            bc.timer = (float) Math.max(0.0, bc.productionInterval - (s.dueAt - clock));
+        }
+    }
+
+    public int getScheduledCount() {
+        return pending.size();
+    }
+
+    private void schedule(Entity building, double dueAt) {
+        Scheduled s = new Scheduled(building, dueAt, seq++);
+        pending.put(building, s);
+        queue.add(s);
+    }
 }
@@ -0,0 +1,173 @@
+package com.haraldsson.syntropy.ecs.systems;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.GameSystem;
+import com.haraldsson.syntropy.ecs.components.BotComponent;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.ecs.components.InventoryComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.entities.Item;
+import com.haraldsson.syntropy.systems.logistics.LogisticsNetwork;
+import com.haraldsson.syntropy.world.StockpileZone;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flies worker bots along their assigned deliveries and, every
+ * LogisticsNetwork.MATCH_INTERVAL seconds, hands idle bots new ones.
+ * Bots travel in straight lines (they hover) and carry one item at a time.
+ */
+public class LogisticsSystem extends GameSystem {
+    public static final int BOTS_PER_UNLOCK = 3;
+    private static final float ARRIVE_DIST = 0.15f;
+
+    private final List<Entity> idle = new ArrayList<>();
+    private float matchTimer;
+
+    @Override
+    public void update(ECSWorld ecsWorld, World world, float delta) {
+        List<Entity> bots = ecsWorld.getEntitiesWith(BotComponent.class, PositionComponent.class, InventoryComponent.class);
+        if (bots.isEmpty()) return;
+        world.getBuildings().sync(ecsWorld);
+        LogisticsNetwork network = world.getLogistics();
+
+        idle.clear();
+        for (Entity bot : bots) {
+            step(bot, world, network, delta);
+            if (bot.get(BotComponent.class).state == BotComponent.State.IDLE) idle.add(bot);
+        }
+
+        matchTimer += delta;
+        if (matchTimer < LogisticsNetwork.MATCH_INTERVAL || idle.isEmpty()) return;
+        matchTimer = 0f;
+        for (LogisticsNetwork.Delivery d : network.match(world, idle)) {
+            BotComponent bot = d.bot.get(BotComponent.class);
+            bot.state = BotComponent.State.TO_PICKUP;
+            bot.itemType = d.type;
+            bot.source = d.source;
+            bot.targetBuilding = d.targetBuilding;
+            bot.dropX = d.dropX;
+            bot.dropY = d.dropY;
+        }
+    }
+
+    private void step(Entity e, World world, LogisticsNetwork network, float delta) {
+        BotComponent bot = e.get(BotComponent.class);
+        PositionComponent pos = e.get(PositionComponent.class);
+        InventoryComponent inv = e.get(InventoryComponent.class);
+
+        switch (bot.state) {
+            case IDLE -> {
+                if (inv.carriedItem != null) sendToStockpile(bot, world, inv.carriedItem, pos); // e.g. after a load
+            }
+            case TO_PICKUP -> {
+                PositionComponent sp = bot.source.get(PositionComponent.class);
+                if (sp == null || !world.getBuildings().contains(bot.source)) {
+                    abandon(bot, network);
+                    return;
+                }
+                if (!flyTo(pos, sp.x, sp.y, bot.speed * delta)) return;
+                network.releaseSupply(bot.source, bot.itemType);
+                Item item = bot.source.get(BuildingComponent.class).takeOutput(bot.itemType);
+                if (item == null) { // someone else got there first
+                    network.releaseDemand(bot.targetBuilding, bot.itemType);
+                    bot.clear();
+                    return;
+                }
+                inv.carriedItem = item;
+                bot.state = BotComponent.State.TO_DROP;
+            }
+            case TO_DROP -> {
+                float tx, ty;
+                if (bot.targetBuilding != null) {
+                    PositionComponent tp = bot.targetBuilding.get(PositionComponent.class);
+                    if (tp == null || !world.getBuildings().contains(bot.targetBuilding)) {
+                        network.releaseDemand(bot.targetBuilding, bot.itemType);
+                        sendToStockpile(bot, world, inv.carriedItem, pos);
+                        return;
+                    }
+                    tx = tp.x;
+                    ty = tp.y;
+                } else {
+                    tx = bot.dropX;
+                    ty = bot.dropY;
+                }
+                if (!flyTo(pos, tx, ty, bot.speed * delta)) return;
+                drop(bot, world, network, inv);
+            }
+        }
+    }
+
+    private void drop(BotComponent bot, World world, LogisticsNetwork network, InventoryComponent inv) {
+        Item item = inv.carriedItem;
+        if (item == null) {
+            bot.clear();
+            return;
+        }
+        boolean delivered;
+        if (bot.targetBuilding != null) {
+            network.releaseDemand(bot.targetBuilding, bot.itemType);
+            delivered = bot.targetBuilding.get(BuildingComponent.class).addInput(item.getType(), 1) == 1;
+        } else {
+            delivered = world.getStockpiles().add(item.getType(), 1, bot.dropX, bot.dropY) == 1;
+        }
+        if (!delivered) { // target filled up meanwhile — leave it on the ground here
+            Tile tile = world.getTile(bot.dropX, bot.dropY);
+            if (tile != null) tile.addItem(item);
+        }
+        inv.carriedItem = null;
+        bot.clear();
+    }
+
+    private static void sendToStockpile(BotComponent bot, World world, Item item, PositionComponent pos) {
+        StockpileZone zone = world.getStockpiles().nearestAllowing(item.getType(), pos.x, pos.y);
+        Tile tile = zone != null ? zone.nearestTile(pos.x, pos.y) : world.getTile((int) pos.x, (int) pos.y);
+        bot.targetBuilding = null;
+        bot.itemType = item.getType();
+        bot.dropX = tile != null ? tile.getX() : (int) pos.x;
+        bot.dropY = tile != null ? tile.getY() : (int) pos.y;
+        bot.state = BotComponent.State.TO_DROP;
+    }
+
+    private static void abandon(BotComponent bot, LogisticsNetwork network) {
+        network.releaseSupply(bot.source, bot.itemType);
+        network.releaseDemand(bot.targetBuilding, bot.itemType);
+        bot.clear();
+    }
+
+    /** Moves toward (tx, ty); returns true once there. */
+    private static boolean flyTo(PositionComponent pos, float tx, float ty, float maxStep) {
+        float dx = tx - pos.x;
+        float dy = ty - pos.y;
+        float dist = (float) Math.sqrt(dx * dx + dy * dy);
+        if (dist <= Math.max(ARRIVE_DIST, maxStep)) {
+            pos.x = tx;
+            pos.y = ty;
+            return true;
+        }
+        pos.x += dx / dist * maxStep;
+        pos.y += dy / dist * maxStep;
+        return false;
+    }
+
+    /** Spawns {@code count} idle bots on the first stockpile zone, or the map centre. */
+    public static void spawnBots(ECSWorld ecsWorld, World world, int count) {
+        float x = world.getWidth() / 2f;
+        float y = world.getHeight() / 2f;
+        Tile tile = world.getStockpiles().firstTile();
+        if (tile != null) {
+            x = tile.getX();
+            y = tile.getY();
+        }
+        for (int i = 0; i < count; i++) {
+            Entity bot = ecsWorld.createEntity();
+            bot.add(new PositionComponent(x, y));
+            bot.add(new InventoryComponent());
+            bot.add(new BotComponent());
+        }
+    }
+}
@@ -6,50 +6,165 @@ import com.haraldsson.syntropy.ecs.GameSystem;
 import com.haraldsson.syntropy.ecs.components.HealthComponent;
 import com.haraldsson.syntropy.ecs.components.MoodComponent;
 import com.haraldsson.syntropy.ecs.components.NeedsComponent;
-import com.haraldsson.syntropy.systems.mood.*;
+import com.haraldsson.syntropy.systems.mood.ThoughtInput;
+import com.haraldsson.syntropy.systems.mood.ThoughtQuery;
+import com.haraldsson.syntropy.systems.mood.ThoughtRegistry;
+import com.haraldsson.syntropy.systems.mood.ThoughtWorker;
 import com.haraldsson.syntropy.world.World;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Pattern 2 — Decoupled mood system.
  * Mood is the SUM of all ThoughtWorker offsets + a base value.
  * Needs never touch mood directly.
+ *
+ * Workers come from a ThoughtRegistry. Each tick every live pawn's state is
+ * copied into a ThoughtQuery, and each input a worker declares is fingerprinted
+ * per pawn (a category ordinal, a float's bits). Every worker then gets one
+ * evaluate() call over just the pawns whose inputs changed for it — none at all
+ * if nothing it reads moved — so an extra thought costs per change, not per
+ * pawn per frame. The target mood is re-summed from the cached offsets in
+ * worker order only for pawns that got a new offset, which keeps it
+ * bit-for-bit what evaluating every worker would give. Pawns already at their
+ * target skip the smoothing step.
  */
 public class MoodSystem extends GameSystem {
     private static final float BASE_MOOD = 50f;
+    private static final ThoughtInput[] INPUTS = ThoughtInput.values();
+    private static final long UNSEEN = Long.MIN_VALUE;
 
+    private final ThoughtRegistry registry;
+    private final ThoughtQuery query = new ThoughtQuery();
     private List<ThoughtWorker> workers;
+    private int[] workerInputs;  // bit per ThoughtInput, per worker
+    private int usedInputs;      // union of workerInputs
+    private int generation;
+    private World workersWorld; // workers capture the world — rebuild after reset/load
+    private int workersVersion;
+    private int evaluations;
+
+    // Per-row scratch, indexed like the query's rows
+    private final List<MoodComponent> moods = new ArrayList<>();
+    private int[] changedInputs = new int[64];
+    private boolean[] dirty = new boolean[64];
+    private int[] selected = new int[64];
+    private float[] offsets = new float[64];
+
+    public MoodSystem() {
+        this(ThoughtRegistry.withDefaults());
+    }
+
+    public MoodSystem(ThoughtRegistry registry) {
+        this.registry = registry;
+    }
+
+    public ThoughtRegistry getRegistry() {
+        return registry;
+    }
 
     @Override
     public void update(ECSWorld ecsWorld, World world, float delta) {
-        if (workers == null) {
-            workers = new ArrayList<>();
-            workers.add(new HungerThoughtWorker());
-            workers.add(new SleepThoughtWorker());
-            workers.add(new HealthThoughtWorker());
-            workers.add(new SocialThoughtWorker(ecsWorld));
+        if (workers == null || workersWorld != world || workersVersion != registry.getVersion()) {
+            rebuildWorkers(world);
         }
+
+        // Gather: one query row per live pawn, plus which of its inputs changed
+        query.clear(world);
+        moods.clear();
         for (Entity e : ecsWorld.getEntitiesWith(NeedsComponent.class, MoodComponent.class, HealthComponent.class)) {
-            HealthComponent health = e.get(HealthComponent.class);
-            if (health.dead) continue;
+            if (e.get(HealthComponent.class).dead) continue;
+            MoodComponent mood = e.get(MoodComponent.class);
+            if (mood.cacheGeneration != generation) {
+                mood.cacheGeneration = generation;
+                mood.thoughtOffsets = new float[workers.size()];
+                mood.inputKeys = new long[INPUTS.length];
+                Arrays.fill(mood.inputKeys, UNSEEN);
+            }
+            int row = query.addRow(e);
+            moods.add(mood);
+            ensureCapacity(row + 1);
 
-            float totalOffset = 0f;
-            for (ThoughtWorker worker : workers) {
-                totalOffset += worker.getMoodOffset(e);
+            int changed = 0;
+            for (ThoughtInput input : INPUTS) {
+                int bit = 1 << input.ordinal();
+                if ((usedInputs & bit) == 0) continue;
+                long key = query.inputKey(row, input);
+                if (key == UNSEEN || key != mood.inputKeys[input.ordinal()]) {
+                    mood.inputKeys[input.ordinal()] = key;
+                    changed |= bit;
+                }
             }
+            changedInputs[row] = changed;
+            dirty[row] = false;
+        }
+        int rows = moods.size();
 
-            MoodComponent mood = e.get(MoodComponent.class);
-            float target = Math.max(0f, Math.min(100f, BASE_MOOD + totalOffset));
+        // Evaluate: one batch per worker over the rows it has to redo
+        for (int w = 0; w < workers.size(); w++) {
+            int count = 0;
+            for (int row = 0; row < rows; row++) {
+                if ((changedInputs[row] & workerInputs[w]) != 0) selected[count++] = row;
+            }
+            if (count == 0) continue;
+            query.select(selected, count);
+            workers.get(w).evaluate(query, offsets);
+            evaluations += count;
+            for (int i = 0; i < count; i++) {
+                int row = selected[i];
+                moods.get(row).thoughtOffsets[w] = offsets[i];
+                dirty[row] = true;
+            }
+        }
+
+        // Sum and smooth
+        for (int row = 0; row < rows; row++) {
+            MoodComponent mood = moods.get(row);
+            if (dirty[row]) {
+                float totalOffset = 0f;
+                for (float offset : mood.thoughtOffsets) totalOffset += offset;
+                mood.targetMood = Math.max(0f, Math.min(100f, BASE_MOOD + totalOffset));
+            }
+
+            float target = mood.targetMood;
+            if (mood.mood == target) continue;
             // Smooth transition toward target mood
             float speed = 5f * delta;
             if (mood.mood < target) {
                 mood.mood = Math.min(target, mood.mood + speed);
-            } else if (mood.mood > target) {
+            } else {
                 mood.mood = Math.max(target, mood.mood - speed);
             }
         }
+        moods.clear();
     }
-}
 
+    /** Pawn evaluations across all workers since construction — for profiling and tests. */
+    public int getEvaluationCount() {
+        return evaluations;
+    }
+
+    private void rebuildWorkers(World world) {
+        workersWorld = world;
+        workersVersion = registry.getVersion();
+        workers = registry.instantiate(world);
+        workerInputs = new int[workers.size()];
+        usedInputs = 0;
+        for (int w = 0; w < workers.size(); w++) {
+            for (ThoughtInput input : workers.get(w).getInputs()) workerInputs[w] |= 1 << input.ordinal();
+            usedInputs |= workerInputs[w];
+        }
+        generation++; // every pawn's cached offsets belong to the old list
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= changedInputs.length) return;
+        int cap = Math.max(rows, changedInputs.length * 2);
+        changedInputs = Arrays.copyOf(changedInputs, cap);
+        dirty = Arrays.copyOf(dirty, cap);
+        selected = Arrays.copyOf(selected, cap);
+        offsets = Arrays.copyOf(offsets, cap);
+    }
+}
@@ -0,0 +1,236 @@
+package com.haraldsson.syntropy.ecs.systems;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.GameSystem;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.world.OccupancyGrid;
+import com.haraldsson.syntropy.world.Pathfinder;
+import com.haraldsson.syntropy.world.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Locomotion for AI pawns. Think nodes only pick a target (setTask) and ask to
+ * walk toward it (AIComponent.walk); this system moves every walking pawn in one
+ * batch, right after AITaskSystem:
+ *
+ *   1. gather    — record every pawn in the OccupancyGrid (position and target
+ *                  reservation), resolve each walker's A* path into the point it
+ *                  steers for this tick, and copy position, goal, step length and
+ *                  separation push into flat arrays (SoA);
+ *   2. integrate — one loop over the arrays stepping toward the goal, bent away
+ *                  from nearby pawns, with the feet collision probe. Entries are
+ *                  independent and World tiles are only read, so large batches
+ *                  run in parallel;
+ *   3. scatter   — write positions back and update each walker's stuckTimer.
+ *
+ * Avoidance is soft: the push can only bend a step, never reverse it, so
+ * crowds thin out without anyone blocking anyone. Walkers within
+ * ARRIVAL_RADIUS of their target ignore it and can always reach the tile
+ * centre. stuckTimer only grows while a walker fails to close on its goal,
+ * so the nodes' stuck timeouts mean "blocked", not "long walk".
+ *
+ * A node sees the result of its walk on the next tick.
+ */
+public class MovementSystem extends GameSystem {
+    /** Waypoint counts as reached within this distance (tiles). */
+    private static final float WAYPOINT_REACHED = 0.1f;
+    /** Final approach snaps onto the target tile centre within this distance. */
+    private static final float ARRIVE_SNAP = 0.05f;
+    /** Other pawns closer than this (tiles) push a walker aside. */
+    static final float SEPARATION_RADIUS = 0.6f;
+    private static final float SEPARATION_WEIGHT = 1.2f;
+    /** Cap on the weighted push, so a dense crowd still leaves most of the step pointing ahead. */
+    private static final float MAX_PUSH = 1f;
+    /** Separation is off this close to the walker's own target. */
+    private static final float ARRIVAL_RADIUS = 1.0f;
+    /** Minimum share of each step that must still point at the goal. */
+    private static final float MIN_FORWARD = 0.5f;
+    /** A step closing less than this share of its length on the goal counts as blocked. */
+    private static final float PROGRESS_SHARE = 0.1f;
+    /** Batch size above which the integrate pass is spread across cores. */
+    static final int PARALLEL_THRESHOLD = 512;
+
+    private final List<AIComponent> walkerAi = new ArrayList<>();
+    private final List<PositionComponent> walkers = new ArrayList<>();
+    private final float[] push = new float[2];
+    private float[] pawnX = new float[64];
+    private float[] pawnY = new float[64];
+    private int[] pawnOf = new int[64];
+    private float[] px = new float[64];
+    private float[] py = new float[64];
+    private float[] gx = new float[64];
+    private float[] gy = new float[64];
+    private float[] sx = new float[64];
+    private float[] sy = new float[64];
+    private float[] step = new float[64];
+    private int count;
+
+    @Override
+    public void update(ECSWorld ecsWorld, World world, float delta) {
+        gather(ecsWorld, world, delta);
+        if (count >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, count).parallel().forEach(i -> integrate(i, world));
+        } else {
+            for (int i = 0; i < count; i++) integrate(i, world);
+        }
+        for (int i = 0; i < count; i++) {
+            PositionComponent pos = walkers.get(i);
+            float before = dist(pos.x, pos.y, gx[i], gy[i]);
+            float after = dist(px[i], py[i], gx[i], gy[i]);
+            AIComponent ai = walkerAi.get(i);
+            if (before - after >= step[i] * PROGRESS_SHARE) {
+                ai.stuckTimer = 0f;
+            } else {
+                ai.stuckTimer += delta;
+            }
+            pos.x = px[i];
+            pos.y = py[i];
+        }
+        walkers.clear();
+        walkerAi.clear();
+    }
+
+    public int getLastBatchSize() {
+        return count;
+    }
+
+    private void gather(ECSWorld ecsWorld, World world, float delta) {
+        OccupancyGrid occupancy = world.getOccupancy();
+        occupancy.clearReservations();
+        count = 0;
+        int pawns = 0;
+        for (Entity e : ecsWorld.getEntitiesWith(AIComponent.class, PositionComponent.class)) {
+            HealthComponent health = e.get(HealthComponent.class);
+            if (health != null && health.dead) continue;
+            AIComponent ai = e.get(AIComponent.class);
+            PositionComponent pos = e.get(PositionComponent.class);
+            if (pawns == pawnX.length) {
+                pawnX = Arrays.copyOf(pawnX, pawns * 2);
+                pawnY = Arrays.copyOf(pawnY, pawns * 2);
+            }
+            int pawn = pawns++;
+            pawnX[pawn] = pos.x;
+            pawnY[pawn] = pos.y;
+            if (ai.targetX >= 0 && ai.targetY >= 0) occupancy.reserve(ai.targetX, ai.targetY, e.getId());
+
+            float speed = ai.walkSpeed;
+            if (speed <= 0f) continue;
+            ai.walkSpeed = 0f; // one tick's request
+            if (ai.targetX < 0 || ai.targetY < 0) continue;
+
+            // Lazily compute A* path if not set (C4)
+            if (ai.currentPath == null) {
+                int sx = (int) Math.floor(pos.x);
+                int sy = (int) Math.floor(pos.y);
+                ai.currentPath = Pathfinder.findPath(world, sx, sy, ai.targetX, ai.targetY);
+                ai.pathIndex = 0;
+                if (ai.currentPath.isEmpty() && (sx != ai.targetX || sy != ai.targetY)) {
+                    ai.stuckTimer += delta; // no path found — the node's timeout will fire
+                    continue;
+                }
+            }
+
+            float goalX, goalY;
+            if (ai.pathIndex < ai.currentPath.size()) {
+                // Follow path waypoints (C3)
+                int[] waypoint = ai.currentPath.get(ai.pathIndex);
+                goalX = waypoint[0] + 0.5f; // center of tile
+                goalY = waypoint[1] + 0.5f;
+                if (dist(pos.x, pos.y, goalX, goalY) < WAYPOINT_REACHED) {
+                    ai.pathIndex++;
+                    ai.stuckTimer = 0f;
+                    continue;
+                }
+            } else {
+                // Path exhausted or start==goal — final approach to target center
+                goalX = ai.targetX + 0.5f;
+                goalY = ai.targetY + 0.5f;
+                if (dist(pos.x, pos.y, goalX, goalY) < ARRIVE_SNAP) {
+                    pos.x = goalX;
+                    pos.y = goalY;
+                    ai.stuckTimer = 0f;
+                    continue;
+                }
+            }
+            add(ai, pos, pawn, goalX, goalY, speed * delta);
+        }
+
+        // Separation needs everyone's position, so it runs once the grid is filled
+        occupancy.rebuild(pawnX, pawnY, pawns);
+        for (int i = 0; i < count; i++) {
+            AIComponent ai = walkerAi.get(i);
+            if (dist(px[i], py[i], ai.targetX + 0.5f, ai.targetY + 0.5f) < ARRIVAL_RADIUS) {
+                sx[i] = 0f;
+                sy[i] = 0f;
+                continue;
+            }
+            occupancy.separation(pawnOf[i], px[i], py[i], SEPARATION_RADIUS, push);
+            float scale = SEPARATION_WEIGHT;
+            float len = (float) Math.sqrt(push[0] * push[0] + push[1] * push[1]) * scale;
+            if (len > MAX_PUSH) scale *= MAX_PUSH / len;
+            sx[i] = push[0] * scale;
+            sy[i] = push[1] * scale;
+        }
+    }
+
+    private void add(AIComponent ai, PositionComponent pos, int pawn, float goalX, float goalY, float stepLength) {
+        if (count == px.length) {
+            int cap = count * 2;
+            pawnOf = Arrays.copyOf(pawnOf, cap);
+            px = Arrays.copyOf(px, cap);
+            py = Arrays.copyOf(py, cap);
+            gx = Arrays.copyOf(gx, cap);
+            gy = Arrays.copyOf(gy, cap);
+            sx = Arrays.copyOf(sx, cap);
+            sy = Arrays.copyOf(sy, cap);
+            step = Arrays.copyOf(step, cap);
+        }
+        walkerAi.add(ai);
+        walkers.add(pos);
+        pawnOf[count] = pawn;
+        px[count] = pos.x;
+        py[count] = pos.y;
+        gx[count] = goalX;
+        gy[count] = goalY;
+        step[count] = stepLength;
+        count++;
+    }
+
+    /** One step toward the goal; each axis is blocked separately so pawns slide along walls. */
+    private void integrate(int i, World world) {
+        float x = px[i];
+        float y = py[i];
+        float dx = gx[i] - x;
+        float dy = gy[i] - y;
+        float dist = (float) Math.sqrt(dx * dx + dy * dy);
+        float fx = dx / dist;
+        float fy = dy / dist;
+        float mx = fx + sx[i];
+        float my = fy + sy[i];
+        float forward = mx * fx + my * fy;
+        if (forward < MIN_FORWARD) { // the push may bend the step, never turn it back
+            mx += (MIN_FORWARD - forward) * fx;
+            my += (MIN_FORWARD - forward) * fy;
+        }
+        float len = (float) Math.sqrt(mx * mx + my * my);
+        float nx = x + (mx / len) * step[i];
+        float ny = y + (my / len) * step[i];
+        if (world.canMove(nx, y)) x = nx;
+        if (world.canMove(x, ny)) y = ny;
+        px[i] = x;
+        py[i] = y;
+    }
+
+    private static float dist(float x0, float y0, float x1, float y1) {
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -3,6 +3,7 @@ package com.haraldsson.syntropy.ecs.systems;
 import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.GameSystem;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
 import com.haraldsson.syntropy.ecs.components.HealthComponent;
 import com.haraldsson.syntropy.ecs.components.InventoryComponent;
 import com.haraldsson.syntropy.ecs.components.NeedsComponent;
@@ -13,61 +14,182 @@ import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.World;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 /**
- * Ticks hunger/energy decay. Health damage from starvation. Health regen when well-fed.
+ * Hunger/energy decay, starvation damage and regen, on a schedule.
  * Mood is handled by MoodSystem (Pattern 2) — NOT here.
+ *
+ * NeedsComponent stores each value as (value at base time, rate) and evaluates
+ * it on read against this system's sim clock. The only per-pawn work left is at
+ * the moments a category boundary is crossed (or health runs out): those are
+ * computed up front and kept in a queue, so update() costs O(crossings) rather
+ * than O(pawns × frames). Each crossing rebases the component, re-derives its
+ * health rate and requests an AI re-think — the natural trigger for the
+ * staggered think tree.
+ *
+ * Off-schedule changes (eating, resting, damage, events) arrive through
+ * onNeedsChanged and are re-planned on the next tick. Dead pawns leave the
+ * schedule for a separate set that runs the item drop and despawn timer; a
+ * death outside it (AgingSystem) is reported through NeedsComponent.died().
  */
-public class NeedsSystem extends GameSystem {
+public class NeedsSystem extends GameSystem implements NeedsComponent.Schedule {
     private static final float DEATH_DESPAWN_SECONDS = 30f;
+    /** Scheduled slightly past the analytic crossing so float rounding lands on the new side. */
+    private static final double CROSSING_EPSILON = 1e-3;
+
+    private final PriorityQueue<Scheduled> queue = new PriorityQueue<>();
+    private final Map<Entity, Scheduled> pending = new HashMap<>();
+    private final Set<Entity> registered = new LinkedHashSet<>();
+    private final Set<Entity> changed = new LinkedHashSet<>();
+    private final Set<Entity> dying = new LinkedHashSet<>(); // dead, waiting on the despawn timer
+    private final List<Entity> batch = new ArrayList<>();    // scratch for changed and despawned pawns
+    private World scheduledWorld;
+    private int seenModCount = -1;
+    private double clock;
+    private long seq;
+
+    private record Scheduled(Entity pawn, double dueAt, long seq) implements Comparable<Scheduled> {
+        @Override
+        public int compareTo(Scheduled o) {
+            int c = Double.compare(dueAt, o.dueAt);
+            return c != 0 ? c : Long.compare(seq, o.seq);
+        }
+    }
+
+    @Override
+    public double now() {
+        return clock;
+    }
+
+    @Override
+    public void onNeedsChanged(Entity pawn, NeedsComponent needs) {
+        if (pawn != null) changed.add(pawn);
+    }
 
     @Override
     public void update(ECSWorld ecsWorld, World world, float delta) {
-        List<Entity> toRemove = new ArrayList<>();
-        for (Entity e : ecsWorld.getEntitiesWith(NeedsComponent.class, HealthComponent.class)) {
+        if (world != scheduledWorld) { // new game or load — old entries belong to the previous world
+            queue.clear();
+            pending.clear();
+            registered.clear();
+            changed.clear();
+            dying.clear();
+            seenModCount = -1;
+            clock = 0;
+            scheduledWorld = world;
+        }
+        sync(ecsWorld);
+        clock += delta;
+
+        if (!changed.isEmpty()) {
+            batch.addAll(changed);
+            changed.clear();
+            for (Entity e : batch) {
+                if (registered.contains(e)) crossed(e);
+            }
+            batch.clear();
+        }
+        while (!queue.isEmpty() && queue.peek().dueAt <= clock) {
+            Scheduled s = queue.poll();
+            if (pending.get(s.pawn) != s) continue;
+            pending.remove(s.pawn);
+            if (registered.contains(s.pawn)) crossed(s.pawn);
+        }
+
+        for (Entity e : dying) {
             HealthComponent health = e.get(HealthComponent.class);
-            if (health.dead) {
-                // FIX: Drop carried items to ground tile on colonist death — 2026-02-20
-                if (!health.deathItemsDropped) {
-                    health.deathItemsDropped = true;
-                    InventoryComponent inv = e.get(InventoryComponent.class);
-                    PositionComponent pos = e.get(PositionComponent.class);
-                    if (inv != null && inv.carriedItem != null && pos != null) {
-                        Tile tile = world.getTile((int) pos.x, (int) pos.y);
-                        if (tile != null) {
-                            tile.addItem(inv.carriedItem);
-                        }
-                        inv.carriedItem = null;
+            // FIX: Drop carried items to ground tile on colonist death — 2026-02-20
+            if (!health.deathItemsDropped) {
+                health.deathItemsDropped = true;
+                InventoryComponent inv = e.get(InventoryComponent.class);
+                PositionComponent pos = e.get(PositionComponent.class);
+                if (inv != null && inv.carriedItem != null && pos != null) {
+                    Tile tile = world.getTile((int) pos.x, (int) pos.y);
+                    if (tile != null) {
+                        tile.addItem(inv.carriedItem);
                     }
+                    inv.carriedItem = null;
                 }
-                health.deathTimer += delta;
-                if (health.deathTimer >= DEATH_DESPAWN_SECONDS) {
-                    toRemove.add(e);
-                }
-                continue;
             }
+            health.deathTimer += delta;
+            if (health.deathTimer >= DEATH_DESPAWN_SECONDS) {
+                batch.add(e);
+            }
+        }
+        for (Entity e : batch) {
+            dying.remove(e);
+            ecsWorld.removeEntity(e);
+        }
+        batch.clear();
+    }
 
-            NeedsComponent needs = e.get(NeedsComponent.class);
-            needs.hunger = Math.max(0f, needs.hunger - NeedsComponent.HUNGER_DECAY * delta);
-            needs.energy = Math.max(0f, needs.energy - NeedsComponent.ENERGY_DECAY * delta);
+    /** Dead pawns still waiting to despawn. */
+    public int getDyingCount() {
+        return dying.size();
+    }
 
-            // Starvation damage — only when STARVING, at half the original rate
-            if (needs.getHungerCategory() == HungerCategory.STARVING) {
-                needs.damage(0.01f * delta);
-            }
+    /** Pawns currently waiting on a scheduled crossing. */
+    public int getScheduledCount() {
+        return pending.size();
+    }
 
-            // Health regen when well-fed and rested
-            if (needs.getHungerCategory() == HungerCategory.FED && needs.getEnergyCategory() == EnergyCategory.RESTED) {
-                needs.heal(NeedsComponent.HEALTH_REGEN * delta);
+    /** Registers new pawns and forgets removed ones; O(1) unless the entity list changed. */
+    private void sync(ECSWorld ecsWorld) {
+        if (ecsWorld.getModCount() == seenModCount) return;
+        seenModCount = ecsWorld.getModCount();
+        List<Entity> current = ecsWorld.getEntitiesWith(NeedsComponent.class, HealthComponent.class);
+        registered.retainAll(new LinkedHashSet<>(current));
+        pending.keySet().retainAll(registered);
+        dying.retainAll(registered);
+        for (Entity e : current) {
+            if (registered.add(e)) {
+                e.get(NeedsComponent.class).attach(e, this);
+                crossed(e);
             }
+        }
+    }
 
-            if (needs.health <= 0f) {
-                health.dead = true;
-            }
+    /** A boundary was reached or a value changed: rebase, apply death and re-think, plan the next crossing. */
+    private void crossed(Entity e) {
+        HealthComponent health = e.get(HealthComponent.class);
+        NeedsComponent needs = e.get(NeedsComponent.class);
+        if (!health.dead) {
+            needs.rebase();
+            if (needs.getHealth() <= 0f) health.dead = true;
         }
-        for (Entity e : toRemove) {
-            ecsWorld.removeEntity(e);
+        if (health.dead) {
+            pending.remove(e);
+            dying.add(e);
+            return;
+        }
+
+        // Category crossings (from decay, eating or resting) interrupt the staggered think schedule
+        HungerCategory hunger = needs.getHungerCategory();
+        EnergyCategory energy = needs.getEnergyCategory();
+        if (hunger != needs.notifiedHunger || energy != needs.notifiedEnergy) {
+            needs.notifiedHunger = hunger;
+            needs.notifiedEnergy = energy;
+            AIComponent ai = e.get(AIComponent.class);
+            if (ai != null) ai.requestRethink();
+        }
+
+        double wait = needs.secondsUntilNextChange();
+        if (Double.isInfinite(wait)) {
+            pending.remove(e);
+            return;
+        }
+        Scheduled s = new Scheduled(e, clock + wait + CROSSING_EPSILON, seq++);
+        pending.put(e, s);
+        queue.add(s);
+        if (queue.size() > 4 * pending.size() + 64) { // drop superseded entries (e.g. frequent damage or exposure changes)
+            queue.clear();
+            queue.addAll(pending.values());
         }
     }
 }
@@ -4,46 +4,94 @@ import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.GameSystem;
 import com.haraldsson.syntropy.ecs.components.*;
+import com.haraldsson.syntropy.world.BuildingIndex;
+import com.haraldsson.syntropy.world.PollutionField;
 import com.haraldsson.syntropy.world.World;
 
+import java.util.Map;
+
 /**
  * Global pollution system.
  * Buildings with pollution output contribute to a global planetary health meter.
- * As pollution rises, colonists get debuffs and disasters become more frequent.
+ * As pollution rises, disasters become more frequent.
+ *
+ * The same output is also emitted into the world's PollutionField at each
+ * building's tile, where it spreads and fades. Colonist debuffs come from the
+ * concentration on the tile they stand on, so living next to a smelter hurts
+ * and a clean corner of the map does not.
+ *
+ * Nothing here walks the buildings or writes to pawns per frame. The total
+ * emission rate is the BuildingIndex's running sum, and the field's sources
+ * are re-registered only when that index reports a change. Exposure is
+ * re-sampled once per EXPOSURE_INTERVAL and handed to NeedsComponent as a
+ * health-loss rate, which NeedsSystem integrates lazily; a pawn whose
+ * quantized exposure is unchanged costs one read.
  */
 public class PollutionSystem extends GameSystem {
     private float globalPollution = 0f;       // 0 = pristine, 100 = uninhabitable
     private float planetaryHealth = 100f;     // inverse of pollution, for display
     private static final float MAX_POLLUTION = 100f;
     private static final float NATURAL_DECAY = 0.05f; // slow natural cleanup per second
+    /** Local concentration below which colonists are unaffected, and at which the debuff is full. */
+    static final float LOCAL_SAFE = 0.2f;
+    static final float LOCAL_SEVERE = 1.0f;
+    /** Health loss per second at full severity. */
+    static final float MAX_EXPOSURE_DAMAGE = 0.002f;
+    /** Seconds between exposure samples. */
+    static final float EXPOSURE_INTERVAL = 1f;
+    /** Severity is rounded to this many steps, so drifting concentrations rarely re-plan a pawn. */
+    private static final int SEVERITY_STEPS = 20;
+
+    private World sourcesWorld;
+    private int sourcesVersion = -1;
+    private float exposureTimer;
+    private boolean anyExposed;
 
     @Override
     public void update(ECSWorld ecsWorld, World world, float delta) {
-        // Accumulate pollution from industrial buildings
-        float pollutionPerSecond = 0f;
-        for (Entity e : ecsWorld.getEntitiesWith(BuildingComponent.class)) {
-            BuildingComponent bc = e.get(BuildingComponent.class);
-            if (!bc.built) continue;
-            pollutionPerSecond += bc.pollutionRate;
+        BuildingIndex buildings = world.getBuildings();
+        buildings.sync(ecsWorld);
+        PollutionField field = world.getPollution();
+        if (world != sourcesWorld || buildings.getEmissionVersion() != sourcesVersion) {
+            sourcesWorld = world;
+            sourcesVersion = buildings.getEmissionVersion();
+            field.clearSources();
+            for (Map.Entry<Entity, Float> emitter : buildings.getEmitters().entrySet()) {
+                PositionComponent pos = emitter.getKey().get(PositionComponent.class);
+                if (pos != null) field.addSource((int) pos.x, (int) pos.y, emitter.getValue());
+            }
         }
+        field.step(delta);
 
-        globalPollution += pollutionPerSecond * delta;
+        // Accumulate pollution from industrial buildings
+        globalPollution += buildings.getPollutionRate() * delta;
         globalPollution -= NATURAL_DECAY * delta; // nature tries to recover
         globalPollution = Math.max(0f, Math.min(MAX_POLLUTION, globalPollution));
         planetaryHealth = MAX_POLLUTION - globalPollution;
 
-        // Apply debuffs to colonists based on pollution severity
-        if (globalPollution > 20f) {
-            float severity = (globalPollution - 20f) / 80f; // 0-1 scale above threshold
-            for (Entity e : ecsWorld.getEntitiesWith(NeedsComponent.class, HealthComponent.class)) {
-                HealthComponent health = e.get(HealthComponent.class);
-                if (health.dead) continue;
-                NeedsComponent needs = e.get(NeedsComponent.class);
-                needs.damage(severity * 0.002f * delta); // slow health drain from pollution
-            }
+        exposureTimer += delta;
+        if (exposureTimer < EXPOSURE_INTERVAL) return;
+        exposureTimer = 0f;
+        if (field.isClean() && !anyExposed) return;
+
+        // Apply debuffs to colonists based on the pollution where they stand
+        anyExposed = false;
+        for (Entity e : ecsWorld.getEntitiesWith(NeedsComponent.class, HealthComponent.class, PositionComponent.class)) {
+            HealthComponent health = e.get(HealthComponent.class);
+            if (health.dead) continue;
+            PositionComponent pos = e.get(PositionComponent.class);
+            float severity = Math.round(localSeverity(field.sample(pos.x, pos.y)) * SEVERITY_STEPS) / (float) SEVERITY_STEPS;
+            e.get(NeedsComponent.class).setExposure(severity * MAX_EXPOSURE_DAMAGE); // slow health drain from pollution
+            if (severity > 0f) anyExposed = true;
         }
     }
 
+    /** 0 at or below LOCAL_SAFE, rising to 1 at LOCAL_SEVERE. */
+    static float localSeverity(float concentration) {
+        if (concentration <= LOCAL_SAFE) return 0f;
+        return Math.min(1f, (concentration - LOCAL_SAFE) / (LOCAL_SEVERE - LOCAL_SAFE));
+    }
+
     public float getGlobalPollution() { return globalPollution; }
     public float getPlanetaryHealth() { return planetaryHealth; }
 
@@ -57,4 +105,3 @@ public class PollutionSystem extends GameSystem {
         return "Uninhabitable";
     }
 }
-
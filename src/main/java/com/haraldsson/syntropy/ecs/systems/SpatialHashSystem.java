@@ -0,0 +1,16 @@
+package com.haraldsson.syntropy.ecs.systems;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.GameSystem;
+import com.haraldsson.syntropy.world.World;
+
+/**
+ * Rebuilds the world's pawn spatial hash. Runs first each tick so AI, mood and
+ * HUD proximity queries all see this frame's positions.
+ */
+public class SpatialHashSystem extends GameSystem {
+    @Override
+    public void update(ECSWorld ecsWorld, World world, float delta) {
+        world.getEntityHash().rebuild(ecsWorld);
+    }
+}
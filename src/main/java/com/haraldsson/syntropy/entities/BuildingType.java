@@ -0,0 +1,24 @@
+package com.haraldsson.syntropy.entities;
+
+/** Production building kinds. The name doubles as the sprite key suffix ("building_MINER"). */
+public enum BuildingType {
+    MINER(0.3f),
+    FOOD_GROWER(0.05f),
+    WOODCUTTER(0f),
+    SMELTER(0.4f);
+
+    /** Default pollution per second while operating. */
+    public final float defaultPollutionRate;
+
+    BuildingType(float defaultPollutionRate) {
+        this.defaultPollutionRate = defaultPollutionRate;
+    }
+
+    /** Parses a saved or hand-written name; accepts the old "FOODGROWER" spelling and any case. */
+    public static BuildingType fromName(String name) {
+        if (name == null) throw new IllegalArgumentException("Building type name is null");
+        String normalized = name.trim().toUpperCase();
+        if (normalized.equals("FOODGROWER")) return FOOD_GROWER;
+        return valueOf(normalized);
+    }
+}
@@ -5,13 +5,21 @@ package com.haraldsson.syntropy.entities;
  * Drives AI priority for rest, speed penalty, mood offsets.
  */
 public enum EnergyCategory {
-    RESTED, TIRED, EXHAUSTED, COLLAPSED;
+    RESTED(0.6f), TIRED(0.3f), EXHAUSTED(0.1f), COLLAPSED(Float.NEGATIVE_INFINITY);
+
+    private static final EnergyCategory[] TIERS = values();
+
+    /** Levels strictly above this (and below the previous tier's bound) fall in this tier. */
+    public final float lowerBound;
+
+    EnergyCategory(float lowerBound) {
+        this.lowerBound = lowerBound;
+    }
 
     public static EnergyCategory fromLevel(float level) {
-        if (level > 0.6f) return RESTED;
-        if (level > 0.3f) return TIRED;
-        if (level > 0.1f) return EXHAUSTED;
+        for (EnergyCategory c : TIERS) {
+            if (level > c.lowerBound) return c;
+        }
         return COLLAPSED;
     }
 }
-
@@ -5,13 +5,21 @@ package com.haraldsson.syntropy.entities;
  * Drives AI priority, speed, efficiency, and mood offsets.
  */
 public enum HungerCategory {
-    FED, HUNGRY, URGENTLY_HUNGRY, STARVING;
+    FED(0.6f), HUNGRY(0.3f), URGENTLY_HUNGRY(0.1f), STARVING(Float.NEGATIVE_INFINITY);
+
+    private static final HungerCategory[] TIERS = values();
+
+    /** Levels strictly above this (and below the previous tier's bound) fall in this tier. */
+    public final float lowerBound;
+
+    HungerCategory(float lowerBound) {
+        this.lowerBound = lowerBound;
+    }
 
     public static HungerCategory fromLevel(float level) {
-        if (level > 0.6f) return FED;
-        if (level > 0.3f) return HUNGRY;
-        if (level > 0.1f) return URGENTLY_HUNGRY;
+        for (HungerCategory c : TIERS) {
+            if (level > c.lowerBound) return c;
+        }
         return STARVING;
     }
 }
-
@@ -0,0 +1,81 @@
+package com.haraldsson.syntropy.entities;
+
+import java.util.Arrays;
+
+/**
+ * Compact item store: one count per ItemType, indexed by ordinal.
+ * Used for ground tiles and building buffers — Item objects are only
+ * materialised by take()/takeAny() when something actually carries one.
+ */
+public class ItemStacks {
+    private static final ItemType[] TYPES = ItemType.values();
+
+    private final int[] counts = new int[TYPES.length];
+    private int total;
+
+    public void add(ItemType type) {
+        add(type, 1);
+    }
+
+    public void add(ItemType type, int amount) {
+        if (amount < 0) throw new IllegalArgumentException("amount must be >= 0: " + amount);
+        counts[type.ordinal()] += amount;
+        total += amount;
+    }
+
+    public void add(Item item) {
+        add(item.getType(), 1);
+    }
+
+    /** Removes one item of the given type and returns it, or null if none is stored. */
+    public Item take(ItemType type) {
+        if (counts[type.ordinal()] == 0) return null;
+        counts[type.ordinal()]--;
+        total--;
+        return new Item(type);
+    }
+
+    /** Removes up to {@code amount} items of the given type; returns how many were removed. */
+    public int remove(ItemType type, int amount) {
+        int n = Math.min(amount, counts[type.ordinal()]);
+        counts[type.ordinal()] -= n;
+        total -= n;
+        return n;
+    }
+
+    /** Removes one item of the first stocked type (ItemType order), or null if empty. */
+    public Item takeAny() {
+        ItemType type = firstType();
+        return type == null ? null : take(type);
+    }
+
+    /** First stocked type in ItemType order, or null if empty. */
+    public ItemType firstType() {
+        if (total == 0) return null;
+        for (ItemType type : TYPES) {
+            if (counts[type.ordinal()] > 0) return type;
+        }
+        return null;
+    }
+
+    public int count(ItemType type) {
+        return counts[type.ordinal()];
+    }
+
+    public boolean has(ItemType type) {
+        return counts[type.ordinal()] > 0;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        total = 0;
+    }
+}
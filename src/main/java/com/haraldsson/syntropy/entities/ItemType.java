@@ -3,6 +3,7 @@ package com.haraldsson.syntropy.entities;
 public enum ItemType {
     STONE,
     FOOD,
-    WOOD
+    WOOD,
+    METAL
 }
 
@@ -0,0 +1,101 @@
+package com.haraldsson.syntropy.entities;
+
+import java.util.Map;
+
+/**
+ * One production step: consumes inputs from a building's input buffer and puts
+ * outputs in its output buffer after {@code duration} seconds. Amounts are stored
+ * per ItemType ordinal, matching ItemStacks, and also as compact (type, amount)
+ * lists so per-cycle checks only touch the types the recipe actually uses.
+ * Recipes without inputs are sources (miners, growers, woodcutters).
+ */
+public final class Recipe {
+    private static final ItemType[] TYPES = ItemType.values();
+
+    private final String id;
+    private final BuildingType building;
+    private final int[] inputs = new int[TYPES.length];
+    private final int[] outputs = new int[TYPES.length];
+    private final ItemType[] inputTypes;
+    private final int[] inputAmounts;
+    private final ItemType[] outputTypes;
+    private final int[] outputAmounts;
+    private final int outputTotal;
+    private final ItemType primaryOutput;
+    private final boolean hasInputs;
+    private final float duration;       // seconds per cycle
+    private final float power;          // power draw while running (no grid yet — informational)
+    private final float pollutionRate;  // pollution per second while running
+
+    public Recipe(String id, BuildingType building, Map<ItemType, Integer> inputs, Map<ItemType, Integer> outputs,
+                  float duration, float power, float pollutionRate) {
+        if (outputs.isEmpty()) throw new IllegalArgumentException("Recipe " + id + " has no outputs");
+        this.id = id;
+        this.building = building;
+        this.duration = duration;
+        this.power = power;
+        this.pollutionRate = pollutionRate;
+        inputs.forEach((type, n) -> this.inputs[type.ordinal()] = n);
+        outputs.forEach((type, n) -> this.outputs[type.ordinal()] = n);
+        this.inputTypes = typesOf(this.inputs);
+        this.inputAmounts = amountsOf(this.inputs);
+        this.outputTypes = typesOf(this.outputs);
+        this.outputAmounts = amountsOf(this.outputs);
+        int total = 0;
+        for (int n : outputAmounts) total += n;
+        this.outputTotal = total;
+        this.primaryOutput = outputTypes[0];
+        this.hasInputs = inputTypes.length > 0;
+    }
+
+    private static ItemType[] typesOf(int[] perOrdinal) {
+        int n = 0;
+        for (int a : perOrdinal) if (a > 0) n++;
+        ItemType[] types = new ItemType[n];
+        n = 0;
+        for (int i = 0; i < perOrdinal.length; i++) if (perOrdinal[i] > 0) types[n++] = TYPES[i];
+        return types;
+    }
+
+    private static int[] amountsOf(int[] perOrdinal) {
+        int n = 0;
+        for (int a : perOrdinal) if (a > 0) n++;
+        int[] amounts = new int[n];
+        n = 0;
+        for (int a : perOrdinal) if (a > 0) amounts[n++] = a;
+        return amounts;
+    }
+
+    /** True when {@code buffer} holds at least one cycle's worth of every input. */
+    public boolean canRun(ItemStacks buffer) {
+        for (int i = 0; i < inputTypes.length; i++) {
+            if (buffer.count(inputTypes[i]) < inputAmounts[i]) return false;
+        }
+        return true;
+    }
+
+    /** Removes one cycle's inputs. Caller checks canRun first. */
+    public void consume(ItemStacks buffer) {
+        for (int i = 0; i < inputTypes.length; i++) buffer.remove(inputTypes[i], inputAmounts[i]);
+    }
+
+    public String getId() { return id; }
+    public BuildingType getBuilding() { return building; }
+    public int getInput(ItemType type) { return inputs[type.ordinal()]; }
+    public int getOutput(ItemType type) { return outputs[type.ordinal()]; }
+    public int getOutputTotal() { return outputTotal; }
+    /** Number of distinct output types; index them with getOutputType/getOutputAmount. */
+    public int getOutputKinds() { return outputTypes.length; }
+    public ItemType getOutputType(int kind) { return outputTypes[kind]; }
+    public int getOutputAmount(int kind) { return outputAmounts[kind]; }
+    public ItemType getPrimaryOutput() { return primaryOutput; }
+    public boolean hasInputs() { return hasInputs; }
+    public float getDuration() { return duration; }
+    public float getPower() { return power; }
+    public float getPollutionRate() { return pollutionRate; }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
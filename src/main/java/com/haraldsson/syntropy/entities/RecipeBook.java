@@ -0,0 +1,116 @@
+package com.haraldsson.syntropy.entities;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All known recipes, by id and by the building that runs them by default.
+ * Loaded from /data/recipes.txt on the classpath — see that file for the format.
+ * The id is what gets saved, so don't rename existing entries.
+ */
+public final class RecipeBook {
+    public static final String RESOURCE = "/data/recipes.txt";
+
+    private static final Map<String, Recipe> BY_ID = new LinkedHashMap<>();
+    private static final Map<BuildingType, Recipe> DEFAULTS = new EnumMap<>(BuildingType.class);
+
+    static {
+        InputStream in = RecipeBook.class.getResourceAsStream(RESOURCE);
+        if (in == null) throw new IllegalStateException("Missing recipe data: " + RESOURCE);
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            for (Recipe recipe : parse(reader, RESOURCE)) register(recipe);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + RESOURCE, e);
+        }
+    }
+
+    // Recipes the code refers to directly; they must be present in the data file
+    public static final Recipe MINE_STONE = require("mine_stone");
+    public static final Recipe GROW_FOOD = require("grow_food");
+    public static final Recipe CUT_WOOD = require("cut_wood");
+    public static final Recipe SMELT_METAL = require("smelt_metal");
+
+    private RecipeBook() {}
+
+    private static void register(Recipe recipe) {
+        if (BY_ID.putIfAbsent(recipe.getId(), recipe) != null) {
+            throw new IllegalStateException("Duplicate recipe id: " + recipe.getId());
+        }
+        DEFAULTS.putIfAbsent(recipe.getBuilding(), recipe);
+    }
+
+    private static Recipe require(String id) {
+        Recipe recipe = BY_ID.get(id);
+        if (recipe == null) throw new IllegalStateException(RESOURCE + " has no recipe '" + id + "'");
+        return recipe;
+    }
+
+    /**
+     * Parses recipe lines: {@code id building inputs outputs seconds power [pollution]}.
+     * Blank lines and lines starting with '#' are skipped.
+     * @param source name used in error messages
+     * @throws IllegalStateException on a malformed line, naming the source and line number
+     */
+    public static List<Recipe> parse(Reader reader, String source) throws IOException {
+        List<Recipe> recipes = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        int lineNo = 0;
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            lineNo++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] f = line.split("\\s+");
+            if (f.length != 6 && f.length != 7) {
+                throw new IllegalStateException(source + ":" + lineNo + ": expected 6 or 7 fields, got " + f.length);
+            }
+            try {
+                BuildingType building = BuildingType.fromName(f[1]);
+                float pollution = f.length == 7 ? Float.parseFloat(f[6]) : building.defaultPollutionRate;
+                recipes.add(new Recipe(f[0], building, amounts(f[2]), amounts(f[3]),
+                        Float.parseFloat(f[4]), Float.parseFloat(f[5]), pollution));
+            } catch (IllegalArgumentException e) { // includes NumberFormatException and bad enum names
+                throw new IllegalStateException(source + ":" + lineNo + ": " + e.getMessage(), e);
+            }
+        }
+        return recipes;
+    }
+
+    /** "STONE:2+WOOD:1" → {STONE=2, WOOD=1}; "-" → empty. */
+    private static Map<ItemType, Integer> amounts(String field) {
+        Map<ItemType, Integer> map = new EnumMap<>(ItemType.class);
+        if (field.equals("-")) return map;
+        for (String pair : field.split("\\+")) {
+            int colon = pair.indexOf(':');
+            if (colon < 0) throw new IllegalArgumentException("expected TYPE:amount, got '" + pair + "'");
+            int n = Integer.parseInt(pair.substring(colon + 1));
+            if (n <= 0) throw new IllegalArgumentException("amount must be positive in '" + pair + "'");
+            map.merge(ItemType.valueOf(pair.substring(0, colon).trim().toUpperCase()), n, Integer::sum);
+        }
+        return map;
+    }
+
+    /** Recipe by saved id, or null if unknown. */
+    public static Recipe get(String id) {
+        return id == null ? null : BY_ID.get(id);
+    }
+
+    /** The recipe a newly placed building of this type runs, or null if it has none. */
+    public static Recipe defaultFor(BuildingType type) {
+        return DEFAULTS.get(type);
+    }
+
+    public static Collection<Recipe> all() {
+        return Collections.unmodifiableCollection(BY_ID.values());
+    }
+}
@@ -9,6 +9,7 @@ public enum TaskType {
     HAULING,
     RESTING,
     WANDER,
-    SOCIALIZING
+    SOCIALIZING,
+    RESEARCHING
 }
 
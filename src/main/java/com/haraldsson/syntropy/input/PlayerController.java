@@ -12,6 +12,7 @@ import com.haraldsson.syntropy.entities.EnergyCategory;
 import com.haraldsson.syntropy.entities.HungerCategory;
 import com.haraldsson.syntropy.entities.Item;
 import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.StockpileIndex;
 import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.TerrainType;
 import com.haraldsson.syntropy.world.World;
@@ -124,9 +125,8 @@ public class PlayerController {
         if (Gdx.input.isKeyJustPressed(Input.Keys.F)) {
             if (needs.getHungerCategory() != HungerCategory.FED) {
                 // 1. Check stockpile first
-                Tile stockpile = world.getStockpileTile();
-                if (stockpile != null && stockpile.hasItem(ItemType.FOOD)) {
-                    stockpile.takeFirstItem(ItemType.FOOD);
+                PositionComponent leaderPos = leader.get(PositionComponent.class);
+                if (leaderPos != null && world.getStockpiles().take(ItemType.FOOD, 1, leaderPos.x, leaderPos.y) == 1) {
                     needs.eat();
                     showPickupMessage("Ate food");
                     return;
@@ -233,7 +233,7 @@ public class PlayerController {
                     }
                 }
 
-                if (!tile.getGroundItems().isEmpty() && tileDist < bestDist) {
+                if (tile.hasAnyItem() && tileDist < bestDist) {
                     bestDist = tileDist;
                     bestTile = tile;
                     bestBuilding = null;
@@ -249,8 +249,8 @@ public class PlayerController {
             showPickupMessage("Picked up " + item.getType().name() + " from " + bc.buildingType);
             return;
         }
-        if (bestTile != null && !bestIsBuilding && !bestTile.getGroundItems().isEmpty()) {
-            Item picked = bestTile.getGroundItems().remove(0);
+        if (bestTile != null && !bestIsBuilding && bestTile.hasAnyItem()) {
+            Item picked = bestTile.takeAnyItem();
             inv.carriedItem = picked;
             showPickupMessage("Picked up " + picked.getType().name());
             return;
@@ -287,17 +287,16 @@ public class PlayerController {
 
         if (tile.getBuildingEntity() != null) return;
 
-        Tile stockpile = world.getStockpileTile();
-        if (stockpile == null) return;
-        int woodCount = stockpile.countItems(ItemType.WOOD);
+        StockpileIndex stockpiles = world.getStockpiles();
+        if (stockpiles.isEmpty()) return;
+        int woodCount = stockpiles.count(ItemType.WOOD);
         if (woodCount < 3) {
             showPickupMessage("Need 3 Wood to place bed");
             return;
         }
 
-        for (int i = 0; i < 3; i++) {
-            stockpile.takeFirstItem(ItemType.WOOD);
-        }
+        // Pay from the zones nearest the bed site
+        stockpiles.take(ItemType.WOOD, 3, tileX + 0.5f, tileY + 0.5f);
 
         Entity bedEntity = ecsWorld.createEntity();
         bedEntity.add(new PositionComponent(tileX, tileY));
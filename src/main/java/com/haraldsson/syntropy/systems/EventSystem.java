@@ -5,8 +5,10 @@ import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.HealthComponent;
 import com.haraldsson.syntropy.ecs.components.IdentityComponent;
 import com.haraldsson.syntropy.ecs.components.NeedsComponent;
-import com.haraldsson.syntropy.entities.Item;
 import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.StockpileIndex;
+import com.haraldsson.syntropy.world.StockpileZone;
+import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.World;
 
 import java.util.ArrayList;
@@ -53,10 +55,10 @@ public class EventSystem {
     }
 
     private void eventFoodBlessing(World world) {
-        if (world.getStockpileTile() != null) {
-            for (int i = 0; i < 3; i++) {
-                world.getStockpileTile().addItem(new Item(ItemType.FOOD));
-            }
+        StockpileIndex stockpiles = world.getStockpiles();
+        Tile anchor = stockpiles.firstTile();
+        if (anchor != null) {
+            stockpiles.add(ItemType.FOOD, 3, anchor.getX() + 0.5f, anchor.getY() + 0.5f);
         }
         log("EVENT: Bountiful harvest! 3 food added to stockpile.");
     }
@@ -64,7 +66,7 @@ public class EventSystem {
     private void eventHeatWave(List<Entity> alive) {
         for (Entity e : alive) {
             NeedsComponent n = e.get(NeedsComponent.class);
-            n.hunger = Math.max(0, n.hunger - 0.15f);
+            n.setHunger(n.getHunger() - 0.15f);
         }
         log("EVENT: Heat wave! All colonists lost hunger.");
     }
@@ -73,14 +75,21 @@ public class EventSystem {
         // With decoupled mood (Pattern 2), this now provides a health/energy bump
         for (Entity e : alive) {
             NeedsComponent n = e.get(NeedsComponent.class);
-            n.energy = Math.min(1f, n.energy + 0.1f);
+            n.setEnergy(n.getEnergy() + 0.1f);
         }
         log("EVENT: Beautiful sunset. All colonists feel refreshed.");
     }
 
     private void eventFoodSpoilage(World world) {
-        if (world.getStockpileTile() != null) {
-            world.getStockpileTile().takeFirstItem(ItemType.FOOD);
+        StockpileIndex stockpiles = world.getStockpiles();
+        if (stockpiles.count(ItemType.FOOD) > 0) {
+            // Spoils in whichever zone holds the most food
+            StockpileZone worst = null;
+            for (StockpileZone zone : stockpiles.getZones()) {
+                if (worst == null || zone.count(ItemType.FOOD) > worst.count(ItemType.FOOD)) worst = zone;
+            }
+            Tile tile = worst.nearestTileHolding(ItemType.FOOD, 0f, 0f);
+            if (tile != null) tile.takeFirstItem(ItemType.FOOD);
         }
         log("EVENT: Food spoilage! 1 food lost from stockpile.");
     }
@@ -88,7 +97,7 @@ public class EventSystem {
     private void eventExhaustion(List<Entity> alive) {
         Entity target = alive.get(random.nextInt(alive.size()));
         NeedsComponent n = target.get(NeedsComponent.class);
-        n.energy = Math.max(0, n.energy - 0.25f);
+        n.setEnergy(n.getEnergy() - 0.25f);
         IdentityComponent id = target.get(IdentityComponent.class);
         String name = id != null ? id.name : "A colonist";
         log("EVENT: " + name + " feels exhausted! Lost 25 energy.");
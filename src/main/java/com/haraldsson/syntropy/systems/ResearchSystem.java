@@ -2,24 +2,85 @@ package com.haraldsson.syntropy.systems;
 
 import com.haraldsson.syntropy.core.EventType;
 import com.haraldsson.syntropy.core.GameEvents;
+import com.haraldsson.syntropy.core.ResearchCompleted;
+import com.haraldsson.syntropy.core.SaveData;
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.LeaderComponent;
+import com.haraldsson.syntropy.ecs.components.SkillsComponent;
+import com.haraldsson.syntropy.entities.TaskType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 5-era tech tree with prerequisite enforcement.
  * Research progresses passively over time once started.
  * Unlocked techs enable new buildings or mechanics.
+ *
+ * The tree is compiled once: each tech gets an integer id (its position in
+ * tree order), a BitSet of prerequisite ids and a list of dependents. Unlock
+ * state is a BitSet, and the "available" frontier — not completed, every
+ * prerequisite completed — is maintained as techs complete, by counting down
+ * each dependent's missing prerequisites. Lookups and availability checks are
+ * O(1), a completion is O(out-degree), and "next in tree order" is the
+ * frontier's first set bit.
+ *
+ * Up to maxConcurrentProjects techs are researched at once. Free slots are
+ * filled from the player's queue, in order, as queued techs become available.
+ * Each tick the colony's scientists (living non-leaders whose current task is
+ * RESEARCHING — set by ThinkNode_DoAssignedJob for RESEARCHER work) are dealt
+ * round-robin over the active projects; a scientist adds SCIENTIST_RATE
+ * research-seconds per second, plus SKILL_BONUS per level of the "research"
+ * skill, and the leader's science stat multiplies the lot. So throughput
+ * grows with every scientist, like production grows with every building.
+ * With nobody assigned the head project still advances at UNSTAFFED_RATE,
+ * the old single-project pace.
+ *
+ * Progress, completion, the active projects and the queue are all plain ids
+ * and numbers (saveState/loadState), so research survives save/load.
  */
 public class ResearchSystem {
+    public static final float SCIENTIST_RATE = 1f;
+    public static final float SKILL_BONUS = 0.2f;
+    public static final float UNSTAFFED_RATE = 1f;
+    public static final String RESEARCH_SKILL = "research";
+
     private final List<Technology> techTree = new ArrayList<>();
-    private Technology currentResearch;
+    private final List<Technology> active = new ArrayList<>();   // projects in progress, oldest first
+    private final List<String> queue = new ArrayList<>();        // tech ids waiting for a slot
+    private int maxConcurrentProjects = 2;
     private final GameEvents events;
+    private float[] projectRates = new float[4];
+    private float lastRate;
+    private int lastScientists;
+
+    // Compiled tree
+    private final Map<String, Integer> indexById = new HashMap<>();
+    private BitSet[] prerequisiteMasks;
+    private int[][] dependents;
+    private int[] missingPrerequisites;
+    private final BitSet completed = new BitSet();
+    private final BitSet available = new BitSet();
 
     public ResearchSystem(GameEvents events) {
         this.events = events;
         buildTechTree();
+        compile();
+    }
+
+    /** A system over a custom tree (mods, tests). Prerequisites must name techs in the list. */
+    public ResearchSystem(GameEvents events, List<Technology> techs) {
+        this.events = events;
+        techTree.addAll(techs);
+        compile();
     }
 
     /** Legacy no-arg constructor for save/load compatibility (no event firing). */
@@ -65,62 +126,323 @@ public class ResearchSystem {
         techTree.add(new Technology("new_world_colonization", "New World Colonization",   "Establish a self-sustaining colony on a new planet", 360f, 5, prereqs("planetary_stewardship")));
     }
 
-    public void update(float delta) {
-        if (currentResearch != null && !currentResearch.isUnlocked()) {
-            currentResearch.addProgress(delta);
-            if (currentResearch.isUnlocked()) {
-                String techName = currentResearch.getName();
-                if (events != null) {
-                    events.fire(EventType.RESEARCH_COMPLETED, techName);
+    /** Assigns integer ids and builds the prerequisite masks, dependents and initial frontier. */
+    private void compile() {
+        int n = techTree.size();
+        for (int i = 0; i < n; i++) {
+            Technology tech = techTree.get(i);
+            if (indexById.putIfAbsent(tech.getId(), i) != null) {
+                throw new IllegalStateException("Duplicate tech id: " + tech.getId());
+            }
+            tech.setIndex(i);
+        }
+        prerequisiteMasks = new BitSet[n];
+        missingPrerequisites = new int[n];
+        int[] outDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            BitSet mask = new BitSet(n);
+            for (String prereqId : techTree.get(i).getPrerequisites()) {
+                Integer p = indexById.get(prereqId);
+                if (p == null) {
+                    throw new IllegalStateException("Tech " + techTree.get(i).getId() + " requires unknown tech " + prereqId);
                 }
+                if (!mask.get(p)) outDegree[p]++;
+                mask.set(p);
+            }
+            prerequisiteMasks[i] = mask;
+        }
+        dependents = new int[n][];
+        for (int i = 0; i < n; i++) dependents[i] = new int[outDegree[i]];
+        int[] fill = new int[n];
+        for (int i = 0; i < n; i++) {
+            BitSet mask = prerequisiteMasks[i];
+            for (int p = mask.nextSetBit(0); p >= 0; p = mask.nextSetBit(p + 1)) {
+                dependents[p][fill[p]++] = i;
+            }
+        }
+        recomputeUnlockState();
+    }
+
+    /** Re-derives the unlock BitSet and frontier from the techs' own flags — after load or external edits. */
+    public void rebuildUnlockState() {
+        recomputeUnlockState();
+    }
+
+    // Private so the constructors (via compile) never call an overridable method
+    private void recomputeUnlockState() {
+        completed.clear();
+        available.clear();
+        for (int i = 0; i < techTree.size(); i++) {
+            if (techTree.get(i).isUnlocked()) completed.set(i);
+        }
+        for (int i = 0; i < techTree.size(); i++) {
+            BitSet missing = (BitSet) prerequisiteMasks[i].clone();
+            missing.andNot(completed);
+            missingPrerequisites[i] = missing.cardinality();
+            if (!completed.get(i) && missingPrerequisites[i] == 0) available.set(i);
+        }
+    }
+
+    /** Marks a tech completed and advances the frontier over its dependents. */
+    private void onCompleted(int index) {
+        if (completed.get(index)) return;
+        completed.set(index);
+        available.clear(index);
+        for (int d : dependents[index]) {
+            if (--missingPrerequisites[d] == 0 && !completed.get(d)) available.set(d);
+        }
+    }
+
+    /** Advances research without colony information: only the head project moves, at UNSTAFFED_RATE. */
+    public void update(float delta) {
+        fillSlots();
+        if (active.isEmpty()) return;
+        ensureRates();
+        Arrays.fill(projectRates, 0, active.size(), 0f);
+        projectRates[0] = UNSTAFFED_RATE;
+        lastScientists = 0;
+        advance(delta);
+    }
+
+    /** Advances every active project at the rate of the scientists assigned to it. */
+    public void update(ECSWorld ecsWorld, float delta) {
+        fillSlots();
+        if (active.isEmpty()) return;
+        ensureRates();
+        int projects = active.size();
+        Arrays.fill(projectRates, 0, projects, 0f);
+
+        int scientists = 0;
+        for (Entity e : ecsWorld.getEntitiesWith(AIComponent.class, HealthComponent.class)) {
+            if (e.get(HealthComponent.class).dead || e.has(LeaderComponent.class)) continue;
+            if (e.get(AIComponent.class).taskType != TaskType.RESEARCHING) continue; // eating, sleeping, hauling…
+            SkillsComponent skills = e.get(SkillsComponent.class);
+            int level = skills != null ? skills.getSkill(RESEARCH_SKILL) : 0;
+            projectRates[scientists % projects] += SCIENTIST_RATE * (1f + SKILL_BONUS * level);
+            scientists++;
+        }
+        if (scientists == 0) projectRates[0] = UNSTAFFED_RATE;
+        lastScientists = scientists;
+
+        float multiplier = 1f;
+        for (Entity e : ecsWorld.getEntitiesWith(LeaderComponent.class)) {
+            HealthComponent health = e.get(HealthComponent.class);
+            if (health != null && health.dead) continue;
+            multiplier += e.get(LeaderComponent.class).getResearchBonus();
+            break;
+        }
+        for (int i = 0; i < projects; i++) projectRates[i] *= multiplier;
+        advance(delta);
+    }
+
+    /** True while at least one project is in progress — RESEARCHER pawns only work then. */
+    public boolean hasActiveProjects() {
+        return !active.isEmpty();
+    }
+
+    private void ensureRates() {
+        if (projectRates.length < active.size()) projectRates = new float[active.size()];
+    }
+
+    /** Applies projectRates to the active projects; completed ones free their slot for the queue. */
+    private void advance(float delta) {
+        float total = 0f;
+        List<Technology> finished = null;
+        for (int i = 0; i < active.size(); i++) {
+            Technology tech = active.get(i);
+            total += projectRates[i];
+            tech.addProgress(projectRates[i] * delta);
+            if (tech.isUnlocked()) {
+                if (finished == null) finished = new ArrayList<>();
+                finished.add(tech);
+            }
+        }
+        lastRate = total;
+        if (finished == null) return;
+        active.removeAll(finished);
+        for (Technology tech : finished) {
+            onCompleted(tech.getIndex());
+            if (events != null) {
+                events.fire(EventType.RESEARCH_COMPLETED, new ResearchCompleted(tech.getId(), tech.getName()));
+            }
+        }
+        fillSlots();
+    }
+
+    /** Moves queued techs into free slots as they become available; drops queued techs already done. */
+    private void fillSlots() {
+        for (int q = 0; q < queue.size() && active.size() < maxConcurrentProjects; ) {
+            int index = indexOf(queue.get(q));
+            if (index < 0 || completed.get(index)) {
+                queue.remove(q);
+            } else if (available.get(index) && !active.contains(techTree.get(index))) {
+                active.add(techTree.get(index));
+                queue.remove(q);
+            } else {
+                q++;
             }
         }
     }
 
     /**
      * Start researching a specific tech by ID.
-     * Does nothing if already researching, already completed, or prerequisites unmet.
+     * Does nothing if every project slot is busy, or the tech is already
+     * completed, in progress or missing prerequisites — queue it instead.
      */
     public void startResearch(String techId) {
-        if (currentResearch != null && !currentResearch.isUnlocked()) {
-            return; // already in progress
+        if (active.size() >= maxConcurrentProjects) return; // all slots in progress
+        int index = indexOf(techId);
+        if (index >= 0 && available.get(index) && !active.contains(techTree.get(index))) {
+            active.add(techTree.get(index));
         }
-        for (Technology tech : techTree) {
-            if (tech.getId().equals(techId) && !tech.isUnlocked() && prerequisitesMet(tech)) {
-                currentResearch = tech;
+    }
+
+    /** Start researching the next available tech in tree order (era-ascending), if a slot is free. */
+    public void startNextResearch() {
+        if (active.size() >= maxConcurrentProjects) return; // already researching
+        for (int i = available.nextSetBit(0); i >= 0; i = available.nextSetBit(i + 1)) {
+            if (!active.contains(techTree.get(i))) {
+                active.add(techTree.get(i));
                 return;
             }
         }
     }
 
-    /** Start researching the next available tech in tree order (era-ascending). */
-    public void startNextResearch() {
-        if (currentResearch != null && !currentResearch.isUnlocked()) {
-            return; // already researching
+    /**
+     * Adds a tech to the end of the research queue. Techs with unmet
+     * prerequisites wait there until they become available. Returns false for
+     * unknown, completed, active or already queued techs.
+     */
+    public boolean enqueue(String techId) {
+        int index = indexOf(techId);
+        if (index < 0 || completed.get(index) || queue.contains(techId) || active.contains(techTree.get(index))) {
+            return false;
+        }
+        queue.add(techId);
+        fillSlots();
+        return true;
+    }
+
+    public boolean dequeue(String techId) {
+        return queue.remove(techId);
+    }
+
+    public List<String> getQueue() {
+        return Collections.unmodifiableList(queue);
+    }
+
+    public List<Technology> getActiveProjects() {
+        return Collections.unmodifiableList(active);
+    }
+
+    public int getMaxConcurrentProjects() {
+        return maxConcurrentProjects;
+    }
+
+    public void setMaxConcurrentProjects(int max) {
+        if (max < 1) throw new IllegalArgumentException("Need at least one research slot, got " + max);
+        maxConcurrentProjects = max;
+        fillSlots();
+    }
+
+    /** Research-seconds per second across all projects on the last update. */
+    public float getResearchRate() {
+        return lastRate;
+    }
+
+    /** Scientists counted on the last colony update. */
+    public int getScientistCount() {
+        return lastScientists;
+    }
+
+    // ── Save/load ──
+
+    public SaveData.ResearchData saveState() {
+        SaveData.ResearchData data = new SaveData.ResearchData();
+        for (Technology tech : techTree) {
+            if (tech.isUnlocked()) {
+                data.completed.add(tech.getId());
+            } else if (tech.getProgress() > 0f) {
+                data.progress.put(tech.getId(), tech.getProgress());
+            }
         }
+        for (Technology tech : active) data.active.add(tech.getId());
+        data.queue.addAll(queue);
+        data.maxConcurrentProjects = maxConcurrentProjects;
+        return data;
+    }
+
+    /** Restores a saved state; ids this tree doesn't know (removed mods) are skipped. */
+    public void loadState(SaveData.ResearchData data) {
+        if (data == null) return;
         for (Technology tech : techTree) {
-            if (!tech.isUnlocked() && prerequisitesMet(tech)) {
-                currentResearch = tech;
-                return;
+            tech.setUnlocked(false);
+            tech.setProgress(0f);
+        }
+        active.clear();
+        queue.clear();
+        for (String id : orEmpty(data.completed)) {
+            int index = indexOf(id);
+            if (index < 0) continue;
+            Technology tech = techTree.get(index);
+            tech.setProgress(tech.getResearchTime());
+            tech.setUnlocked(true);
+        }
+        if (data.progress != null) {
+            for (Map.Entry<String, Float> entry : data.progress.entrySet()) {
+                int index = indexOf(entry.getKey());
+                if (index >= 0 && !techTree.get(index).isUnlocked()) techTree.get(index).setProgress(entry.getValue());
             }
         }
+        rebuildUnlockState();
+        if (data.maxConcurrentProjects >= 1) maxConcurrentProjects = data.maxConcurrentProjects;
+        for (String id : orEmpty(data.active)) {
+            int index = indexOf(id);
+            if (index >= 0 && available.get(index) && active.size() < maxConcurrentProjects) active.add(techTree.get(index));
+        }
+        for (String id : orEmpty(data.queue)) {
+            if (indexOf(id) >= 0 && !queue.contains(id)) queue.add(id);
+        }
+        fillSlots();
+    }
+
+    private static List<String> orEmpty(List<String> ids) {
+        return ids != null ? ids : List.of();
     }
 
     /** Returns true if all prerequisites for the given tech are completed. */
     public boolean prerequisitesMet(Technology tech) {
-        for (String prereqId : tech.getPrerequisites()) {
-            if (!isCompleted(prereqId)) return false;
+        int index = tech.getIndex();
+        if (index < 0 || index >= techTree.size() || techTree.get(index) != tech) {
+            index = indexOf(tech.getId()); // a tech object from outside this tree
         }
-        return true;
+        return index >= 0 && missingPrerequisites[index] == 0;
     }
 
     public boolean isCompleted(String techId) {
-        for (Technology tech : techTree) {
-            if (tech.getId().equals(techId) && tech.isUnlocked()) {
-                return true;
-            }
+        int index = indexOf(techId);
+        return index >= 0 && completed.get(index);
+    }
+
+    /** True if the tech can be started now: not completed and every prerequisite done. */
+    public boolean isAvailable(String techId) {
+        int index = indexOf(techId);
+        return index >= 0 && available.get(index);
+    }
+
+    /** Integer id of a tech, or -1 if unknown. */
+    public int indexOf(String techId) {
+        Integer index = techId == null ? null : indexById.get(techId);
+        return index != null ? index : -1;
+    }
+
+    /** The current frontier, in tree order. */
+    public List<Technology> getAvailable() {
+        List<Technology> result = new ArrayList<>(available.cardinality());
+        for (int i = available.nextSetBit(0); i >= 0; i = available.nextSetBit(i + 1)) {
+            result.add(techTree.get(i));
         }
-        return false;
+        return result;
     }
 
     /** @deprecated Use {@link #isCompleted(String)} instead. */
@@ -129,8 +451,9 @@ public class ResearchSystem {
         return isCompleted(techId);
     }
 
+    /** The oldest active project, or null if nothing is being researched. */
     public Technology getCurrentResearch() {
-        return currentResearch;
+        return active.isEmpty() ? null : active.get(0);
     }
 
     public List<Technology> getTechTree() {
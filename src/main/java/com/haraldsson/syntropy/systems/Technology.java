@@ -14,6 +14,7 @@ public class Technology {
     private final List<String> prerequisites; // tech IDs that must be completed first
     private float progress;           // seconds accumulated
     private boolean unlocked;
+    private transient int index = -1; // position in the compiled tree, assigned by ResearchSystem
 
     public Technology(String id, String name, String description, float researchTime) {
         this(id, name, description, researchTime, 1, List.of());
@@ -51,8 +52,11 @@ public class Technology {
     public float getProgress() { return progress; }
     public boolean isUnlocked() { return unlocked; }
     public boolean isCompleted() { return unlocked; }
+    /** Integer id within its ResearchSystem's tree, or -1 if not part of one. */
+    public int getIndex() { return index; }
 
     public void setProgress(float progress) { this.progress = progress; }
     public void setUnlocked(boolean unlocked) { this.unlocked = unlocked; }
+    void setIndex(int index) { this.index = index; }
 }
 
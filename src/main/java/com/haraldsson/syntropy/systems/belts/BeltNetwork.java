@@ -0,0 +1,51 @@
+package com.haraldsson.syntropy.systems.belts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** All belt segments and inserters in a world. Updated by BeltSystem. */
+public class BeltNetwork {
+    private final List<BeltSegment> segments = new ArrayList<>();
+    private final List<Inserter> inserters = new ArrayList<>();
+
+    public BeltSegment addSegment(int startX, int startY, BeltSegment.Direction direction, int lengthTiles) {
+        BeltSegment segment = new BeltSegment(startX, startY, direction, lengthTiles);
+        segments.add(segment);
+        return segment;
+    }
+
+    public Inserter addInserter(Inserter inserter) {
+        inserters.add(inserter);
+        return inserter;
+    }
+
+    public void removeSegment(BeltSegment segment) {
+        segments.remove(segment);
+        inserters.removeIf(ins -> ins.getBelt() == segment);
+        for (BeltSegment s : segments) {
+            if (s.getNext() == segment) s.setSink(null);
+        }
+    }
+
+    public void update(float delta) {
+        for (int i = 0, n = inserters.size(); i < n; i++) {
+            inserters.get(i).update(delta);
+        }
+        for (int i = 0, n = segments.size(); i < n; i++) {
+            segments.get(i).update(delta);
+        }
+    }
+
+    public List<BeltSegment> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    public List<Inserter> getInserters() {
+        return Collections.unmodifiableList(inserters);
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+}
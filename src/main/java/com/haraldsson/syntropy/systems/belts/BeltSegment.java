@@ -0,0 +1,209 @@
+package com.haraldsson.syntropy.systems.belts;
+
+import com.haraldsson.syntropy.entities.ItemType;
+
+/**
+ * A straight run of conveyor belt. Items are not objects: the segment stores a
+ * ring buffer of (item type, gap) pairs, front first, where gap is the free
+ * distance in front of each item (to the belt end for the first item, to the
+ * previous item's back otherwise). Distances are fixed-point, UNITS_PER_TILE
+ * per tile.
+ *
+ * Moving every item by the same step only changes gaps where items close up,
+ * so a tick touches the first still-moving item (activeIndex) and whatever
+ * compresses against it — O(1) amortised however long or full the belt is.
+ * Items enter at the tail and leave at the front into the sink.
+ */
+public class BeltSegment {
+    public static final int UNITS_PER_TILE = 256;
+    /** Item footprint along the belt — four items per tile when compressed. */
+    public static final int ITEM_SPACING = UNITS_PER_TILE / 4;
+    /** Default speed in tiles per second. */
+    public static final float DEFAULT_SPEED = 1.875f;
+
+    public enum Direction {
+        NORTH(0, 1), EAST(1, 0), SOUTH(0, -1), WEST(-1, 0);
+
+        public final int dx;
+        public final int dy;
+
+        Direction(int dx, int dy) {
+            this.dx = dx;
+            this.dy = dy;
+        }
+    }
+
+    private static final ItemType[] TYPES = ItemType.values();
+
+    private final int startX;
+    private final int startY;
+    private final Direction direction;
+    private final int lengthTiles;
+    private final int lengthUnits;
+    private final float speed; // units per second
+
+    // Ring buffer, logical index 0 = front (closest to the belt end)
+    private final byte[] types;
+    private final int[] gaps;
+    private int head;
+    private int count;
+    private int activeIndex;   // first item with gap > 0; == count when fully compressed
+    private int runEnd;        // while activeIndex == 0: items [1, runEnd) are known to have gap 0
+    private int tailFree;      // free units between the last item's back and the belt start
+    private float moveBudget;  // fractional units carried between ticks
+    private long visits;       // items examined by move() — see getVisitCount
+
+    private BeltSink sink;
+    private BeltSegment next;
+
+    public BeltSegment(int startX, int startY, Direction direction, int lengthTiles) {
+        this(startX, startY, direction, lengthTiles, DEFAULT_SPEED);
+    }
+
+    public BeltSegment(int startX, int startY, Direction direction, int lengthTiles, float tilesPerSecond) {
+        if (lengthTiles < 1) throw new IllegalArgumentException("Belt length must be >= 1: " + lengthTiles);
+        this.startX = startX;
+        this.startY = startY;
+        this.direction = direction;
+        this.lengthTiles = lengthTiles;
+        this.lengthUnits = lengthTiles * UNITS_PER_TILE;
+        this.speed = tilesPerSecond * UNITS_PER_TILE;
+        int capacity = lengthUnits / ITEM_SPACING;
+        this.types = new byte[capacity];
+        this.gaps = new int[capacity];
+        this.tailFree = lengthUnits;
+    }
+
+    /** Where items leave this segment. Null = items stop at the end. */
+    public void setSink(BeltSink sink) {
+        this.sink = sink;
+        this.next = null;
+    }
+
+    public BeltSink getSink() {
+        return sink;
+    }
+
+    /** Sink that feeds the tail of {@code next}. */
+    public void connectTo(BeltSegment next) {
+        this.sink = next::insert;
+        this.next = next;
+    }
+
+    /** Downstream segment set by connectTo, or null. */
+    public BeltSegment getNext() {
+        return next;
+    }
+
+    public boolean canInsert() {
+        return tailFree >= ITEM_SPACING;
+    }
+
+    /** Puts an item at the tail. Returns false when the tail is occupied. */
+    public boolean insert(ItemType type) {
+        if (!canInsert()) return false;
+        int gap = tailFree - ITEM_SPACING;
+        int slot = (head + count) % types.length;
+        types[slot] = (byte) type.ordinal();
+        gaps[slot] = gap;
+        if (activeIndex == count && gap == 0) activeIndex++; // joins the compressed block
+        count++;
+        tailFree = 0;
+        return true;
+    }
+
+    /** Advances every item by speed * delta and hands off the front item if it reached the end. */
+    public void update(float delta) {
+        moveBudget += speed * delta;
+        int step = (int) moveBudget;
+        moveBudget -= step;
+        if (step > 0) move(step);
+        deliver();
+    }
+
+    private void move(int step) {
+        if (count == 0) {
+            return;
+        }
+        // Items in front of activeIndex are stopped (gap 0). Each moving item wants
+        // to advance `step`; `deficit` is how much of that the item ahead didn't
+        // move, which eats into this item's gap.
+        int deficit = step;
+        int i = activeIndex;
+        while (i < count && deficit > 0) {
+            visits++;
+            int slot = (head + i) % gaps.length;
+            int shrink = Math.min(gaps[slot], deficit);
+            gaps[slot] -= shrink;
+            deficit -= shrink;
+            if (deficit > 0) i = skipRun(i); // this item closed up; the next one is held back too
+            else break;
+        }
+        if (count > activeIndex) tailFree += step - deficit;
+        while (activeIndex < count && gaps[(head + activeIndex) % gaps.length] == 0) {
+            visits++;
+            activeIndex = skipRun(activeIndex);
+        }
+    }
+
+    /** Next index that might have a gap — past the compressed run left behind the front by deliver(). */
+    private int skipRun(int i) {
+        return i == 0 && runEnd > 1 ? runEnd : i + 1;
+    }
+
+    private void deliver() {
+        if (count == 0 || sink == null || gaps[head] != 0) return;
+        if (!sink.offer(TYPES[types[head]])) return;
+        int next = (head + 1) % gaps.length;
+        head = next;
+        count--;
+        if (count == 0) {
+            tailFree = lengthUnits;
+            activeIndex = 0;
+            runEnd = 0;
+            return;
+        }
+        gaps[next] += ITEM_SPACING; // the next item now measures to the belt end
+        // The rest of the stopped block stays closed up behind the new front; remember
+        // where it ends so the next move doesn't rescan it.
+        runEnd = Math.max(1, activeIndex - 1);
+        activeIndex = 0;
+    }
+
+    public int getItemCount() {
+        return count;
+    }
+
+    /** Item types front to back. Allocates — for saves, rendering and tests. */
+    public ItemType[] getItems() {
+        ItemType[] out = new ItemType[count];
+        for (int i = 0; i < count; i++) out[i] = TYPES[types[(head + i) % types.length]];
+        return out;
+    }
+
+    /** Distance of item {@code i} (0 = front) from the belt start, in tiles. For rendering. */
+    public float getItemPosition(int i) {
+        int fromEnd = 0;
+        for (int k = 0; k <= i; k++) {
+            fromEnd += gaps[(head + k) % gaps.length];
+            if (k < i) fromEnd += ITEM_SPACING;
+        }
+        return (lengthUnits - fromEnd - ITEM_SPACING / 2f) / UNITS_PER_TILE;
+    }
+
+    /** Items examined while moving, since construction — for profiling and tests. */
+    public long getVisitCount() {
+        return visits;
+    }
+
+    public boolean isFull() {
+        return count == types.length;
+    }
+
+    public int getStartX() { return startX; }
+    public int getStartY() { return startY; }
+    public Direction getDirection() { return direction; }
+    public int getLengthTiles() { return lengthTiles; }
+    public int getEndX() { return startX + direction.dx * (lengthTiles - 1); }
+    public int getEndY() { return startY + direction.dy * (lengthTiles - 1); }
+}
@@ -0,0 +1,9 @@
+package com.haraldsson.syntropy.systems.belts;
+
+import com.haraldsson.syntropy.entities.ItemType;
+
+/** Receives the item at the front of a belt. Returning false leaves it on the belt. */
+@FunctionalInterface
+public interface BeltSink {
+    boolean offer(ItemType type);
+}
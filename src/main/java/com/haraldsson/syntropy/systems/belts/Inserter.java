@@ -0,0 +1,88 @@
+package com.haraldsson.syntropy.systems.belts;
+
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.entities.Item;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.StockpileIndex;
+
+/**
+ * Moves one item per swing between a belt end and a building or stockpile.
+ * Loading inserters pull from a building's output buffer onto a belt's tail;
+ * unloading inserters are the belt's sink and push into a building's input
+ * buffer or a stockpile.
+ */
+public class Inserter implements BeltSink {
+    public static final float SWING_TIME = 0.5f;
+
+    private final BeltSegment belt;
+    private final Entity building;          // source (loading) or target (unloading); null for stockpiles
+    private final StockpileIndex stockpile; // unloading into a stockpile
+    private final float x;
+    private final float y;
+    private final boolean loading;
+    private float cooldown;
+
+    private Inserter(BeltSegment belt, Entity building, StockpileIndex stockpile, float x, float y, boolean loading) {
+        this.belt = belt;
+        this.building = building;
+        this.stockpile = stockpile;
+        this.x = x;
+        this.y = y;
+        this.loading = loading;
+    }
+
+    /** Takes output from {@code building} and puts it on the tail of {@code belt}. */
+    public static Inserter loading(Entity building, BeltSegment belt) {
+        return new Inserter(belt, building, null, belt.getStartX(), belt.getStartY(), true);
+    }
+
+    /** Becomes the sink of {@code belt}, feeding {@code building}'s input buffer. */
+    public static Inserter unloading(BeltSegment belt, Entity building) {
+        Inserter ins = new Inserter(belt, building, null, belt.getEndX(), belt.getEndY(), false);
+        belt.setSink(ins);
+        return ins;
+    }
+
+    /** Becomes the sink of {@code belt}, dropping items into the nearest stockpile zone with room. */
+    public static Inserter unloadingToStockpile(BeltSegment belt, StockpileIndex stockpiles) {
+        Inserter ins = new Inserter(belt, null, stockpiles, belt.getEndX(), belt.getEndY(), false);
+        belt.setSink(ins);
+        return ins;
+    }
+
+    public void update(float delta) {
+        if (cooldown > 0f) cooldown -= delta;
+        if (!loading || cooldown > 0f || !belt.canInsert()) return;
+        BuildingComponent bc = building.get(BuildingComponent.class);
+        if (bc == null || !bc.hasOutput()) return;
+        Item item = bc.takeOutput();
+        if (item != null && belt.insert(item.getType())) cooldown = SWING_TIME;
+    }
+
+    @Override
+    public boolean offer(ItemType type) {
+        if (loading || cooldown > 0f) return false;
+        boolean accepted;
+        if (building != null) {
+            BuildingComponent bc = building.get(BuildingComponent.class);
+            accepted = bc != null && bc.addInput(type, 1) == 1;
+        } else {
+            accepted = stockpile.hasSpaceFor(type) && stockpile.add(type, 1, x, y) == 1;
+        }
+        if (accepted) cooldown = SWING_TIME;
+        return accepted;
+    }
+
+    public BeltSegment getBelt() {
+        return belt;
+    }
+
+    public Entity getBuilding() {
+        return building;
+    }
+
+    public boolean isLoading() {
+        return loading;
+    }
+}
@@ -0,0 +1,47 @@
+package com.haraldsson.syntropy.systems.jobs;
+
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+
+/**
+ * One unit of building output waiting to be carried to a stockpile.
+ * Haulers take any job; miners and farmers only take jobs from their building type.
+ */
+public class Job {
+    final Entity building;
+    final BuildingType buildingType;
+    final ItemType itemType;
+    final int priority;
+    final long seq;       // FIFO tie-break within a priority
+    Entity claimant;
+    float claimedAt;
+
+    Job(Entity building, BuildingType buildingType, ItemType itemType, int priority, long seq) {
+        this.building = building;
+        this.buildingType = buildingType;
+        this.itemType = itemType;
+        this.priority = priority;
+        this.seq = seq;
+    }
+
+    public Entity getBuilding() {
+        return building;
+    }
+
+    public BuildingType getBuildingType() {
+        return buildingType;
+    }
+
+    public ItemType getItemType() {
+        return itemType;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public Entity getClaimant() {
+        return claimant;
+    }
+}
@@ -0,0 +1,263 @@
+package com.haraldsson.syntropy.systems.jobs;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Central board of haul/collect jobs — one per unit of building output.
+ * Fed by RESOURCE_PRODUCED; open jobs are kept in sorted sets per item type and
+ * per building type (highest priority first, then oldest), so finding work is a
+ * look at the head of a set rather than a scan over every building.
+ *
+ * A pawn holds at most one claim. Claimed jobs leave the open sets, so two
+ * pawns never walk to the same unit of output (SYNTROPY_CONTEXT B2). Claims are
+ * released on completion, when the pawn dies, or after CLAIM_TIMEOUT seconds.
+ *
+ * Output can also leave a building without a job (player pickup, a hungry
+ * colonist grabbing food); such jobs go stale and are dropped when claimed or
+ * when a hasOpenJob check reaches them.
+ */
+public class JobBoard {
+    public static final float CLAIM_TIMEOUT = 30f;
+    /** Open jobs considered per set when picking the nearest among equal priorities. */
+    private static final int NEAREST_CANDIDATES = 8;
+
+    private static final Comparator<Job> ORDER = Comparator
+            .comparingInt((Job j) -> -j.priority)
+            .thenComparingLong(j -> j.seq);
+
+    private final Map<ItemType, TreeSet<Job>> openByItem = new EnumMap<>(ItemType.class);
+    private final Map<BuildingType, TreeSet<Job>> openByBuilding = new EnumMap<>(BuildingType.class);
+    private final Map<Entity, Job> claims = new HashMap<>();
+    /** Claimed jobs per building, to detect stale open jobs. */
+    private final Map<Entity, Integer> claimedPerBuilding = new HashMap<>();
+    private long nextSeq;
+    private long version; // bumped whenever the open sets change
+    private float clock;
+    private boolean seeded;
+
+    public JobBoard() {
+        for (ItemType type : ItemType.values()) {
+            openByItem.put(type, new TreeSet<>(ORDER));
+        }
+    }
+
+    /**
+     * First use after world creation or load: post one job per unit already sitting
+     * in building output buffers. Later output arrives through onResourceProduced.
+     */
+    public void ensureSeeded(ECSWorld ecsWorld) {
+        if (seeded) return;
+        seeded = true;
+        for (Entity bldg : ecsWorld.getEntitiesWith(BuildingComponent.class, PositionComponent.class)) {
+            BuildingComponent bc = bldg.get(BuildingComponent.class);
+            for (ItemType type : ItemType.values()) {
+                for (int i = bc.outputBuffer.count(type); i > 0; i--) {
+                    post(bldg, bc.buildingType, type);
+                }
+            }
+        }
+    }
+
+    /** RESOURCE_PRODUCED handler. Ignored until seeded — the seed scan will count it. */
+    public void onResourceProduced(Entity building, ItemType itemType) {
+        if (!seeded || building == null || itemType == null) return;
+        BuildingComponent bc = building.get(BuildingComponent.class);
+        post(building, bc != null ? bc.buildingType : null, itemType);
+    }
+
+    private void post(Entity building, BuildingType buildingType, ItemType itemType) {
+        Job job = new Job(building, buildingType, itemType, priorityFor(itemType), nextSeq++);
+        addOpen(job);
+    }
+
+    /** Food is hauled first so the stockpile never starves while stone piles up. */
+    static int priorityFor(ItemType itemType) {
+        return itemType == ItemType.FOOD ? 2 : 1;
+    }
+
+    public boolean hasOpenJob(ItemType itemType) {
+        return hasLiveJob(openByItem.get(itemType));
+    }
+
+    public boolean hasOpenJobFrom(BuildingType buildingType) {
+        TreeSet<Job> set = openByBuilding.get(buildingType);
+        return set != null && hasLiveJob(set);
+    }
+
+    /** True if any open job's item type passes the filter. */
+    public boolean hasOpenJob(Predicate<ItemType> itemFilter) {
+        for (Map.Entry<ItemType, TreeSet<Job>> e : openByItem.entrySet()) {
+            if (!e.getValue().isEmpty() && itemFilter.test(e.getKey()) && hasLiveJob(e.getValue())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Drops stale jobs from the head of the set until a live one is found, so a
+     * pawn isn't sent after output that is already gone.
+     */
+    private boolean hasLiveJob(TreeSet<Job> set) {
+        while (!set.isEmpty()) {
+            Job head = set.first();
+            if (!isStale(head)) return true;
+            removeOpen(head);
+        }
+        return false;
+    }
+
+    /** Changes whenever a job is opened or leaves the open sets — lets callers memoise hasOpenJob. */
+    public long getVersion() {
+        return version;
+    }
+
+    public Job getClaim(Entity pawn) {
+        return claims.get(pawn);
+    }
+
+    /** Claims the best open job whose item type passes the filter (hauler). Keeps an existing claim. */
+    public Job claimHaul(Entity pawn, float x, float y, Predicate<ItemType> itemFilter) {
+        Job held = claims.get(pawn);
+        if (held != null) return held;
+        List<TreeSet<Job>> sets = new ArrayList<>();
+        for (Map.Entry<ItemType, TreeSet<Job>> e : openByItem.entrySet()) {
+            if (!e.getValue().isEmpty() && itemFilter.test(e.getKey())) sets.add(e.getValue());
+        }
+        return claimFrom(pawn, sets, x, y);
+    }
+
+    /** Claims the best open job from buildings of the given type (miner/farmer). Keeps an existing claim. */
+    public Job claimCollect(Entity pawn, BuildingType buildingType, float x, float y) {
+        Job held = claims.get(pawn);
+        if (held != null) return held;
+        TreeSet<Job> set = openByBuilding.get(buildingType);
+        if (set == null || set.isEmpty()) return null;
+        return claimFrom(pawn, List.of(set), x, y);
+    }
+
+    private Job claimFrom(Entity pawn, List<TreeSet<Job>> sets, float x, float y) {
+        while (true) {
+            Job best = null;
+            float bestDist = Float.MAX_VALUE;
+            for (TreeSet<Job> set : sets) {
+                int seen = 0;
+                for (Job job : set) {
+                    if (seen++ >= NEAREST_CANDIDATES) break;
+                    if (best != null && job.priority < best.priority) break;
+                    float d = distSq(job, x, y);
+                    if (best == null || job.priority > best.priority || d < bestDist) {
+                        best = job;
+                        bestDist = d;
+                    }
+                }
+            }
+            if (best == null) return null;
+            removeOpen(best);
+            if (isStale(best)) continue; // dropped
+            best.claimant = pawn;
+            best.claimedAt = clock;
+            claims.put(pawn, best);
+            claimedPerBuilding.merge(best.building, 1, Integer::sum);
+            return best;
+        }
+    }
+
+    /** The pawn picked up (or failed to find) the output — the job is done either way. */
+    public void complete(Entity pawn) {
+        Job job = claims.remove(pawn);
+        if (job != null) unclaim(job);
+    }
+
+    /** Gives the pawn's job back to the board for someone else. */
+    public void release(Entity pawn) {
+        Job job = claims.remove(pawn);
+        if (job == null) return;
+        unclaim(job);
+        addOpen(job);
+    }
+
+    /** Advances the claim clock and frees claims held by dead pawns or held too long. */
+    public void update(float delta) {
+        clock += delta;
+        Iterator<Map.Entry<Entity, Job>> it = claims.entrySet().iterator();
+        List<Job> reopen = null;
+        while (it.hasNext()) {
+            Map.Entry<Entity, Job> e = it.next();
+            HealthComponent health = e.getKey().get(HealthComponent.class);
+            boolean dead = health != null && health.dead;
+            if (dead || clock - e.getValue().claimedAt > CLAIM_TIMEOUT) {
+                it.remove();
+                if (reopen == null) reopen = new ArrayList<>();
+                reopen.add(e.getValue());
+            }
+        }
+        if (reopen != null) {
+            for (Job job : reopen) {
+                unclaim(job);
+                addOpen(job);
+            }
+        }
+    }
+
+    public int getOpenJobCount() {
+        int n = 0;
+        for (TreeSet<Job> set : openByItem.values()) n += set.size();
+        return n;
+    }
+
+    public int getClaimCount() {
+        return claims.size();
+    }
+
+    /** More jobs than output left on the building — someone took it without a job. */
+    private boolean isStale(Job job) {
+        BuildingComponent bc = job.building.get(BuildingComponent.class);
+        if (bc == null) return true;
+        return bc.getOutputCount() <= claimedPerBuilding.getOrDefault(job.building, 0);
+    }
+
+    private void addOpen(Job job) {
+        version++;
+        openByItem.get(job.itemType).add(job);
+        if (job.buildingType != null) {
+            openByBuilding.computeIfAbsent(job.buildingType, k -> new TreeSet<>(ORDER)).add(job);
+        }
+    }
+
+    private void removeOpen(Job job) {
+        version++;
+        openByItem.get(job.itemType).remove(job);
+        if (job.buildingType != null) {
+            TreeSet<Job> set = openByBuilding.get(job.buildingType);
+            if (set != null) set.remove(job);
+        }
+    }
+
+    private void unclaim(Job job) {
+        job.claimant = null;
+        claimedPerBuilding.computeIfPresent(job.building, (k, v) -> v > 1 ? v - 1 : null);
+    }
+
+    private static float distSq(Job job, float x, float y) {
+        PositionComponent bp = job.building.get(PositionComponent.class);
+        if (bp == null) return Float.MAX_VALUE;
+        float dx = x - bp.x;
+        float dy = y - bp.y;
+        return dx * dx + dy * dy;
+    }
+}
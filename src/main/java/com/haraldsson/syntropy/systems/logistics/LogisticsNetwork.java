@@ -0,0 +1,206 @@
+package com.haraldsson.syntropy.systems.logistics;
+
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.BuildingIndex;
+import com.haraldsson.syntropy.world.StockpileZone;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Supply/demand matching for worker bots. Supply is building output not yet
+ * promised to a bot; demand is recipe input space (first) and stockpile room.
+ * match() pairs supply units with demand, then assigns idle bots: greedy
+ * nearest first, followed by pairwise swaps while they lower the total
+ * pickup distance. LogisticsSystem runs it every MATCH_INTERVAL seconds, so
+ * hauling is one batched pass instead of a scan per bot per tick.
+ *
+ * Promised units are reserved on both ends until the bot picks up / drops off.
+ */
+public class LogisticsNetwork {
+    public static final float MATCH_INTERVAL = 0.5f;
+    /** Upper bound on deliveries created per pass — keeps the swap refinement cheap. */
+    static final int MAX_DELIVERIES_PER_PASS = 32;
+    private static final int MAX_REFINE_ROUNDS = 4;
+    private static final ItemType[] TYPES = ItemType.values();
+
+    /** One planned trip: pick up {@code type} at {@code source}, drop it at the target. */
+    public static final class Delivery {
+        public Entity bot;
+        public final Entity source;
+        public final ItemType type;
+        public final Entity targetBuilding; // null = stockpile tile (dropX, dropY)
+        public final int dropX;
+        public final int dropY;
+        final float sourceX;
+        final float sourceY;
+
+        Delivery(Entity source, float sourceX, float sourceY, ItemType type, Entity targetBuilding, int dropX, int dropY) {
+            this.source = source;
+            this.sourceX = sourceX;
+            this.sourceY = sourceY;
+            this.type = type;
+            this.targetBuilding = targetBuilding;
+            this.dropX = dropX;
+            this.dropY = dropY;
+        }
+    }
+
+    private final Map<Entity, int[]> reservedOut = new HashMap<>();
+    private final Map<Entity, int[]> reservedIn = new HashMap<>();
+    private final List<Delivery> deliveries = new ArrayList<>();
+
+    /**
+     * Plans deliveries for up to {@code idleBots.size()} bots and reserves them.
+     * The returned list is reused by the next call.
+     */
+    public List<Delivery> match(World world, List<Entity> idleBots) {
+        deliveries.clear();
+        if (idleBots.isEmpty()) return deliveries;
+        int limit = Math.min(idleBots.size(), MAX_DELIVERIES_PER_PASS);
+
+        BuildingIndex buildings = world.getBuildings();
+        outer:
+        for (BuildingType bt : BuildingType.values()) {
+            for (Entity src : buildings.getBuildingsWithOutput(bt)) {
+                BuildingComponent bc = src.get(BuildingComponent.class);
+                PositionComponent sp = src.get(PositionComponent.class);
+                if (sp == null) continue;
+                for (ItemType type : TYPES) {
+                    int available = bc.outputBuffer.count(type) - reserved(reservedOut, src, type);
+                    while (available > 0) {
+                        if (deliveries.size() >= limit) break outer;
+                        Delivery d = planDrop(world, src, sp, type);
+                        if (d == null) break;
+                        reserve(reservedOut, src, type, 1);
+                        if (d.targetBuilding != null) reserve(reservedIn, d.targetBuilding, type, 1);
+                        deliveries.add(d);
+                        available--;
+                    }
+                }
+            }
+        }
+        assignBots(idleBots);
+        return deliveries;
+    }
+
+    /** Where one unit of {@code type} from {@code src} should go, or null if nothing wants it. */
+    private Delivery planDrop(World world, Entity src, PositionComponent sp, ItemType type) {
+        Entity bestConsumer = null;
+        float bestDist = Float.MAX_VALUE;
+        for (Entity consumer : world.getBuildings().getConsumers()) {
+            if (consumer == src) continue;
+            BuildingComponent cbc = consumer.get(BuildingComponent.class);
+            if (cbc.getInputSpace(type) - reserved(reservedIn, consumer, type) <= 0) continue;
+            PositionComponent cp = consumer.get(PositionComponent.class);
+            if (cp == null) continue;
+            float d = distSq(sp.x, sp.y, cp.x, cp.y);
+            if (d < bestDist) {
+                bestDist = d;
+                bestConsumer = consumer;
+            }
+        }
+        if (bestConsumer != null) {
+            PositionComponent cp = bestConsumer.get(PositionComponent.class);
+            return new Delivery(src, sp.x, sp.y, type, bestConsumer, (int) cp.x, (int) cp.y);
+        }
+        StockpileZone zone = world.getStockpiles().nearestAccepting(type, sp.x, sp.y);
+        if (zone == null) return null;
+        Tile tile = zone.nearestTile(sp.x, sp.y);
+        return new Delivery(src, sp.x, sp.y, type, null, tile.getX(), tile.getY());
+    }
+
+    private void assignBots(List<Entity> idleBots) {
+        int n = deliveries.size();
+        if (n == 0) return;
+        // Greedy: each delivery takes the nearest still-free bot
+        boolean[] used = new boolean[idleBots.size()];
+        for (Delivery d : deliveries) {
+            int best = -1;
+            float bestDist = Float.MAX_VALUE;
+            for (int b = 0; b < idleBots.size(); b++) {
+                if (used[b]) continue;
+                float dist = pickupCost(idleBots.get(b), d);
+                if (dist < bestDist) {
+                    bestDist = dist;
+                    best = b;
+                }
+            }
+            used[best] = true;
+            d.bot = idleBots.get(best);
+        }
+        // Refinement: swap bots between two deliveries while it shortens the total pickup distance
+        for (int round = 0; round < MAX_REFINE_ROUNDS; round++) {
+            boolean improved = false;
+            for (int i = 0; i < n; i++) {
+                Delivery a = deliveries.get(i);
+                for (int j = i + 1; j < n; j++) {
+                    Delivery b = deliveries.get(j);
+                    float current = pickupCost(a.bot, a) + pickupCost(b.bot, b);
+                    float swapped = pickupCost(b.bot, a) + pickupCost(a.bot, b);
+                    if (swapped + 1e-3f < current) {
+                        Entity tmp = a.bot;
+                        a.bot = b.bot;
+                        b.bot = tmp;
+                        improved = true;
+                    }
+                }
+            }
+            if (!improved) break;
+        }
+    }
+
+    /** Call when the bot has collected (or failed to collect) the unit. */
+    public void releaseSupply(Entity source, ItemType type) {
+        reserve(reservedOut, source, type, -1);
+    }
+
+    /** Call when the bot has delivered (or given up on) the unit. */
+    public void releaseDemand(Entity target, ItemType type) {
+        if (target != null) reserve(reservedIn, target, type, -1);
+    }
+
+    public int getReservedSupply(Entity source, ItemType type) {
+        return reserved(reservedOut, source, type);
+    }
+
+    private static float pickupCost(Entity bot, Delivery d) {
+        PositionComponent bp = bot.get(PositionComponent.class);
+        float dx = bp.x - d.sourceX;
+        float dy = bp.y - d.sourceY;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private static float distSq(float ax, float ay, float bx, float by) {
+        float dx = ax - bx;
+        float dy = ay - by;
+        return dx * dx + dy * dy;
+    }
+
+    private static int reserved(Map<Entity, int[]> map, Entity e, ItemType type) {
+        int[] counts = map.get(e);
+        return counts == null ? 0 : counts[type.ordinal()];
+    }
+
+    private static void reserve(Map<Entity, int[]> map, Entity e, ItemType type, int delta) {
+        int[] counts = map.get(e);
+        if (counts == null) {
+            if (delta <= 0) return;
+            counts = new int[TYPES.length];
+            map.put(e, counts);
+        }
+        counts[type.ordinal()] = Math.max(0, counts[type.ordinal()] + delta);
+        if (delta < 0) {
+            for (int c : counts) if (c > 0) return;
+            map.remove(e);
+        }
+    }
+}
@@ -3,15 +3,40 @@ package com.haraldsson.syntropy.systems.mood;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.NeedsComponent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class HealthThoughtWorker implements ThoughtWorker {
+    private static final float[] BAND_OFFSETS = {0f, -5f, -15f, -30f};
+
     @Override
     public float getMoodOffset(Entity entity) {
         NeedsComponent needs = entity.get(NeedsComponent.class);
         if (needs == null) return 0f;
-        if (needs.health > 0.8f) return 0f;
-        if (needs.health > 0.5f) return -5f;
-        if (needs.health > 0.2f) return -15f;
-        return -30f;
+        return offsetFor(needs.getHealth());
     }
-}
 
+    @Override
+    public void evaluate(ThoughtQuery query, float[] offsetsOut) {
+        for (int i = 0; i < query.size(); i++) {
+            offsetsOut[i] = query.hunger(i) != null ? offsetFor(query.health(i)) : 0f;
+        }
+    }
+
+    @Override
+    public Set<ThoughtInput> getInputs() {
+        return EnumSet.of(ThoughtInput.HEALTH);
+    }
+
+    /** 0 = healthy (above 0.8) … 3 = critical (0.2 or less). The mood offset only changes with the band. */
+    public static int band(float health) {
+        if (health > 0.8f) return 0;
+        if (health > 0.5f) return 1;
+        if (health > 0.2f) return 2;
+        return 3;
+    }
+
+    private static float offsetFor(float health) {
+        return BAND_OFFSETS[band(health)];
+    }
+}
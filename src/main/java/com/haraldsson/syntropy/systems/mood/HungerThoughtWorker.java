@@ -2,13 +2,34 @@ package com.haraldsson.syntropy.systems.mood;
 
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.NeedsComponent;
+import com.haraldsson.syntropy.entities.HungerCategory;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 public class HungerThoughtWorker implements ThoughtWorker {
     @Override
     public float getMoodOffset(Entity entity) {
         NeedsComponent needs = entity.get(NeedsComponent.class);
         if (needs == null) return 0f;
-        return switch (needs.getHungerCategory()) {
+        return offsetFor(needs.getHungerCategory());
+    }
+
+    @Override
+    public void evaluate(ThoughtQuery query, float[] offsetsOut) {
+        for (int i = 0; i < query.size(); i++) {
+            HungerCategory hunger = query.hunger(i);
+            offsetsOut[i] = hunger != null ? offsetFor(hunger) : 0f;
+        }
+    }
+
+    @Override
+    public Set<ThoughtInput> getInputs() {
+        return EnumSet.of(ThoughtInput.HUNGER);
+    }
+
+    private static float offsetFor(HungerCategory hunger) {
+        return switch (hunger) {
             case FED -> 0f;
             case HUNGRY -> -5f;
             case URGENTLY_HUNGRY -> -15f;
@@ -16,4 +37,3 @@ public class HungerThoughtWorker implements ThoughtWorker {
         };
     }
 }
-
@@ -3,16 +3,35 @@ package com.haraldsson.syntropy.systems.mood;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.SleepQualityComponent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class SleepThoughtWorker implements ThoughtWorker {
     @Override
     public float getMoodOffset(Entity entity) {
         SleepQualityComponent sq = entity.get(SleepQualityComponent.class);
         if (sq == null) return 0f;
-        return switch (sq.lastSleepQuality) {
+        return offsetFor(sq.lastSleepQuality);
+    }
+
+    @Override
+    public void evaluate(ThoughtQuery query, float[] offsetsOut) {
+        for (int i = 0; i < query.size(); i++) {
+            SleepQualityComponent.Quality quality = query.sleep(i);
+            offsetsOut[i] = quality != null ? offsetFor(quality) : 0f;
+        }
+    }
+
+    @Override
+    public Set<ThoughtInput> getInputs() {
+        return EnumSet.of(ThoughtInput.SLEEP);
+    }
+
+    private static float offsetFor(SleepQualityComponent.Quality quality) {
+        return switch (quality) {
             case IN_BED    ->   0f;
             case ON_GROUND -> -10f;
             case NONE      -> -25f;
         };
     }
 }
-
@@ -1,50 +1,57 @@
 package com.haraldsson.syntropy.systems.mood;
 
-import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
-import com.haraldsson.syntropy.ecs.components.*;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
 import com.haraldsson.syntropy.entities.TaskType;
+import com.haraldsson.syntropy.world.EntitySpatialHash;
+import com.haraldsson.syntropy.world.World;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Pattern 2 — SocialThoughtWorker.
  * Grants a mood boost when a colonist is socializing (WANDER task near another colonist).
+ * The batch form only does the spatial-hash probe for wanderers and spreads
+ * large batches across cores; the hash is read-only during the mood pass.
  */
 public class SocialThoughtWorker implements ThoughtWorker {
     private static final float SOCIAL_RANGE = 3f;
-    private static final float MOOD_BOOST = 8f;
+    private static final float MOOD_BOOST = 8f;          // wandering near another colonist
+    private static final float SOCIALIZING_BOOST = 15f;  // actively socializing (FIX 3)
 
-    private final ECSWorld ecsWorld;
+    private final World world;
 
-    public SocialThoughtWorker(ECSWorld ecsWorld) {
-        this.ecsWorld = ecsWorld;
+    public SocialThoughtWorker(World world) {
+        this.world = world;
     }
 
     @Override
     public float getMoodOffset(Entity entity) {
         AIComponent ai = entity.get(AIComponent.class);
         if (ai == null) return 0f;
+        PositionComponent pos = entity.get(PositionComponent.class);
+        return pos != null ? offsetFor(ai.taskType, true, pos.x, pos.y, entity)
+                : offsetFor(ai.taskType, false, 0f, 0f, entity);
+    }
 
-        // Mood boost while actively socializing (FIX 3)
-        if (ai.taskType == TaskType.SOCIALIZING) return +15f;
+    @Override
+    public void evaluate(ThoughtQuery query, float[] offsetsOut) {
+        query.forEach(i -> offsetsOut[i] = offsetFor(query.task(i), query.hasPosition(i),
+                query.x(i), query.y(i), query.pawn(i)));
+    }
 
-        // Mood boost when wandering near another colonist (original behavior)
-        if (ai.taskType != TaskType.WANDER) return 0f;
+    /** Shared by both paths; the spatial-hash probe only runs for positioned wanderers. */
+    private float offsetFor(TaskType task, boolean positioned, float x, float y, Entity pawn) {
+        if (task == TaskType.SOCIALIZING) return SOCIALIZING_BOOST;
+        if (task != TaskType.WANDER || !positioned) return 0f; // original behavior: only wanderers mingle
+        return world.getEntityHash().anyInRadius(x, y, SOCIAL_RANGE, pawn, EntitySpatialHash.ALIVE_NON_LEADER)
+                ? MOOD_BOOST : 0f;
+    }
 
-        PositionComponent pos = entity.get(PositionComponent.class);
-        if (pos == null) return 0f;
-
-        for (Entity other : ecsWorld.getEntitiesWith(PositionComponent.class, HealthComponent.class, IdentityComponent.class)) {
-            if (other == entity) continue;
-            HealthComponent health = other.get(HealthComponent.class);
-            if (health.dead) continue;
-            if (other.has(LeaderComponent.class)) continue;
-            PositionComponent otherPos = other.get(PositionComponent.class);
-            float dx = pos.x - otherPos.x;
-            float dy = pos.y - otherPos.y;
-            if (dx * dx + dy * dy <= SOCIAL_RANGE * SOCIAL_RANGE) {
-                return MOOD_BOOST;
-            }
-        }
-        return 0f;
+    @Override
+    public Set<ThoughtInput> getInputs() {
+        return EnumSet.of(ThoughtInput.TASK, ThoughtInput.SURROUNDINGS);
     }
 }
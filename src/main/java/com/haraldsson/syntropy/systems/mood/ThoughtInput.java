@@ -0,0 +1,13 @@
+package com.haraldsson.syntropy.systems.mood;
+
+/**
+ * Pawn state a ThoughtWorker reads. MoodSystem fingerprints each input per pawn
+ * and re-runs a worker only when one of the inputs it declares has changed.
+ */
+public enum ThoughtInput {
+    HUNGER,       // hunger category
+    HEALTH,       // health band (HealthThoughtWorker.band)
+    SLEEP,        // last sleep quality
+    TASK,         // current AI task type
+    SURROUNDINGS  // other pawns nearby — no cheap fingerprint, so changed every tick while wandering
+}
@@ -0,0 +1,124 @@
+package com.haraldsson.syntropy.systems.mood;
+
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.NeedsComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.ecs.components.SleepQualityComponent;
+import com.haraldsson.syntropy.entities.HungerCategory;
+import com.haraldsson.syntropy.entities.TaskType;
+import com.haraldsson.syntropy.world.World;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * The pawns a ThoughtWorker evaluates in one batch. MoodSystem copies every live
+ * pawn's mood-relevant state into flat columns once per tick (one row per pawn),
+ * then hands each worker a selection of the rows whose inputs changed for it.
+ * Accessors take the index within the selection, 0..size()-1, which is also the
+ * index into the worker's offsetsOut array.
+ */
+public final class ThoughtQuery {
+    /** Selection size above which forEach spreads the rows across cores. */
+    static final int PARALLEL_THRESHOLD = 512;
+    private static final long NO_KEY = Long.MIN_VALUE;
+
+    private World world;
+    private Entity[] pawns = new Entity[64];
+    private HungerCategory[] hunger = new HungerCategory[64];
+    private float[] health = new float[64];
+    private SleepQualityComponent.Quality[] sleep = new SleepQualityComponent.Quality[64];
+    private TaskType[] task = new TaskType[64];
+    private boolean[] positioned = new boolean[64];
+    private float[] x = new float[64];
+    private float[] y = new float[64];
+    private int rowCount;
+
+    private int[] rows = new int[64];
+    private int size;
+
+    /** Drops all rows; the columns are reused. */
+    public void clear(World world) {
+        this.world = world;
+        Arrays.fill(pawns, 0, rowCount, null);
+        rowCount = 0;
+        size = 0;
+    }
+
+    /** Copies a pawn's state into a new row and returns the row number. */
+    public int addRow(Entity pawn) {
+        if (rowCount == pawns.length) {
+            int cap = rowCount * 2;
+            pawns = Arrays.copyOf(pawns, cap);
+            hunger = Arrays.copyOf(hunger, cap);
+            health = Arrays.copyOf(health, cap);
+            sleep = Arrays.copyOf(sleep, cap);
+            task = Arrays.copyOf(task, cap);
+            positioned = Arrays.copyOf(positioned, cap);
+            x = Arrays.copyOf(x, cap);
+            y = Arrays.copyOf(y, cap);
+            rows = Arrays.copyOf(rows, cap);
+        }
+        int row = rowCount++;
+        NeedsComponent needs = pawn.get(NeedsComponent.class);
+        SleepQualityComponent sq = pawn.get(SleepQualityComponent.class);
+        AIComponent ai = pawn.get(AIComponent.class);
+        PositionComponent pos = pawn.get(PositionComponent.class);
+        pawns[row] = pawn;
+        hunger[row] = needs != null ? needs.getHungerCategory() : null;
+        health[row] = needs != null ? needs.getHealth() : 1f;
+        sleep[row] = sq != null ? sq.lastSleepQuality : null;
+        task[row] = ai != null ? ai.taskType : null;
+        positioned[row] = pos != null;
+        x[row] = pos != null ? pos.x : 0f;
+        y[row] = pos != null ? pos.y : 0f;
+        return row;
+    }
+
+    /** Cheap fingerprint of one input of a row; Long.MIN_VALUE means "no fingerprint, always changed". */
+    public long inputKey(int row, ThoughtInput input) {
+        return switch (input) {
+            case HUNGER -> hunger[row] != null ? hunger[row].ordinal() : -1;
+            case HEALTH -> HealthThoughtWorker.band(health[row]);
+            case SLEEP -> sleep[row] != null ? sleep[row].ordinal() : -1;
+            case TASK -> task[row] != null ? task[row].ordinal() : -1;
+            case SURROUNDINGS -> task[row] == TaskType.WANDER ? NO_KEY : 0; // only wanderers look around
+        };
+    }
+
+    /** Restricts the query to the given rows, in order. */
+    public void select(int[] selected, int count) {
+        System.arraycopy(selected, 0, rows, 0, count);
+        size = count;
+    }
+
+    public int size() { return size; }
+    public World world() { return world; }
+
+    public Entity pawn(int i) { return pawns[rows[i]]; }
+    /** Null if the pawn has no NeedsComponent. */
+    public HungerCategory hunger(int i) { return hunger[rows[i]]; }
+    public float health(int i) { return health[rows[i]]; }
+    /** Null if the pawn has no SleepQualityComponent. */
+    public SleepQualityComponent.Quality sleep(int i) { return sleep[rows[i]]; }
+    /** Null if the pawn has no AIComponent. */
+    public TaskType task(int i) { return task[rows[i]]; }
+    public boolean hasPosition(int i) { return positioned[rows[i]]; }
+    public float x(int i) { return x[rows[i]]; }
+    public float y(int i) { return y[rows[i]]; }
+
+    /**
+     * Runs body for every index in the selection, in parallel once the selection
+     * is large. Bodies must only write their own offsetsOut slot and read shared
+     * state (components, World, the spatial hash).
+     */
+    public void forEach(IntConsumer body) {
+        if (size >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, size).parallel().forEach(body);
+        } else {
+            for (int i = 0; i < size; i++) body.accept(i);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.haraldsson.syntropy.systems.mood;
+
+import com.haraldsson.syntropy.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The ThoughtWorkers MoodSystem runs, by id, in registration order. Workers are
+ * registered as factories because some capture the World; MoodSystem
+ * instantiates them again after a new game or load, and whenever the registry
+ * changes. Adding a thought is a register() call — nothing in MoodSystem lists
+ * workers by name.
+ */
+public final class ThoughtRegistry {
+    private final Map<String, Function<World, ThoughtWorker>> factories = new LinkedHashMap<>();
+    private int version;
+
+    /** The base game's thoughts. */
+    public static ThoughtRegistry withDefaults() {
+        ThoughtRegistry registry = new ThoughtRegistry();
+        registry.register("hunger", w -> new HungerThoughtWorker());
+        registry.register("sleep", w -> new SleepThoughtWorker());
+        registry.register("health", w -> new HealthThoughtWorker());
+        registry.register("social", SocialThoughtWorker::new);
+        return registry;
+    }
+
+    public void register(String id, Function<World, ThoughtWorker> factory) {
+        if (factories.putIfAbsent(id, factory) != null) {
+            throw new IllegalStateException("Duplicate thought id: " + id);
+        }
+        version++;
+    }
+
+    public boolean unregister(String id) {
+        if (factories.remove(id) == null) return false;
+        version++;
+        return true;
+    }
+
+    public List<String> ids() {
+        return Collections.unmodifiableList(new ArrayList<>(factories.keySet()));
+    }
+
+    /** Bumped by every register/unregister. */
+    public int getVersion() {
+        return version;
+    }
+
+    /** Fresh worker instances for this world, in registration order. */
+    public List<ThoughtWorker> instantiate(World world) {
+        List<ThoughtWorker> workers = new ArrayList<>(factories.size());
+        for (Function<World, ThoughtWorker> factory : factories.values()) {
+            workers.add(factory.apply(world));
+        }
+        return workers;
+    }
+}
@@ -2,6 +2,9 @@ package com.haraldsson.syntropy.systems.mood;
 
 import com.haraldsson.syntropy.ecs.Entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Pattern 2 — ThoughtWorker interface.
  * Each worker observes entity state and returns a mood offset.
@@ -9,5 +12,24 @@ import com.haraldsson.syntropy.ecs.Entity;
  */
 public interface ThoughtWorker {
     float getMoodOffset(Entity entity);
-}
 
+    /**
+     * Everything getMoodOffset reads. The cached offset is reused until one of
+     * these changes; the default (all inputs) re-evaluates every tick.
+     */
+    default Set<ThoughtInput> getInputs() {
+        return EnumSet.allOf(ThoughtInput.class);
+    }
+
+    /**
+     * Batch form used by MoodSystem: writes the offset of query pawn i to
+     * offsetsOut[i]. Must give the same result as getMoodOffset for each pawn.
+     * The default calls getMoodOffset per pawn; workers override it to read the
+     * query's columns instead of components.
+     */
+    default void evaluate(ThoughtQuery query, float[] offsetsOut) {
+        for (int i = 0; i < query.size(); i++) {
+            offsetsOut[i] = getMoodOffset(query.pawn(i));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.haraldsson.syntropy.world;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.entities.BuildingType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Buildings grouped by BuildingType, plus the subset currently holding output.
+ * Registered buildings report empty/non-empty transitions through
+ * BuildingComponent.addOutput/takeOutput, so "is there anything to collect
+ * from a FOOD_GROWER" is a set-emptiness check.
+ *
+ * The colony's total pollution output is kept the same way: each building's
+ * emission is counted on register, dropped on unregister and adjusted when
+ * BuildingComponent.setBuilt/setPollutionRate report a change, so reading it
+ * never walks the buildings.
+ *
+ * sync() picks up added/removed building entities, including a
+ * BuildingComponent attached to an existing entity; it is O(1) unless the
+ * ECSWorld's entities or their components changed since the last call.
+ */
+public class BuildingIndex implements BuildingComponent.OutputListener {
+    private final Map<BuildingType, Set<Entity>> byType = new EnumMap<>(BuildingType.class);
+    private final Map<BuildingType, Set<Entity>> withOutput = new EnumMap<>(BuildingType.class);
+    private final Set<Entity> registered = new LinkedHashSet<>();
+    private final Set<Entity> consumers = new LinkedHashSet<>(); // recipe takes inputs
+    private final ArrayDeque<Entity> wakeups = new ArrayDeque<>(); // newly registered or unblocked, for the production scheduler
+    private final Map<Entity, Float> emitters = new HashMap<>(); // counted emission, > 0 only
+    private double pollutionRate;
+    private int emissionVersion;
+    private int seenModCount = -1;
+
+    public BuildingIndex() {
+        for (BuildingType type : BuildingType.values()) {
+            byType.put(type, new LinkedHashSet<>());
+            withOutput.put(type, new LinkedHashSet<>());
+        }
+    }
+
+    /** Registers new building entities and forgets removed ones. */
+    public void sync(ECSWorld ecsWorld) {
+        if (ecsWorld.getModCount() == seenModCount) return;
+        seenModCount = ecsWorld.getModCount();
+
+        List<Entity> current = ecsWorld.getEntitiesWith(BuildingComponent.class);
+        Set<Entity> alive = new LinkedHashSet<>(current);
+        for (Entity e : new ArrayList<>(registered)) {
+            if (!alive.contains(e)) unregister(e);
+        }
+        for (Entity e : current) {
+            if (!registered.contains(e)) register(e);
+        }
+    }
+
+    private void register(Entity e) {
+        BuildingComponent bc = e.get(BuildingComponent.class);
+        if (bc.buildingType == null) return;
+        registered.add(e);
+        byType.get(bc.buildingType).add(e);
+        if (bc.recipe != null && bc.recipe.hasInputs()) consumers.add(e);
+        bc.setOutputListener(e, this);
+        onOutputChanged(e, bc);
+        onEmissionChanged(e, bc);
+        wakeups.add(e);
+    }
+
+    private void unregister(Entity e) {
+        registered.remove(e);
+        consumers.remove(e);
+        for (BuildingType type : BuildingType.values()) {
+            byType.get(type).remove(e);
+            withOutput.get(type).remove(e);
+        }
+        setEmission(e, 0f);
+        BuildingComponent bc = e.get(BuildingComponent.class);
+        if (bc != null) bc.setOutputListener(null, null);
+    }
+
+    @Override
+    public void onOutputChanged(Entity building, BuildingComponent bc) {
+        if (bc.hasOutput()) {
+            withOutput.get(bc.buildingType).add(building);
+        } else {
+            withOutput.get(bc.buildingType).remove(building);
+        }
+    }
+
+    @Override
+    public void onUnblocked(Entity building, BuildingComponent bc) {
+        wakeups.add(building);
+    }
+
+    @Override
+    public void onEmissionChanged(Entity building, BuildingComponent bc) {
+        setEmission(building, bc.getEmission());
+    }
+
+    private void setEmission(Entity building, float emission) {
+        Float old = emission > 0f ? emitters.put(building, emission) : emitters.remove(building);
+        float before = old != null ? old : 0f;
+        if (before == emission) return;
+        pollutionRate = emitters.isEmpty() ? 0.0 : pollutionRate + emission - before;
+        emissionVersion++;
+    }
+
+    /** Pollution per second from every built building. */
+    public float getPollutionRate() {
+        return (float) pollutionRate;
+    }
+
+    /** Bumped whenever a building starts, stops or changes emitting. */
+    public int getEmissionVersion() {
+        return emissionVersion;
+    }
+
+    /** Buildings currently emitting, with their rate per second. */
+    public Map<Entity, Float> getEmitters() {
+        return Collections.unmodifiableMap(emitters);
+    }
+
+    /**
+     * Next building that needs (re)scheduling — just registered, or a full buffer
+     * had output taken — or null. Consumed by BuildingProductionSystem.
+     */
+    public Entity pollWakeup() {
+        return wakeups.poll();
+    }
+
+    public boolean contains(Entity building) {
+        return registered.contains(building);
+    }
+
+    public Set<Entity> getBuildings(BuildingType type) {
+        return Collections.unmodifiableSet(byType.get(type));
+    }
+
+    public Set<Entity> getBuildingsWithOutput(BuildingType type) {
+        return Collections.unmodifiableSet(withOutput.get(type));
+    }
+
+    public boolean anyWithOutput(BuildingType type) {
+        return !withOutput.get(type).isEmpty();
+    }
+
+    public boolean anyWithOutput() {
+        for (Set<Entity> set : withOutput.values()) {
+            if (!set.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    /** Buildings whose recipe consumes inputs (smelters etc.). */
+    public Set<Entity> getConsumers() {
+        return Collections.unmodifiableSet(consumers);
+    }
+
+    public Set<Entity> getAll() {
+        return Collections.unmodifiableSet(registered);
+    }
+}
@@ -0,0 +1,203 @@
+package com.haraldsson.syntropy.world;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.IdentityComponent;
+import com.haraldsson.syntropy.ecs.components.LeaderComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Uniform grid over pawn positions (entities with Position + Health + Identity).
+ * Rebuilt once per tick by SpatialHashSystem with a counting sort, so each cell's
+ * entities sit contiguously in one array and a rebuild is O(n) with no allocation
+ * once the arrays have grown.
+ *
+ * Cells are assigned from positions at rebuild time; distances are measured on
+ * live positions, and every query widens its cell range by MOVE_SLACK to cover
+ * pawns that have moved since the rebuild.
+ *
+ * Queries don't allocate: nearest/kNearest work in scratch buffers held here,
+ * so unlike the radius queries they must not run concurrently.
+ */
+public class EntitySpatialHash {
+    static final int CELL_SIZE = 4;
+    /** Max distance (tiles) a pawn is assumed to drift between rebuilds. */
+    private static final float MOVE_SLACK = 1f;
+
+    /** Living colonists other than the leader — the usual social partner filter. */
+    public static final Predicate<Entity> ALIVE_NON_LEADER = e -> {
+        HealthComponent h = e.get(HealthComponent.class);
+        return h != null && !h.dead && !e.has(LeaderComponent.class);
+    };
+
+    private final int cellsX;
+    private final int cellsY;
+    /** cellStart[c]..cellStart[c+1] indexes entries for cell c. */
+    private final int[] cellStart;
+    private int[] entityCell = new int[64];
+    private Entity[] entries = new Entity[64];
+    private Entity[] scratch = new Entity[64];
+    private int size;
+    // Query scratch for nearest/kNearest — those two are main-thread only
+    private final Entity[] nearestOut = new Entity[1];
+    private float[] kDists = new float[8];
+
+    public EntitySpatialHash(int width, int height) {
+        this.cellsX = Math.max(1, (width + CELL_SIZE - 1) / CELL_SIZE);
+        this.cellsY = Math.max(1, (height + CELL_SIZE - 1) / CELL_SIZE);
+        this.cellStart = new int[cellsX * cellsY + 1];
+    }
+
+    public void rebuild(ECSWorld ecsWorld) {
+        List<Entity> pawns = ecsWorld.getEntitiesWith(PositionComponent.class, HealthComponent.class, IdentityComponent.class);
+        size = pawns.size();
+        if (scratch.length < size) {
+            int cap = Math.max(size, scratch.length * 2);
+            scratch = new Entity[cap];
+            entries = new Entity[cap];
+            entityCell = new int[cap];
+        }
+
+        Arrays.fill(cellStart, 0);
+        for (int i = 0; i < size; i++) {
+            Entity e = pawns.get(i);
+            PositionComponent pos = e.get(PositionComponent.class);
+            int cell = cellIndex(cellX(pos.x), cellY(pos.y));
+            scratch[i] = e;
+            entityCell[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int c = 0; c < cellStart.length - 1; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        // Scatter using a moving cursor per cell, then restore the starts
+        for (int i = 0; i < size; i++) {
+            entries[cellStart[entityCell[i]]++] = scratch[i];
+        }
+        for (int c = cellStart.length - 1; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+        Arrays.fill(scratch, 0, size, null);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Appends every matching entity within radius of (x, y) to out. Returns out. */
+    public List<Entity> queryRadius(float x, float y, float radius, Entity exclude,
+                                    Predicate<Entity> filter, List<Entity> out) {
+        float r2 = radius * radius;
+        float reach = radius + MOVE_SLACK;
+        int cx0 = cellX(x - reach), cx1 = cellX(x + reach);
+        int cy0 = cellY(y - reach), cy1 = cellY(y + reach);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int c = cellIndex(cx, cy);
+                for (int i = cellStart[c]; i < cellStart[c + 1]; i++) {
+                    Entity e = entries[i];
+                    if (e == exclude || !filter.test(e)) continue;
+                    if (distSq(e, x, y) <= r2) out.add(e);
+                }
+            }
+        }
+        return out;
+    }
+
+    /** True if at least one matching entity lies within radius of (x, y). */
+    public boolean anyInRadius(float x, float y, float radius, Entity exclude, Predicate<Entity> filter) {
+        float r2 = radius * radius;
+        float reach = radius + MOVE_SLACK;
+        int cx0 = cellX(x - reach), cx1 = cellX(x + reach);
+        int cy0 = cellY(y - reach), cy1 = cellY(y + reach);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int c = cellIndex(cx, cy);
+                for (int i = cellStart[c]; i < cellStart[c + 1]; i++) {
+                    Entity e = entries[i];
+                    if (e == exclude || !filter.test(e)) continue;
+                    if (distSq(e, x, y) <= r2) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Nearest matching entity anywhere on the map, or null. */
+    public Entity nearest(float x, float y, Entity exclude, Predicate<Entity> filter) {
+        Entity best = kNearest(x, y, 1, exclude, filter, nearestOut) > 0 ? nearestOut[0] : null;
+        nearestOut[0] = null; // don't keep the entity alive past the query
+        return best;
+    }
+
+    /**
+     * Fills out[0..k) with the k nearest matching entities, closest first, and returns
+     * how many were found. Searches cell rings outward and stops once the k-th best
+     * is closer than anything an unvisited ring could hold.
+     */
+    public int kNearest(float x, float y, int k, Entity exclude, Predicate<Entity> filter, Entity[] out) {
+        if (k <= 0 || size == 0) return 0;
+        if (kDists.length < k) kDists = new float[Math.max(k, kDists.length * 2)];
+        float[] dists = kDists;
+        int found = 0;
+        int ccx = cellX(x), ccy = cellY(y);
+        int maxRing = Math.max(cellsX, cellsY);
+        for (int r = 0; r <= maxRing; r++) {
+            if (found == k) {
+                float minReach = (r - 1) * CELL_SIZE - MOVE_SLACK;
+                if (minReach > 0 && minReach * minReach > dists[k - 1]) break;
+            }
+            for (int dy = -r; dy <= r; dy++) {
+                int cy = ccy + dy;
+                if (cy < 0 || cy >= cellsY) continue;
+                for (int dx = -r; dx <= r; dx++) {
+                    if (Math.abs(dx) != r && Math.abs(dy) != r) continue; // only ring edges
+                    int cx = ccx + dx;
+                    if (cx < 0 || cx >= cellsX) continue;
+                    int c = cellIndex(cx, cy);
+                    for (int i = cellStart[c]; i < cellStart[c + 1]; i++) {
+                        Entity e = entries[i];
+                        if (e == exclude || !filter.test(e)) continue;
+                        float d = distSq(e, x, y);
+                        if (found == k && d >= dists[k - 1]) continue;
+                        // Insertion into the sorted top-k
+                        int j = found < k ? found++ : k - 1;
+                        while (j > 0 && dists[j - 1] > d) {
+                            dists[j] = dists[j - 1];
+                            out[j] = out[j - 1];
+                            j--;
+                        }
+                        dists[j] = d;
+                        out[j] = e;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static float distSq(Entity e, float x, float y) {
+        PositionComponent p = e.get(PositionComponent.class);
+        float dx = p.x - x;
+        float dy = p.y - y;
+        return dx * dx + dy * dy;
+    }
+
+    private int cellX(float x) {
+        return Math.max(0, Math.min(cellsX - 1, (int) Math.floor(x / CELL_SIZE)));
+    }
+
+    private int cellY(float y) {
+        return Math.max(0, Math.min(cellsY - 1, (int) Math.floor(y / CELL_SIZE)));
+    }
+
+    private int cellIndex(int cx, int cy) {
+        return cy * cellsX + cx;
+    }
+}
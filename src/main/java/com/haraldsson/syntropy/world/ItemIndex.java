@@ -0,0 +1,101 @@
+package com.haraldsson.syntropy.world;
+
+import com.haraldsson.syntropy.entities.ItemType;
+
+/**
+ * Coarse spatial index of ground items, one count grid per ItemType.
+ * Tiles report every add/take, so nearest-item queries only visit cells
+ * that actually hold the requested type, searching outward ring by ring
+ * from the query point and stopping once no closer cell can exist.
+ */
+public class ItemIndex {
+    static final int CELL_SIZE = 8;
+
+    private final Tile[][] tiles;
+    private final int width;
+    private final int height;
+    private final int cellsX;
+    private final int cellsY;
+    /** counts[type][cellIndex] — items of that type lying anywhere in the cell. */
+    private final int[][] counts;
+    private final int[] totals;
+
+    public ItemIndex(Tile[][] tiles, int width, int height) {
+        this.tiles = tiles;
+        this.width = width;
+        this.height = height;
+        this.cellsX = (width + CELL_SIZE - 1) / CELL_SIZE;
+        this.cellsY = (height + CELL_SIZE - 1) / CELL_SIZE;
+        ItemType[] types = ItemType.values();
+        this.counts = new int[types.length][cellsX * cellsY];
+        this.totals = new int[types.length];
+    }
+
+    void onAdded(Tile tile, ItemType type, int amount) {
+        counts[type.ordinal()][cellOf(tile.getX(), tile.getY())] += amount;
+        totals[type.ordinal()] += amount;
+    }
+
+    void onRemoved(Tile tile, ItemType type) {
+        counts[type.ordinal()][cellOf(tile.getX(), tile.getY())]--;
+        totals[type.ordinal()]--;
+    }
+
+    public int getTotal(ItemType type) {
+        return totals[type.ordinal()];
+    }
+
+    /** Nearest tile (by distance to tile centre) holding at least one item of the given type, or null. */
+    public Tile findNearest(ItemType type, float fromX, float fromY) {
+        if (totals[type.ordinal()] == 0) return null;
+        int[] cellCounts = counts[type.ordinal()];
+        int ccx = clamp((int) Math.floor(fromX) / CELL_SIZE, cellsX);
+        int ccy = clamp((int) Math.floor(fromY) / CELL_SIZE, cellsY);
+        int maxRing = Math.max(cellsX, cellsY);
+
+        Tile best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (int r = 0; r <= maxRing; r++) {
+            // Any tile in ring r is at least (r - 1) cells away along one axis.
+            if (best != null) {
+                float minReach = (r - 1) * CELL_SIZE;
+                if (minReach * minReach > bestDist) break;
+            }
+            for (int dy = -r; dy <= r; dy++) {
+                int cy = ccy + dy;
+                if (cy < 0 || cy >= cellsY) continue;
+                for (int dx = -r; dx <= r; dx++) {
+                    if (Math.abs(dx) != r && Math.abs(dy) != r) continue; // only ring edges
+                    int cx = ccx + dx;
+                    if (cx < 0 || cx >= cellsX) continue;
+                    if (cellCounts[cy * cellsX + cx] == 0) continue;
+
+                    int x1 = Math.min(width, (cx + 1) * CELL_SIZE);
+                    int y1 = Math.min(height, (cy + 1) * CELL_SIZE);
+                    for (int ty = cy * CELL_SIZE; ty < y1; ty++) {
+                        for (int tx = cx * CELL_SIZE; tx < x1; tx++) {
+                            Tile tile = tiles[tx][ty];
+                            if (!tile.hasItem(type)) continue;
+                            float ddx = fromX - (tx + 0.5f);
+                            float ddy = fromY - (ty + 0.5f);
+                            float dist = ddx * ddx + ddy * ddy;
+                            if (dist < bestDist) {
+                                bestDist = dist;
+                                best = tile;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private int cellOf(int x, int y) {
+        return (y / CELL_SIZE) * cellsX + (x / CELL_SIZE);
+    }
+
+    private static int clamp(int v, int size) {
+        return Math.max(0, Math.min(size - 1, v));
+    }
+}
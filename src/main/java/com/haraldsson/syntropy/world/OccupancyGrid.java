@@ -0,0 +1,158 @@
+package com.haraldsson.syntropy.world;
+
+import java.util.Arrays;
+
+/**
+ * Per-tile crowd table, rebuilt by MovementSystem every tick.
+ *
+ * Occupancy: pawn positions bucketed by the tile they stand on (a counting
+ * sort like EntitySpatialHash's, with one-tile cells), so the separation push
+ * for a walker only looks at the 3×3 tiles around it. Only tiles someone
+ * stands on are reset and summed, so a rebuild costs O(pawns), not O(map).
+ *
+ * Reservations: the first pawn (in entity order) heading for a tile holds it
+ * for the tick. Drop-off selection skips tiles someone else holds, so haulers
+ * converging on a stockpile spread over its tiles instead of stacking on one.
+ */
+public class OccupancyGrid {
+    private final int width;
+    private final int height;
+    /** cellStart[t]..cellStart[t]+cellCount[t] indexes occupants of tile t; cellStart is stale where the count is 0. */
+    private final int[] cellStart;
+    private final int[] cellCount;
+    private int[] touched = new int[64]; // tiles with a non-zero count, in first-seen order
+    private int touchedCount;
+    private final int[] reservedBy; // entity id + 1, 0 = free
+    private int[] reservedTiles = new int[64];
+    private int reservedCount;
+
+    private int[] occupant = new int[64];   // caller's pawn index, bucket order
+    private float[] occX = new float[64];
+    private float[] occY = new float[64];
+    private int[] tileOf = new int[64];
+    private int size;
+
+    public OccupancyGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cellStart = new int[width * height];
+        this.cellCount = new int[width * height];
+        this.reservedBy = new int[width * height];
+    }
+
+    // ── Reservations ─────────────────────────────────────────────────────
+
+    /** Drops every reservation. */
+    public void clearReservations() {
+        for (int i = 0; i < reservedCount; i++) reservedBy[reservedTiles[i]] = 0;
+        reservedCount = 0;
+    }
+
+    /** Claims the tile for the entity if it is free. Returns true if the entity holds it afterwards. */
+    public boolean reserve(int tileX, int tileY, int entityId) {
+        int t = index(tileX, tileY);
+        if (t < 0) return false;
+        if (reservedBy[t] == 0) {
+            reservedBy[t] = entityId + 1;
+            if (reservedCount == reservedTiles.length) reservedTiles = Arrays.copyOf(reservedTiles, reservedCount * 2);
+            reservedTiles[reservedCount++] = t;
+        }
+        return reservedBy[t] == entityId + 1;
+    }
+
+    public boolean isReserved(int tileX, int tileY) {
+        int t = index(tileX, tileY);
+        return t >= 0 && reservedBy[t] != 0;
+    }
+
+    // ── Occupancy ────────────────────────────────────────────────────────
+
+    /** Buckets n pawn positions by tile; pawn i is reported back as index i. */
+    public void rebuild(float[] xs, float[] ys, int n) {
+        if (occupant.length < n) {
+            int cap = Math.max(n, occupant.length * 2);
+            occupant = new int[cap];
+            occX = new float[cap];
+            occY = new float[cap];
+            tileOf = new int[cap];
+        }
+        if (touched.length < n) touched = new int[Math.max(n, touched.length * 2)];
+        size = n;
+        for (int k = 0; k < touchedCount; k++) cellCount[touched[k]] = 0;
+        touchedCount = 0;
+        for (int i = 0; i < n; i++) {
+            int t = clampedIndex(xs[i], ys[i]);
+            tileOf[i] = t;
+            if (cellCount[t]++ == 0) touched[touchedCount++] = t;
+        }
+        // cellStart holds each tile's end while filling backwards, its start afterwards
+        int end = 0;
+        for (int k = 0; k < touchedCount; k++) {
+            int t = touched[k];
+            end += cellCount[t];
+            cellStart[t] = end;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int slot = --cellStart[tileOf[i]];
+            occupant[slot] = i;
+            occX[slot] = xs[i];
+            occY[slot] = ys[i];
+        }
+    }
+
+    public int getOccupantCount(int tileX, int tileY) {
+        int t = index(tileX, tileY);
+        return t < 0 ? 0 : cellCount[t];
+    }
+
+    /**
+     * Separation push on pawn {@code self} at (x, y): the sum over other occupants
+     * within radius of the unit direction away from them, weighted by how deep
+     * inside the radius they are. Written to out[0], out[1]. Pawns on exactly the
+     * same spot are split along x by index so they do not push each other to zero.
+     */
+    public void separation(int self, float x, float y, float radius, float[] out) {
+        float px = 0f, py = 0f;
+        int cx = clamp((int) Math.floor(x), width);
+        int cy = clamp((int) Math.floor(y), height);
+        for (int ty = Math.max(0, cy - 1); ty <= Math.min(height - 1, cy + 1); ty++) {
+            for (int tx = Math.max(0, cx - 1); tx <= Math.min(width - 1, cx + 1); tx++) {
+                int t = ty * width + tx;
+                for (int s = cellStart[t], e = s + cellCount[t]; s < e; s++) {
+                    if (occupant[s] == self) continue;
+                    float dx = x - occX[s];
+                    float dy = y - occY[s];
+                    float d2 = dx * dx + dy * dy;
+                    if (d2 >= radius * radius) continue;
+                    if (d2 < 1e-8f) {
+                        px += self < occupant[s] ? -1f : 1f;
+                        continue;
+                    }
+                    float d = (float) Math.sqrt(d2);
+                    float w = (radius - d) / radius;
+                    px += dx / d * w;
+                    py += dy / d * w;
+                }
+            }
+        }
+        out[0] = px;
+        out[1] = py;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int index(int tileX, int tileY) {
+        if (tileX < 0 || tileY < 0 || tileX >= width || tileY >= height) return -1;
+        return tileY * width + tileX;
+    }
+
+    private int clampedIndex(float x, float y) {
+        return clamp((int) Math.floor(y), height) * width + clamp((int) Math.floor(x), width);
+    }
+
+    private static int clamp(int v, int n) {
+        return v < 0 ? 0 : (v >= n ? n - 1 : v);
+    }
+}
@@ -0,0 +1,209 @@
+package com.haraldsson.syntropy.world;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Per-tile pollution concentration. Buildings are registered as sources that
+ * emit into their own tile at a steady rate (re-registered by PollutionSystem
+ * only when the set of emitters changes). Each step() adds their output,
+ * diffuses the field with a 5-point stencil and decays it, reading the front
+ * buffer and writing the back buffer, then swapping — so every cell of a step
+ * sees the same input and the rows can be computed in any order. Rows are
+ * split into bands that run in parallel on large areas.
+ *
+ * Only rows that hold pollution (plus one row of spread each side) are
+ * stepped; values below EPSILON are dropped to zero so the active band shrinks
+ * again as a plume fades. A clean map costs nothing. Edges reflect, so
+ * nothing leaks off the map except through decay.
+ */
+public class PollutionField {
+    /** Spread per second; the per-step share is capped at MAX_SPREAD to keep the stencil stable. */
+    static final float DIFFUSION = 0.6f;
+    private static final float MAX_SPREAD = 0.2f;
+    /** Fraction of the concentration that disappears per second. */
+    static final float DECAY = 0.02f;
+    private static final float EPSILON = 1e-4f;
+    private static final int BAND_ROWS = 32;
+    /** Active cells above which bands are spread across cores. */
+    static final int PARALLEL_THRESHOLD = 64 * 1024;
+
+    private final int width;
+    private final int height;
+    private float[] front;
+    private float[] back;
+    // Rows that may be non-zero in each buffer; lo > hi means none
+    private int frontLo, frontHi = -1;
+    private int backLo, backHi = -1;
+    private final float[] bandTotal;
+    private final int[] bandLo;
+    private final int[] bandHi;
+    private float total;
+    private int[] sourceTile = new int[16];
+    private float[] sourceRate = new float[16];
+    private int sourceCount;
+
+    public PollutionField(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.front = new float[width * height];
+        this.back = new float[width * height];
+        int bands = (height + BAND_ROWS - 1) / BAND_ROWS;
+        this.bandTotal = new float[bands];
+        this.bandLo = new int[bands];
+        this.bandHi = new int[bands];
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /** Adds pollution to one tile; off-map tiles are ignored. */
+    public void emit(int tx, int ty, float amount) {
+        if (tx < 0 || ty < 0 || tx >= width || ty >= height || amount <= 0f) return;
+        front[ty * width + tx] += amount;
+        total += amount;
+        if (frontLo > frontHi) {
+            frontLo = ty;
+            frontHi = ty;
+        } else {
+            frontLo = Math.min(frontLo, ty);
+            frontHi = Math.max(frontHi, ty);
+        }
+    }
+
+    /** Removes every source; pollution already in the field stays. */
+    public void clearSources() {
+        sourceCount = 0;
+    }
+
+    /** Emits rate per second into a tile on every step; off-map tiles are ignored. */
+    public void addSource(int tx, int ty, float rate) {
+        if (tx < 0 || ty < 0 || tx >= width || ty >= height || rate <= 0f) return;
+        if (sourceCount == sourceTile.length) {
+            sourceTile = Arrays.copyOf(sourceTile, sourceCount * 2);
+            sourceRate = Arrays.copyOf(sourceRate, sourceCount * 2);
+        }
+        sourceTile[sourceCount] = ty * width + tx;
+        sourceRate[sourceCount] = rate;
+        sourceCount++;
+    }
+
+    public int getSourceCount() {
+        return sourceCount;
+    }
+
+    /** Concentration at a tile, 0 off the map. */
+    public float get(int tx, int ty) {
+        if (tx < 0 || ty < 0 || tx >= width || ty >= height) return 0f;
+        return front[ty * width + tx];
+    }
+
+    /** Concentration at a world position. */
+    public float sample(float x, float y) {
+        return get((int) Math.floor(x), (int) Math.floor(y));
+    }
+
+    /** Sum over the whole field as of the last step plus emissions since. */
+    public float getTotal() {
+        return total;
+    }
+
+    public boolean isClean() {
+        return frontLo > frontHi;
+    }
+
+    /** Adds delta seconds of source output, then diffuses and decays the field. */
+    public void step(float delta) {
+        for (int i = 0; i < sourceCount; i++) {
+            int tile = sourceTile[i];
+            emit(tile % width, tile / width, sourceRate[i] * delta);
+        }
+        if (isClean()) return;
+        int lo = Math.max(0, frontLo - 1);
+        int hi = Math.min(height - 1, frontHi + 1);
+        // The back buffer still holds the step before last — clear what this step won't overwrite
+        for (int r = backLo; r <= backHi; r++) {
+            if (r < lo || r > hi) Arrays.fill(back, r * width, (r + 1) * width, 0f);
+        }
+
+        float spread = Math.min(MAX_SPREAD, DIFFUSION * delta);
+        float keep = Math.max(0f, 1f - DECAY * delta);
+        int firstBand = lo / BAND_ROWS;
+        int lastBand = hi / BAND_ROWS;
+        if ((hi - lo + 1) * width >= PARALLEL_THRESHOLD) {
+            IntStream.rangeClosed(firstBand, lastBand).parallel().forEach(b -> band(b, lo, hi, spread, keep));
+        } else {
+            for (int b = firstBand; b <= lastBand; b++) band(b, lo, hi, spread, keep);
+        }
+
+        float sum = 0f;
+        int newLo = Integer.MAX_VALUE, newHi = -1;
+        for (int b = firstBand; b <= lastBand; b++) {
+            sum += bandTotal[b];
+            if (bandHi[b] >= 0) {
+                newLo = Math.min(newLo, bandLo[b]);
+                newHi = Math.max(newHi, bandHi[b]);
+            }
+        }
+        float[] swap = front;
+        front = back;
+        back = swap;
+        backLo = frontLo;
+        backHi = frontHi;
+        frontLo = newHi >= 0 ? newLo : 0;
+        frontHi = newHi;
+        total = sum;
+    }
+
+    /** Stencil over the rows of band b that fall in [lo, hi]; records the band's sum and non-zero rows. */
+    private void band(int b, int lo, int hi, float spread, float keep) {
+        int r0 = Math.max(lo, b * BAND_ROWS);
+        int r1 = Math.min(hi, b * BAND_ROWS + BAND_ROWS - 1);
+        float[] src = front;
+        float[] dst = back;
+        float sum = 0f;
+        int nzLo = Integer.MAX_VALUE, nzHi = -1;
+        for (int r = r0; r <= r1; r++) {
+            int row = r * width;
+            int up = r > 0 ? row - width : row;
+            int down = r < height - 1 ? row + width : row;
+            float rowSum = 0f;
+            // Edge columns reflect; the interior loop has no bounds checks
+            dst[row] = cell(src[row], src[row], src[row + Math.min(1, width - 1)], src[up], src[down], spread, keep);
+            for (int i = row + 1, end = row + width - 1; i < end; i++) {
+                float v = cell(src[i], src[i - 1], src[i + 1], src[i - row + up], src[i - row + down], spread, keep);
+                dst[i] = v;
+                rowSum += v;
+            }
+            if (width > 1) {
+                int i = row + width - 1;
+                dst[i] = cell(src[i], src[i - 1], src[i], src[up + width - 1], src[down + width - 1], spread, keep);
+                rowSum += dst[i];
+            }
+            rowSum += dst[row];
+            sum += rowSum;
+            if (rowSum > 0f) {
+                nzLo = Math.min(nzLo, r);
+                nzHi = r;
+            }
+        }
+        bandTotal[b] = sum;
+        bandLo[b] = nzLo;
+        bandHi[b] = nzHi;
+    }
+
+    private static float cell(float c, float left, float right, float up, float down, float spread, float keep) {
+        float v = (c + spread * (left + right + up + down - 4f * c)) * keep;
+        return v < EPSILON ? 0f : v;
+    }
+
+    /** Empties the field and drops its sources. */
+    public void clear() {
+        sourceCount = 0;
+        Arrays.fill(front, 0f);
+        Arrays.fill(back, 0f);
+        frontLo = backLo = 0;
+        frontHi = backHi = -1;
+        total = 0f;
+    }
+}
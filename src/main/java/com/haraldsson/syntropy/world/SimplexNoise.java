@@ -75,6 +75,36 @@ public final class SimplexNoise {
         return 70.0 * (n0 + n1 + n2);
     }
 
+    /**
+     * Fills {@code out} (row-major, {@code w} wide) with {@code noise2(seed, (x0 + x) * freq, (y0 + y) * freq)}
+     * for the w×h block starting at tile (x0, y0). Results are identical to calling {@link #noise2} per tile.
+     */
+    public static void noise2Block(long seed, int x0, int y0, int w, int h, double freq, float[] out) {
+        noise2Block(seed, x0, y0, w, h, freq, out, 0);
+    }
+
+    /**
+     * Same as {@link #noise2Block(long, int, int, int, int, double, float[])} but writes starting at
+     * {@code out[offset]}, so row bands of one large array can be filled independently (and in parallel).
+     */
+    public static void noise2Block(long seed, int x0, int y0, int w, int h, double freq, float[] out, int offset) {
+        if (out.length - offset < w * h) {
+            throw new IllegalArgumentException("Output array too small for " + w + "x" + h + " block");
+        }
+        // Sample x-coordinates are shared by every row — compute them once per block
+        double[] xs = new double[w];
+        for (int x = 0; x < w; x++) {
+            xs[x] = (x0 + x) * freq;
+        }
+        int i = offset;
+        for (int y = 0; y < h; y++) {
+            double sy = (y0 + y) * freq;
+            for (int x = 0; x < w; x++) {
+                out[i++] = (float) noise2(seed, xs[x], sy);
+            }
+        }
+    }
+
     private static double contribution(long seed, int xsv, int ysv, double dx, double dy) {
         double attn = 0.5 - dx * dx - dy * dy;
         if (attn <= 0) return 0;
@@ -0,0 +1,195 @@
+package com.haraldsson.syntropy.world;
+
+import com.haraldsson.syntropy.entities.ItemType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * All stockpile zones in the world, with colony-wide per-type totals and free
+ * space kept incrementally. "Is there room for X anywhere" and "how much X do
+ * we have" are O(1); nearest-zone queries walk the zone list, which stays
+ * small (tens of zones) compared with the tiles they cover.
+ */
+public class StockpileIndex {
+    private static final int TYPE_COUNT = ItemType.values().length;
+
+    private final List<StockpileZone> zones = new ArrayList<>();
+    private final int[] totals = new int[TYPE_COUNT];
+    private final int[] freeSpace = new int[TYPE_COUNT];
+    private int nextZoneId;
+
+    /**
+     * Creates a zone over the given tiles. Tiles already in another zone are
+     * skipped; if that leaves none, no zone is created and null is returned.
+     */
+    public StockpileZone createZone(List<Tile> tiles) {
+        List<Tile> free = new ArrayList<>(tiles.size());
+        for (Tile tile : tiles) {
+            if (tile.getStockpileZone() == null) free.add(tile);
+        }
+        if (free.isEmpty()) return null;
+        StockpileZone zone = new StockpileZone(nextZoneId++);
+        for (Tile tile : free) zone.addTile(tile);
+        zone.attach(this);
+        zones.add(zone);
+        recomputeFreeSpace();
+        return zone;
+    }
+
+    public void removeZone(StockpileZone zone) {
+        if (!zones.remove(zone)) return;
+        zone.attach(null);
+        for (Tile tile : zone.getTiles()) {
+            tile.setStockpileZone(null);
+        }
+        recomputeFreeSpace();
+    }
+
+    public List<StockpileZone> getZones() {
+        return Collections.unmodifiableList(zones);
+    }
+
+    public boolean isEmpty() {
+        return zones.isEmpty();
+    }
+
+    /** The first tile of the first zone that has any, or null if there are none. */
+    public Tile firstTile() {
+        for (StockpileZone zone : zones) {
+            if (!zone.getTiles().isEmpty()) return zone.getTiles().get(0);
+        }
+        return null;
+    }
+
+    /** Total items of the type held across all zones. */
+    public int count(ItemType type) {
+        return totals[type.ordinal()];
+    }
+
+    /** True if some zone accepts the type and has room for at least one more. */
+    public boolean hasSpaceFor(ItemType type) {
+        return freeSpace[type.ordinal()] > 0;
+    }
+
+    /** Nearest zone that accepts the type and has free space, or null. */
+    public StockpileZone nearestAccepting(ItemType type, float x, float y) {
+        if (freeSpace[type.ordinal()] == 0) return null;
+        StockpileZone best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (StockpileZone zone : zones) {
+            if (zone.freeSpace(type) == 0) continue;
+            float d = zone.distSq(x, y);
+            if (d < bestDist) {
+                bestDist = d;
+                best = zone;
+            }
+        }
+        return best;
+    }
+
+    /** Nearest zone whose filter allows the type, ignoring capacity, or null. */
+    public StockpileZone nearestAllowing(ItemType type, float x, float y) {
+        StockpileZone best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (StockpileZone zone : zones) {
+            if (!zone.accepts(type)) continue;
+            float d = zone.distSq(x, y);
+            if (d < bestDist) {
+                bestDist = d;
+                best = zone;
+            }
+        }
+        return best;
+    }
+
+    /** Nearest zone holding at least one item of the type, or null. */
+    public StockpileZone nearestHolding(ItemType type, float x, float y) {
+        if (totals[type.ordinal()] == 0) return null;
+        StockpileZone best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (StockpileZone zone : zones) {
+            if (zone.count(type) == 0) continue;
+            float d = zone.distSq(x, y);
+            if (d < bestDist) {
+                bestDist = d;
+                best = zone;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Tile a hauler carrying this type should walk to. Keeps (preferX, preferY) if
+     * its zone still has room for the type and the tile itself isn't stacked to
+     * capacity, so the path is not recomputed every tick; otherwise picks the
+     * nearest unstacked tile of the nearest zone with room, falling back to any
+     * zone allowing the type when all are full. Tiles other pawns are already
+     * heading for are skipped while the zone has free ones.
+     */
+    public Tile findDepositTile(World world, ItemType type, float x, float y, int preferX, int preferY) {
+        Tile preferred = world.getTile(preferX, preferY);
+        StockpileZone preferredZone = preferred != null ? preferred.getStockpileZone() : null;
+        if (preferredZone != null && preferredZone.freeSpace(type) > 0
+                && preferred.countItems(type) < preferredZone.getCapacityPerTile()) {
+            return preferred;
+        }
+        StockpileZone zone = nearestAccepting(type, x, y);
+        if (zone == null) zone = nearestAllowing(type, x, y);
+        return zone != null ? zone.nearestFreeTile(type, x, y, world.getOccupancy()) : null;
+    }
+
+    /** Nearest stockpile tile holding the type, or null. */
+    public Tile findTileHolding(ItemType type, float x, float y) {
+        StockpileZone zone = nearestHolding(type, x, y);
+        return zone != null ? zone.nearestTileHolding(type, x, y) : null;
+    }
+
+    /**
+     * Removes up to {@code amount} items of the type, nearest zones first.
+     * Returns how many were actually removed.
+     */
+    public int take(ItemType type, int amount, float x, float y) {
+        int taken = 0;
+        while (taken < amount) {
+            Tile tile = findTileHolding(type, x, y);
+            if (tile == null) break;
+            tile.takeFirstItem(type);
+            taken++;
+        }
+        return taken;
+    }
+
+    /** Adds items to the nearest zones with room (overflowing into the nearest allowing zone). Returns how many were placed. */
+    public int add(ItemType type, int amount, float x, float y) {
+        int placed = 0;
+        while (placed < amount) {
+            StockpileZone zone = nearestAccepting(type, x, y);
+            if (zone == null) zone = nearestAllowing(type, x, y);
+            if (zone == null) break;
+            int n = Math.max(1, Math.min(amount - placed, zone.freeSpace(type)));
+            zone.nearestTile(x, y).addItems(type, n);
+            placed += n;
+        }
+        return placed;
+    }
+
+    void onZoneChanged(ItemType type, int countDelta, int freeDelta) {
+        totals[type.ordinal()] += countDelta;
+        freeSpace[type.ordinal()] += freeDelta;
+    }
+
+    /** Rebuilds totals and free space from scratch after a zone's filter, capacity or tiles change. */
+    void recomputeFreeSpace() {
+        Arrays.fill(totals, 0);
+        Arrays.fill(freeSpace, 0);
+        for (StockpileZone zone : zones) {
+            for (ItemType type : ItemType.values()) {
+                totals[type.ordinal()] += zone.count(type);
+                freeSpace[type.ordinal()] += zone.freeSpace(type);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.haraldsson.syntropy.world;
+
+import com.haraldsson.syntropy.entities.ItemType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A group of stockpile tiles sharing one item filter and a per-type capacity.
+ * Member tiles report every add/take, so per-type counts stay O(1) to read.
+ * Items are stored on whichever member tile they were dropped on.
+ */
+public class StockpileZone {
+    /** Default per-type capacity contributed by each tile (the old single-tile cap was 5). */
+    public static final int DEFAULT_CAPACITY_PER_TILE = 5;
+
+    private final int id;
+    private final List<Tile> tiles = new ArrayList<>();
+    private final boolean[] accepts = new boolean[ItemType.values().length];
+    private final int[] counts = new int[ItemType.values().length];
+    private int capacityPerTile = DEFAULT_CAPACITY_PER_TILE;
+    private StockpileIndex index;
+
+    // Bounding box, for cheap zone-to-point distances
+    private int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+
+    StockpileZone(int id) {
+        this.id = id;
+        Arrays.fill(accepts, true);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public List<Tile> getTiles() {
+        return Collections.unmodifiableList(tiles);
+    }
+
+    void attach(StockpileIndex index) {
+        this.index = index;
+    }
+
+    void addTile(Tile tile) {
+        tiles.add(tile);
+        tile.setStockpileZone(this);
+        for (ItemType type : ItemType.values()) {
+            counts[type.ordinal()] += tile.countItems(type);
+        }
+        minX = Math.min(minX, tile.getX());
+        minY = Math.min(minY, tile.getY());
+        maxX = Math.max(maxX, tile.getX());
+        maxY = Math.max(maxY, tile.getY());
+        if (index != null) index.recomputeFreeSpace();
+    }
+
+    /** Called by member tiles when their contents change. */
+    void onItemsChanged(ItemType type, int delta) {
+        int before = freeSpace(type);
+        counts[type.ordinal()] += delta;
+        if (index != null) index.onZoneChanged(type, delta, freeSpace(type) - before);
+    }
+
+    public boolean accepts(ItemType type) {
+        return accepts[type.ordinal()];
+    }
+
+    public void setAccepts(ItemType type, boolean accept) {
+        accepts[type.ordinal()] = accept;
+        if (index != null) index.recomputeFreeSpace();
+    }
+
+    public int getCapacityPerTile() {
+        return capacityPerTile;
+    }
+
+    public void setCapacityPerTile(int capacityPerTile) {
+        this.capacityPerTile = Math.max(0, capacityPerTile);
+        if (index != null) index.recomputeFreeSpace();
+    }
+
+    /** Max items of any one type the zone holds: capacity per tile × tile count. */
+    public int getCapacityPerType() {
+        return capacityPerTile * tiles.size();
+    }
+
+    public int count(ItemType type) {
+        return counts[type.ordinal()];
+    }
+
+    /** How many more items of this type the zone will take (0 if filtered out or full). */
+    public int freeSpace(ItemType type) {
+        if (!accepts[type.ordinal()]) return 0;
+        return Math.max(0, getCapacityPerType() - counts[type.ordinal()]);
+    }
+
+    /** Squared distance from a point to the zone's bounding box (0 inside it). */
+    float distSq(float x, float y) {
+        float dx = Math.max(0f, Math.max(minX - x, x - (maxX + 1)));
+        float dy = Math.max(0f, Math.max(minY - y, y - (maxY + 1)));
+        return dx * dx + dy * dy;
+    }
+
+    /** Member tile nearest to the given point — where a hauler should drop off. */
+    public Tile nearestTile(float x, float y) {
+        Tile best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (Tile tile : tiles) {
+            float dx = x - (tile.getX() + 0.5f);
+            float dy = y - (tile.getY() + 0.5f);
+            float d = dx * dx + dy * dy;
+            if (d < bestDist) {
+                bestDist = d;
+                best = tile;
+            }
+        }
+        return best;
+    }
+
+    /** Nearest member tile no pawn has reserved as its destination; the nearest tile if all are taken. */
+    public Tile nearestFreeTile(float x, float y, OccupancyGrid occupancy) {
+        Tile best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (Tile tile : tiles) {
+            if (occupancy.isReserved(tile.getX(), tile.getY())) continue;
+            float dx = x - (tile.getX() + 0.5f);
+            float dy = y - (tile.getY() + 0.5f);
+            float d = dx * dx + dy * dy;
+            if (d < bestDist) {
+                bestDist = d;
+                best = tile;
+            }
+        }
+        return best != null ? best : nearestTile(x, y);
+    }
+
+    /**
+     * Like nearestFreeTile, but also skips tiles already stacked to capacityPerTile
+     * with the type, so deposits spread over the zone. Falls back to nearestFreeTile.
+     */
+    public Tile nearestFreeTile(ItemType type, float x, float y, OccupancyGrid occupancy) {
+        Tile best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (Tile tile : tiles) {
+            if (tile.countItems(type) >= capacityPerTile || occupancy.isReserved(tile.getX(), tile.getY())) continue;
+            float dx = x - (tile.getX() + 0.5f);
+            float dy = y - (tile.getY() + 0.5f);
+            float d = dx * dx + dy * dy;
+            if (d < bestDist) {
+                bestDist = d;
+                best = tile;
+            }
+        }
+        return best != null ? best : nearestFreeTile(x, y, occupancy);
+    }
+
+    /** Member tile nearest to the given point that holds the type, or null. */
+    public Tile nearestTileHolding(ItemType type, float x, float y) {
+        if (counts[type.ordinal()] == 0) return null;
+        Tile best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (Tile tile : tiles) {
+            if (!tile.hasItem(type)) continue;
+            float dx = x - (tile.getX() + 0.5f);
+            float dy = y - (tile.getY() + 0.5f);
+            float d = dx * dx + dy * dy;
+            if (d < bestDist) {
+                bestDist = d;
+                best = tile;
+            }
+        }
+        return best;
+    }
+}
@@ -2,18 +2,17 @@ package com.haraldsson.syntropy.world;
 
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.entities.Item;
+import com.haraldsson.syntropy.entities.ItemStacks;
 import com.haraldsson.syntropy.entities.ItemType;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class Tile {
     private final int x;
     private final int y;
     private TerrainType terrainType;
     private Entity buildingEntity;
-    private boolean stockpile;
-    private final List<Item> groundItems = new ArrayList<>();
+    private StockpileZone stockpileZone;
+    private final ItemStacks groundItems = new ItemStacks();
+    private ItemIndex itemIndex;
 
     public Tile(int x, int y, TerrainType terrainType) {
         this.x = x;
@@ -46,48 +45,67 @@ public class Tile {
     }
 
     public boolean isStockpile() {
-        return stockpile;
+        return stockpileZone != null;
     }
 
-    public void setStockpile(boolean stockpile) {
-        this.stockpile = stockpile;
+    public StockpileZone getStockpileZone() {
+        return stockpileZone;
     }
 
-    public List<Item> getGroundItems() {
-        return groundItems;
+    void setStockpileZone(StockpileZone stockpileZone) {
+        this.stockpileZone = stockpileZone;
     }
 
-    public boolean hasItem(ItemType type) {
-        for (Item item : groundItems) {
-            if (item.getType() == type) {
-                return true;
+    /** Read-only access — mutate through addItem/takeFirstItem/takeAnyItem so the item index and stockpile zone stay in sync. */
+    public int getItemCount() {
+        return groundItems.total();
+    }
+
+    public boolean hasAnyItem() {
+        return !groundItems.isEmpty();
+    }
+
+    void attachItemIndex(ItemIndex itemIndex) {
+        this.itemIndex = itemIndex;
+        if (itemIndex != null) {
+            for (ItemType type : ItemType.values()) {
+                int n = groundItems.count(type);
+                if (n > 0) itemIndex.onAdded(this, type, n);
             }
         }
-        return false;
+    }
+
+    public boolean hasItem(ItemType type) {
+        return groundItems.has(type);
     }
 
     public int countItems(ItemType type) {
-        int count = 0;
-        for (Item item : groundItems) {
-            if (item.getType() == type) {
-                count++;
-            }
-        }
-        return count;
+        return groundItems.count(type);
     }
 
     public void addItem(Item item) {
-        groundItems.add(item);
+        addItems(item.getType(), 1);
+    }
+
+    public void addItems(ItemType type, int amount) {
+        if (amount <= 0) return;
+        groundItems.add(type, amount);
+        if (itemIndex != null) itemIndex.onAdded(this, type, amount);
+        if (stockpileZone != null) stockpileZone.onItemsChanged(type, amount);
     }
 
     public Item takeFirstItem(ItemType type) {
-        for (int i = 0; i < groundItems.size(); i++) {
-            Item item = groundItems.get(i);
-            if (item.getType() == type) {
-                groundItems.remove(i);
-                return item;
-            }
+        Item item = groundItems.take(type);
+        if (item != null) {
+            if (itemIndex != null) itemIndex.onRemoved(this, type);
+            if (stockpileZone != null) stockpileZone.onItemsChanged(type, -1);
         }
-        return null;
+        return item;
+    }
+
+    /** Removes and returns one ground item of any type, or null if the tile is empty. */
+    public Item takeAnyItem() {
+        ItemType type = groundItems.firstType();
+        return type == null ? null : takeFirstItem(type);
     }
 }
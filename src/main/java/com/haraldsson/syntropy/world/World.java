@@ -1,24 +1,49 @@
 package com.haraldsson.syntropy.world;
 
+import com.haraldsson.syntropy.ai.ThinkContext;
 import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.systems.ResearchSystem;
+import com.haraldsson.syntropy.systems.belts.BeltNetwork;
+import com.haraldsson.syntropy.systems.jobs.JobBoard;
+import com.haraldsson.syntropy.systems.logistics.LogisticsNetwork;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Spatial grid — stores tiles and stockpile reference.
+ * Spatial grid — stores tiles, stockpile zones and the item/pawn lookup indexes.
  * Entity management is now handled by ECSWorld.
  */
 public class World {
     private final int width;
     private final int height;
     private final Tile[][] tiles;
-    private Tile stockpileTile;
+    private final StockpileIndex stockpiles = new StockpileIndex();
+    private final JobBoard jobBoard = new JobBoard();
+    private final BuildingIndex buildings = new BuildingIndex();
+    private final BeltNetwork belts = new BeltNetwork();
+    private final LogisticsNetwork logistics = new LogisticsNetwork();
+    private final ThinkContext thinkContext = new ThinkContext();
+    private final ItemIndex itemIndex;
+    private final EntitySpatialHash entityHash;
+    private final OccupancyGrid occupancy;
+    private final PollutionField pollution;
+    private ResearchSystem research; // set by GameState; null in bare test worlds
 
     public World(int width, int height, Tile[][] tiles) {
         this.width = width;
         this.height = height;
         this.tiles = tiles;
+        // Tiles may already hold items (save load) — attaching indexes them.
+        this.itemIndex = new ItemIndex(tiles, width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (tiles[x][y] != null) tiles[x][y].attachItemIndex(itemIndex);
+            }
+        }
+        this.entityHash = new EntitySpatialHash(width, height);
+        this.occupancy = new OccupancyGrid(width, height);
+        this.pollution = new PollutionField(width, height);
     }
 
     public int getWidth() {
@@ -40,32 +65,66 @@ public class World {
         return tiles;
     }
 
-    public Tile getStockpileTile() {
-        return stockpileTile;
+    public StockpileIndex getStockpiles() {
+        return stockpiles;
+    }
+
+    public JobBoard getJobBoard() {
+        return jobBoard;
+    }
+
+    /** Buildings by type and output state. Call sync(ecsWorld) before relying on it. */
+    public BuildingIndex getBuildings() {
+        return buildings;
+    }
+
+    public BeltNetwork getBelts() {
+        return belts;
+    }
+
+    public LogisticsNetwork getLogistics() {
+        return logistics;
+    }
+
+    /** Per-tick memo of world facts for the think tree — opened and closed by AITaskSystem. */
+    public ThinkContext getThinkContext() {
+        return thinkContext;
+    }
+
+    public ItemIndex getItemIndex() {
+        return itemIndex;
     }
 
-    public void setStockpileTile(Tile stockpileTile) {
-        this.stockpileTile = stockpileTile;
+    /** Pawn proximity grid — rebuilt each tick by SpatialHashSystem. */
+    public EntitySpatialHash getEntityHash() {
+        return entityHash;
+    }
+
+    /** Per-tile pawn occupancy and destination reservations — rebuilt each tick by MovementSystem. */
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
+    }
+
+    /** Local pollution concentration, stepped by PollutionSystem. */
+    public PollutionField getPollution() {
+        return pollution;
+    }
+
+    /** The colony's research, so RESEARCHER pawns know whether there is a project to work on. */
+    public ResearchSystem getResearch() {
+        return research;
+    }
+
+    public void setResearch(ResearchSystem research) {
+        this.research = research;
     }
 
     public Tile findNearestFoodTile(float fromX, float fromY) {
-        Tile best = null;
-        float bestDist = Float.MAX_VALUE;
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                Tile tile = tiles[x][y];
-                if (tile.hasItem(ItemType.FOOD)) {
-                    float dx = fromX - (x + 0.5f);
-                    float dy = fromY - (y + 0.5f);
-                    float dist = dx * dx + dy * dy;
-                    if (dist < bestDist) {
-                        bestDist = dist;
-                        best = tile;
-                    }
-                }
-            }
-        }
-        return best;
+        return findNearestTileWithItem(ItemType.FOOD, fromX, fromY);
+    }
+
+    public Tile findNearestTileWithItem(ItemType type, float fromX, float fromY) {
+        return itemIndex.findNearest(type, fromX, fromY);
     }
 
     public boolean isPassable(int tileX, int tileY) {
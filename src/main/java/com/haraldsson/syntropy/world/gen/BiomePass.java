@@ -0,0 +1,40 @@
+package com.haraldsson.syntropy.world.gen;
+
+import com.haraldsson.syntropy.world.TerrainType;
+
+/**
+ * Classifies each tile into a {@link TerrainType} from elevation and moisture.
+ * Low ground floods, high ground is rock; the grassland band turns to dirt where it is dry.
+ */
+public class BiomePass implements GenerationPass {
+    // Normalised fBm has a narrower spread than single-octave noise; these levels keep
+    // roughly the old land/water/rock proportions (~20% water, ~11% rock).
+    private static final float WATER_LEVEL = -0.21f;
+    private static final float SHORE_LEVEL = -0.06f;
+    private static final float HILL_LEVEL = 0.18f;
+    private static final float ROCK_LEVEL = 0.3f;
+    private static final float DRY_MOISTURE = -0.25f;
+
+    @Override
+    public void apply(GenerationContext ctx) {
+        byte water = (byte) TerrainType.WATER.ordinal();
+        byte sand = (byte) TerrainType.SAND.ordinal();
+        byte grass = (byte) TerrainType.GRASS.ordinal();
+        byte dirt = (byte) TerrainType.DIRT.ordinal();
+        byte stone = (byte) TerrainType.STONE.ordinal();
+
+        float[] elevation = ctx.elevation;
+        float[] moisture = ctx.moisture;
+        byte[] terrain = ctx.terrain;
+        for (int i = 0; i < terrain.length; i++) {
+            float e = elevation[i];
+            byte t;
+            if (e < WATER_LEVEL) t = water;
+            else if (e < SHORE_LEVEL) t = sand;
+            else if (e < HILL_LEVEL) t = moisture[i] < DRY_MOISTURE ? dirt : grass;
+            else if (e < ROCK_LEVEL) t = dirt;
+            else t = stone;
+            terrain[i] = t;
+        }
+    }
+}
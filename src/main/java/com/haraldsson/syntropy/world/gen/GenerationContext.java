@@ -0,0 +1,106 @@
+package com.haraldsson.syntropy.world.gen;
+
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.TerrainType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared state for a generation run. All per-tile layers are flat row-major arrays
+ * indexed by {@code y * width + x}. Filled in stage order by the {@link GenerationPass}es
+ * of a {@link GenerationPipeline}; treated as read-only once the run has finished.
+ */
+public class GenerationContext {
+    public final int width;
+    public final int height;
+    public final long seed;
+
+    public final float[] elevation;
+    public final float[] moisture;
+    public final byte[] terrain;      // TerrainType ordinals
+    public final boolean[] occupied;  // reserved by a building, stockpile or spawn
+
+    public final List<BuildingSite> buildingSites = new ArrayList<>();
+    public final List<int[]> spawnSites = new ArrayList<>(); // [x, y]; index 0 is the leader
+    public final List<int[]> stockpileSites = new ArrayList<>(); // [x, y] tiles of the starting stockpile zone
+
+    /** A building to place: type, tile and production parameters. */
+    public record BuildingSite(BuildingType type, int x, int y, float interval, int maxOutput, ItemType produced) {}
+
+    public GenerationContext(int width, int height, long seed) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        int size = width * height;
+        this.elevation = new float[size];
+        this.moisture = new float[size];
+        this.terrain = new byte[size];
+        this.occupied = new boolean[size];
+    }
+
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    public TerrainType terrainAt(int x, int y) {
+        return TerrainType.values()[terrain[index(x, y)]];
+    }
+
+    public boolean isPassable(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        byte t = terrain[index(x, y)];
+        return t != TerrainType.WATER.ordinal() && t != TerrainType.STONE.ordinal();
+    }
+
+    /** Derives an independent, reproducible seed for one layer or stage. */
+    public long subSeed(long salt) {
+        long h = seed ^ (salt * 0x9E3779B97F4A7C15L);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Nearest free passable tile to the hint, searching outward; reserves it.
+     * Falls back to the clamped hint when the whole map is blocked.
+     */
+    public int[] claimTile(int hintX, int hintY) {
+        // FIX BUG2a: only spawn buildings/colonists on passable tiles (2026-02-20)
+        hintX = Math.max(0, Math.min(width - 1, hintX));
+        hintY = Math.max(0, Math.min(height - 1, hintY));
+        if (isFree(hintX, hintY)) {
+            return claim(hintX, hintY);
+        }
+        for (int r = 1; r < Math.max(width, height); r++) {
+            for (int dy = -r; dy <= r; dy++) {
+                for (int dx = -r; dx <= r; dx++) {
+                    int nx = hintX + dx;
+                    int ny = hintY + dy;
+                    if (isFree(nx, ny)) {
+                        return claim(nx, ny);
+                    }
+                }
+            }
+        }
+        return new int[]{hintX, hintY};
+    }
+
+    /** Reserves exactly (x, y) if it is passable and unclaimed. */
+    public boolean claimIfFree(int x, int y) {
+        if (!isFree(x, y)) return false;
+        claim(x, y);
+        return true;
+    }
+
+    private boolean isFree(int x, int y) {
+        return isPassable(x, y) && !occupied[index(x, y)];
+    }
+
+    private int[] claim(int x, int y) {
+        occupied[index(x, y)] = true;
+        return new int[]{x, y};
+    }
+}
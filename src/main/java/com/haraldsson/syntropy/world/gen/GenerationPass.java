@@ -0,0 +1,10 @@
+package com.haraldsson.syntropy.world.gen;
+
+/**
+ * One stage of the world generation pipeline.
+ * A pass reads and writes the primitive layers in {@link GenerationContext}.
+ * Passes must be deterministic for a given context seed — no unseeded randomness.
+ */
+public interface GenerationPass {
+    void apply(GenerationContext ctx);
+}
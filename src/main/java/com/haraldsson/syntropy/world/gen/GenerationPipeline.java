@@ -0,0 +1,42 @@
+package com.haraldsson.syntropy.world.gen;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ordered list of {@link GenerationPass}es. Running the same pipeline with the same
+ * size and seed always produces bit-identical layers.
+ */
+public class GenerationPipeline {
+    private final List<GenerationPass> passes = new ArrayList<>();
+
+    public GenerationPipeline addPass(GenerationPass pass) {
+        passes.add(pass);
+        return this;
+    }
+
+    public List<GenerationPass> getPasses() {
+        return Collections.unmodifiableList(passes);
+    }
+
+    public GenerationContext run(int width, int height, long seed) {
+        GenerationContext ctx = new GenerationContext(width, height, seed);
+        for (GenerationPass pass : passes) {
+            pass.apply(ctx);
+        }
+        return ctx;
+    }
+
+    /**
+     * Default pipeline: elevation (4 octaves) → moisture (3 octaves) → biomes → resources → spawns.
+     */
+    public static GenerationPipeline standard() {
+        return new GenerationPipeline()
+                .addPass(new NoiseLayerPass(NoiseLayerPass.Layer.ELEVATION, 1, 4, 0.08, 2.0, 0.5f))
+                .addPass(new NoiseLayerPass(NoiseLayerPass.Layer.MOISTURE, 2, 3, 0.05, 2.0, 0.5f))
+                .addPass(new BiomePass())
+                .addPass(new ResourcePass())
+                .addPass(new SpawnPass());
+    }
+}
@@ -0,0 +1,70 @@
+package com.haraldsson.syntropy.world.gen;
+
+import com.haraldsson.syntropy.world.SimplexNoise;
+
+import java.util.stream.IntStream;
+
+/**
+ * Fills one float layer (elevation or moisture) with fractal (multi-octave) simplex noise,
+ * normalised to roughly [-1, 1]. Sampled in parallel row bands via {@link SimplexNoise#noise2Block}.
+ */
+public class NoiseLayerPass implements GenerationPass {
+    public enum Layer { ELEVATION, MOISTURE }
+
+    private static final int BAND_HEIGHT = 32;
+
+    private final Layer layer;
+    private final long salt;
+    private final int octaves;
+    private final double baseFrequency;
+    private final double lacunarity;
+    private final float gain;
+
+    public NoiseLayerPass(Layer layer, long salt, int octaves, double baseFrequency, double lacunarity, float gain) {
+        this.layer = layer;
+        this.salt = salt;
+        this.octaves = octaves;
+        this.baseFrequency = baseFrequency;
+        this.lacunarity = lacunarity;
+        this.gain = gain;
+    }
+
+    @Override
+    public void apply(GenerationContext ctx) {
+        float[] out = layer == Layer.ELEVATION ? ctx.elevation : ctx.moisture;
+        int width = ctx.width;
+        int height = ctx.height;
+
+        long[] octaveSeeds = new long[octaves];
+        float amplitudeSum = 0f;
+        float amplitude = 1f;
+        for (int o = 0; o < octaves; o++) {
+            octaveSeeds[o] = ctx.subSeed(salt * 31 + o);
+            amplitudeSum += amplitude;
+            amplitude *= gain;
+        }
+        float norm = 1f / amplitudeSum;
+
+        int bands = (height + BAND_HEIGHT - 1) / BAND_HEIGHT;
+        IntStream.range(0, bands).parallel().forEach(band -> {
+            int y0 = band * BAND_HEIGHT;
+            int rows = Math.min(BAND_HEIGHT, height - y0);
+            int offset = y0 * width;
+            int count = rows * width;
+            float[] octave = new float[count];
+            double freq = baseFrequency;
+            float amp = 1f;
+            for (int o = 0; o < octaves; o++) {
+                SimplexNoise.noise2Block(octaveSeeds[o], 0, y0, width, rows, freq, octave);
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = (o == 0 ? 0f : out[offset + i]) + octave[i] * amp;
+                }
+                freq *= lacunarity;
+                amp *= gain;
+            }
+            for (int i = 0; i < count; i++) {
+                out[offset + i] *= norm;
+            }
+        });
+    }
+}
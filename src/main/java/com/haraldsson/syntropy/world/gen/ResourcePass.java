@@ -0,0 +1,62 @@
+package com.haraldsson.syntropy.world.gen;
+
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.TerrainType;
+
+/**
+ * Places the starting production buildings. Miners are pulled toward exposed rock
+ * near their hint position; the farm and woodcutter sit at the map centre.
+ */
+public class ResourcePass implements GenerationPass {
+    private static final int ROCK_SEARCH_RADIUS = 6;
+
+    @Override
+    public void apply(GenerationContext ctx) {
+        int w = ctx.width;
+        int h = ctx.height;
+
+        int[] m1 = nearRock(ctx, 4, 4);
+        site(ctx, BuildingType.MINER, ctx.claimTile(m1[0], m1[1]), 5f, 5, ItemType.STONE);
+
+        int[] m2 = nearRock(ctx, w - 5, 5);
+        site(ctx, BuildingType.MINER, ctx.claimTile(m2[0], m2[1]), 5f, 5, ItemType.STONE);
+
+        site(ctx, BuildingType.FOOD_GROWER, ctx.claimTile(w / 2, h / 2), 6f, 5, ItemType.FOOD);
+        site(ctx, BuildingType.WOODCUTTER, ctx.claimTile(w / 2 - 4, h / 2), 8f, 5, ItemType.WOOD);
+    }
+
+    private static void site(GenerationContext ctx, BuildingType type, int[] xy, float interval, int max, ItemType produced) {
+        ctx.buildingSites.add(new GenerationContext.BuildingSite(type, xy[0], xy[1], interval, max, produced));
+    }
+
+    /** Closest passable tile bordering STONE within the search radius, or the hint itself. */
+    private static int[] nearRock(GenerationContext ctx, int hintX, int hintY) {
+        int bestX = hintX, bestY = hintY;
+        int bestDist = Integer.MAX_VALUE;
+        for (int dy = -ROCK_SEARCH_RADIUS; dy <= ROCK_SEARCH_RADIUS; dy++) {
+            for (int dx = -ROCK_SEARCH_RADIUS; dx <= ROCK_SEARCH_RADIUS; dx++) {
+                int x = hintX + dx;
+                int y = hintY + dy;
+                int dist = dx * dx + dy * dy;
+                if (dist >= bestDist || !ctx.isPassable(x, y) || !bordersRock(ctx, x, y)) continue;
+                bestDist = dist;
+                bestX = x;
+                bestY = y;
+            }
+        }
+        return new int[]{bestX, bestY};
+    }
+
+    private static boolean bordersRock(GenerationContext ctx, int x, int y) {
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                int nx = x + dx;
+                int ny = y + dy;
+                if (nx < 0 || ny < 0 || nx >= ctx.width || ny >= ctx.height) continue;
+                if (ctx.terrainAt(nx, ny) == TerrainType.STONE) return true;
+            }
+        }
+        return false;
+    }
+}
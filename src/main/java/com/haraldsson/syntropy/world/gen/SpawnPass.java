@@ -0,0 +1,30 @@
+package com.haraldsson.syntropy.world.gen;
+
+/**
+ * Reserves the starting stockpile zone (up to 3×2 tiles) and the starting positions of the leader and colonists.
+ * Runs after {@link ResourcePass} so spawns never land on a building.
+ */
+public class SpawnPass implements GenerationPass {
+
+    @Override
+    public void apply(GenerationContext ctx) {
+        int w = ctx.width;
+        int h = ctx.height;
+
+        int[] sp = ctx.claimTile(w - 4, h - 4);
+        ctx.stockpileSites.add(sp);
+        for (int dy = 0; dy >= -1; dy--) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if ((dx != 0 || dy != 0) && ctx.claimIfFree(sp[0] + dx, sp[1] + dy)) {
+                    ctx.stockpileSites.add(new int[]{sp[0] + dx, sp[1] + dy});
+                }
+            }
+        }
+
+        // Leader first, then the three starting colonists
+        ctx.spawnSites.add(ctx.claimTile(w / 2, h / 2 + 2));
+        ctx.spawnSites.add(ctx.claimTile(w / 2 - 1, h / 2 + 2));
+        ctx.spawnSites.add(ctx.claimTile(w / 2 + 1, h / 2 + 2));
+        ctx.spawnSites.add(ctx.claimTile(w / 2, h / 2 + 3));
+    }
+}
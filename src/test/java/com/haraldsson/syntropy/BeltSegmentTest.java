@@ -0,0 +1,116 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.entities.RecipeBook;
+import com.haraldsson.syntropy.systems.belts.BeltNetwork;
+import com.haraldsson.syntropy.systems.belts.BeltSegment;
+import com.haraldsson.syntropy.systems.belts.Inserter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeltSegmentTest {
+
+    private static void run(BeltSegment belt, float seconds) {
+        for (float t = 0f; t < seconds; t += 1f / 60f) belt.update(1f / 60f);
+    }
+
+    @Test
+    void itemsTravelToTheEndAndCompress() {
+        BeltSegment belt = new BeltSegment(0, 0, BeltSegment.Direction.EAST, 2, 1f);
+        assertTrue(belt.insert(ItemType.STONE));
+        assertFalse(belt.insert(ItemType.WOOD), "tail is still occupied");
+
+        run(belt, 0.3f); // moves a bit over one item length
+        assertTrue(belt.insert(ItemType.WOOD));
+
+        run(belt, 5f); // no sink — both stop at the end, nose to tail
+        assertArrayEquals(new ItemType[]{ItemType.STONE, ItemType.WOOD}, belt.getItems());
+        assertEquals(1.875f, belt.getItemPosition(0), 1e-3f);
+        assertEquals(1.625f, belt.getItemPosition(1), 1e-3f);
+    }
+
+    @Test
+    void saturatedBeltHoldsFourItemsPerTile() {
+        BeltSegment belt = new BeltSegment(0, 0, BeltSegment.Direction.NORTH, 3);
+        for (int i = 0; i < 200; i++) {
+            belt.insert(ItemType.STONE);
+            belt.update(1f / 60f);
+        }
+        assertTrue(belt.isFull());
+        assertEquals(12, belt.getItemCount());
+    }
+
+    @Test
+    void frontItemHandsOffToNextSegmentAndSink() {
+        BeltSegment first = new BeltSegment(0, 0, BeltSegment.Direction.EAST, 1);
+        BeltSegment second = new BeltSegment(1, 0, BeltSegment.Direction.EAST, 1);
+        first.connectTo(second);
+        List<ItemType> delivered = new ArrayList<>();
+        second.setSink(type -> delivered.add(type));
+
+        first.insert(ItemType.FOOD);
+        for (int i = 0; i < 120; i++) {
+            second.update(1f / 60f);
+            first.update(1f / 60f);
+        }
+        assertEquals(List.of(ItemType.FOOD), delivered);
+        assertEquals(0, first.getItemCount());
+        assertEquals(0, second.getItemCount());
+    }
+
+    @Test
+    void insertersMoveOutputIntoSmelterInputs() {
+        ECSWorld ecsWorld = new ECSWorld();
+        Entity miner = ecsWorld.createEntity();
+        BuildingComponent minerBc = new BuildingComponent("MINER", 1f, 5, ItemType.STONE);
+        miner.add(minerBc);
+        Entity smelter = ecsWorld.createEntity();
+        BuildingComponent smelterBc = new BuildingComponent(RecipeBook.SMELT_METAL, 5);
+        smelter.add(smelterBc);
+
+        BeltNetwork network = new BeltNetwork();
+        BeltSegment belt = network.addSegment(1, 0, BeltSegment.Direction.EAST, 3);
+        network.addInserter(Inserter.loading(miner, belt));
+        network.addInserter(Inserter.unloading(belt, smelter));
+
+        minerBc.addOutput(ItemType.STONE);
+        minerBc.addOutput(ItemType.STONE);
+        for (int i = 0; i < 600; i++) network.update(1f / 60f);
+
+        assertFalse(minerBc.hasOutput());
+        assertEquals(2, smelterBc.inputBuffer.count(ItemType.STONE));
+        assertEquals(0, belt.getItemCount());
+    }
+
+    @Test
+    void deliveringFromALongFullBeltDoesNotRescanIt() {
+        BeltSegment belt = new BeltSegment(0, 0, BeltSegment.Direction.EAST, 256); // 1024 items
+        while (!belt.isFull()) {
+            belt.insert(ItemType.STONE);
+            belt.update(1f / 60f);
+        }
+        run(belt, 5f); // settle: fully compressed at the end
+        int full = belt.getItemCount();
+
+        List<ItemType> delivered = new ArrayList<>();
+        belt.setSink(delivered::add);
+        long before = belt.getVisitCount();
+        run(belt, 10f);
+
+        assertTrue(delivered.size() > 50, "front items should keep leaving, got " + delivered.size());
+        assertEquals(full - delivered.size(), belt.getItemCount());
+        long perDelivery = (belt.getVisitCount() - before) / delivered.size();
+        assertTrue(perDelivery < 10, "each delivery should touch O(1) items, touched " + perDelivery);
+        for (int i = 1; i < belt.getItemCount(); i++) {
+            assertEquals(belt.getItemPosition(i - 1) - 0.25f, belt.getItemPosition(i), 1e-3f,
+                    "the stopped run behind the front must stay closed up");
+        }
+    }
+}
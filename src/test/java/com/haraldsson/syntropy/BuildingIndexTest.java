@@ -0,0 +1,88 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.BuildingIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildingIndexTest {
+
+    private ECSWorld ecsWorld;
+    private BuildingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        index = new BuildingIndex();
+    }
+
+    private Entity building(BuildingType type, ItemType produces) {
+        Entity e = ecsWorld.createEntity();
+        e.add(new BuildingComponent(type, 1f, 3, produces));
+        return e;
+    }
+
+    @Test
+    void groupsByTypeAndAcceptsLegacyNames() {
+        Entity miner = building(BuildingType.MINER, ItemType.STONE);
+        Entity grower = ecsWorld.createEntity();
+        grower.add(new BuildingComponent("FoodGrower", 1f, 3, ItemType.FOOD));
+        index.sync(ecsWorld);
+
+        assertTrue(index.getBuildings(BuildingType.MINER).contains(miner));
+        assertTrue(index.getBuildings(BuildingType.FOOD_GROWER).contains(grower));
+        assertTrue(index.getBuildings(BuildingType.WOODCUTTER).isEmpty());
+    }
+
+    @Test
+    void tracksOutputTransitions() {
+        Entity grower = building(BuildingType.FOOD_GROWER, ItemType.FOOD);
+        BuildingComponent bc = grower.get(BuildingComponent.class);
+        index.sync(ecsWorld);
+        assertFalse(index.anyWithOutput(BuildingType.FOOD_GROWER));
+
+        bc.addOutput(ItemType.FOOD);
+        bc.addOutput(ItemType.FOOD);
+        assertTrue(index.getBuildingsWithOutput(BuildingType.FOOD_GROWER).contains(grower));
+        assertFalse(index.anyWithOutput(BuildingType.MINER));
+
+        bc.takeOutput();
+        assertTrue(index.anyWithOutput(BuildingType.FOOD_GROWER), "one item still buffered");
+        bc.takeOutput();
+        assertFalse(index.anyWithOutput());
+    }
+
+    @Test
+    void syncPicksUpExistingOutputAndRemovals() {
+        Entity miner = building(BuildingType.MINER, ItemType.STONE);
+        miner.get(BuildingComponent.class).addOutput(ItemType.STONE); // before registration
+        index.sync(ecsWorld);
+        assertTrue(index.anyWithOutput(BuildingType.MINER));
+
+        ecsWorld.removeEntity(miner);
+        index.sync(ecsWorld);
+        assertFalse(index.anyWithOutput(BuildingType.MINER));
+        assertTrue(index.getAll().isEmpty());
+    }
+
+    @Test
+    void syncSeesABuildingComponentAddedToAnExistingEntity() {
+        Entity site = ecsWorld.createEntity(); // e.g. a construction site that becomes a building
+        index.sync(ecsWorld);
+        assertTrue(index.getAll().isEmpty());
+
+        site.add(new BuildingComponent(BuildingType.MINER, 1f, 3, ItemType.STONE));
+        index.sync(ecsWorld);
+        assertTrue(index.getBuildings(BuildingType.MINER).contains(site));
+
+        site.remove(BuildingComponent.class);
+        index.sync(ecsWorld);
+        assertTrue(index.getAll().isEmpty());
+    }
+}
@@ -2,17 +2,22 @@ package com.haraldsson.syntropy;
 
 import com.haraldsson.syntropy.core.EventType;
 import com.haraldsson.syntropy.core.GameEvents;
+import com.haraldsson.syntropy.core.ResourceProduced;
 import com.haraldsson.syntropy.ecs.ECSWorld;
 import com.haraldsson.syntropy.ecs.Entity;
 import com.haraldsson.syntropy.ecs.components.BuildingComponent;
 import com.haraldsson.syntropy.ecs.components.PositionComponent;
 import com.haraldsson.syntropy.ecs.systems.BuildingProductionSystem;
+import com.haraldsson.syntropy.entities.BuildingType;
 import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.entities.Recipe;
+import com.haraldsson.syntropy.entities.RecipeBook;
 import com.haraldsson.syntropy.world.TerrainType;
 import com.haraldsson.syntropy.world.Tile;
 import com.haraldsson.syntropy.world.World;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,7 +40,7 @@ class BuildingProductionSystemTest {
 
         Entity miner = ecsWorld.createEntity();
         BuildingComponent bc = new BuildingComponent("MINER", 1f, 5, ItemType.STONE);
-        bc.built = true;
+        bc.setBuilt(true);
         miner.add(bc);
         miner.add(new PositionComponent(0, 0));
 
@@ -50,7 +55,9 @@ class BuildingProductionSystemTest {
 
         // assert
         assertFalse(fired.isEmpty(), "Expected RESOURCE_PRODUCED event to be fired");
-        assertEquals(ItemType.STONE.name(), fired.get(0));
+        ResourceProduced payload = assertInstanceOf(ResourceProduced.class, fired.get(0));
+        assertEquals(ItemType.STONE, payload.itemType());
+        assertSame(miner, payload.building());
     }
 
     @Test
@@ -61,7 +68,7 @@ class BuildingProductionSystemTest {
 
         Entity miner = ecsWorld.createEntity();
         BuildingComponent bc = new BuildingComponent("MINER", 5f, 5, ItemType.STONE);
-        bc.built = true;
+        bc.setBuilt(true);
         miner.add(bc);
         miner.add(new PositionComponent(0, 0));
 
@@ -75,4 +82,96 @@ class BuildingProductionSystemTest {
 
         assertTrue(fired.isEmpty(), "Expected no RESOURCE_PRODUCED event before interval");
     }
+
+    @Test
+    void fullBufferParksUntilOutputIsTaken() {
+        ECSWorld ecsWorld = new ECSWorld();
+        World world = buildMinimalWorld();
+        Entity grower = ecsWorld.createEntity();
+        BuildingComponent bc = new BuildingComponent("FOOD_GROWER", 1f, 2, ItemType.FOOD);
+        grower.add(bc);
+        BuildingProductionSystem system = new BuildingProductionSystem();
+
+        for (int i = 0; i < 10; i++) system.update(ecsWorld, world, 1.1f);
+        assertEquals(2, bc.getOutputCount());
+        assertEquals(0, system.getScheduledCount(), "full building should not stay in the queue");
+
+        bc.takeOutput();
+        system.update(ecsWorld, world, 0.1f);
+        assertEquals(2, bc.getOutputCount(), "freed slot should be refilled on the next tick");
+    }
+
+    @Test
+    void syncTimersWritesBackProgress() {
+        ECSWorld ecsWorld = new ECSWorld();
+        World world = buildMinimalWorld();
+        Entity miner = ecsWorld.createEntity();
+        BuildingComponent bc = new BuildingComponent("MINER", 4f, 5, ItemType.STONE);
+        bc.timer = 1f; // as loaded from a save
+        miner.add(bc);
+        BuildingProductionSystem system = new BuildingProductionSystem();
+
+        system.update(ecsWorld, world, 2f);
+        system.syncTimers();
+        assertEquals(3f, bc.timer, 1e-4f);
+        assertEquals(0, bc.getOutputCount());
+
+        system.update(ecsWorld, world, 1.5f);
+        assertEquals(1, bc.getOutputCount());
+    }
+
+    @Test
+    void smelterWaitsForInputsThenConsumesThem() {
+        ECSWorld ecsWorld = new ECSWorld();
+        World world = buildMinimalWorld();
+        GameEvents events = new GameEvents();
+        List<Object> fired = new ArrayList<>();
+        events.on(EventType.RESOURCE_PRODUCED, fired::add);
+
+        Entity smelter = ecsWorld.createEntity();
+        BuildingComponent bc = new BuildingComponent(RecipeBook.SMELT_METAL, 5);
+        smelter.add(bc);
+        BuildingProductionSystem system = new BuildingProductionSystem();
+        system.setEvents(events);
+
+        system.update(ecsWorld, world, 11f);
+        assertTrue(fired.isEmpty(), "no inputs — nothing produced");
+        assertEquals(0, system.getScheduledCount(), "parked while waiting for inputs");
+
+        assertEquals(2, bc.addInput(ItemType.STONE, 2));
+        assertEquals(0, bc.addInput(ItemType.FOOD, 1), "smelter does not take food");
+        system.update(ecsWorld, world, 0.1f);
+        assertTrue(fired.isEmpty(), "still missing wood");
+
+        bc.addInput(ItemType.WOOD, 1);
+        system.update(ecsWorld, world, 0.1f);
+        assertEquals(1, bc.outputBuffer.count(ItemType.METAL));
+        assertTrue(bc.inputBuffer.isEmpty());
+        assertEquals(ItemType.METAL, ((ResourceProduced) fired.get(0)).itemType());
+    }
+
+    @Test
+    void legacySourceBuildingsGetTheirDefaultRecipe() {
+        assertSame(RecipeBook.MINE_STONE, new BuildingComponent("MINER", 1f, 5, ItemType.STONE).recipe);
+        assertNull(new BuildingComponent("MINER", 1f, 5, ItemType.FOOD).recipe, "mismatched output stays legacy");
+        assertEquals(8, new BuildingComponent(RecipeBook.SMELT_METAL, 5).getInputSpace(ItemType.STONE));
+    }
+
+    @Test
+    void recipesAreLoadedFromData() throws Exception {
+        assertEquals(2, RecipeBook.SMELT_METAL.getInput(ItemType.STONE));
+        assertEquals(1, RecipeBook.SMELT_METAL.getOutput(ItemType.METAL));
+        assertEquals(BuildingType.SMELTER.defaultPollutionRate, RecipeBook.SMELT_METAL.getPollutionRate());
+
+        List<Recipe> parsed = RecipeBook.parse(new StringReader(
+                "# comment\n\nbake_bread FOOD_GROWER food:2+wood:1 FOOD:3 4 0 0.5\n"), "test");
+        assertEquals(1, parsed.size());
+        assertEquals(2, parsed.get(0).getInput(ItemType.FOOD));
+        assertEquals(3, parsed.get(0).getOutputTotal());
+        assertEquals(0.5f, parsed.get(0).getPollutionRate());
+
+        IllegalStateException bad = assertThrows(IllegalStateException.class,
+                () -> RecipeBook.parse(new StringReader("x MINER - STONE 5 0\n"), "test"));
+        assertTrue(bad.getMessage().startsWith("test:1:"), bad.getMessage());
+    }
 }
@@ -59,8 +59,8 @@ class ColonistDeathTest {
         // assert — item should be on the tile and inventory should be empty
         Tile tile = world.getTile(3, 3);
         assertNotNull(tile);
-        assertFalse(tile.getGroundItems().isEmpty(), "Expected item to be dropped to the ground tile");
-        assertEquals(ItemType.STONE, tile.getGroundItems().get(0).getType());
+        assertTrue(tile.hasAnyItem(), "Expected item to be dropped to the ground tile");
+        assertEquals(1, tile.countItems(ItemType.STONE));
         assertNull(inv.carriedItem, "Expected colonist inventory to be cleared after death");
     }
 
@@ -84,7 +84,7 @@ class ColonistDeathTest {
         needsSystem.update(ecsWorld, world, 0.1f);
 
         Tile tile = world.getTile(2, 2);
-        assertTrue(tile.getGroundItems().isEmpty(), "Expected no items dropped when inventory is empty");
+        assertFalse(tile.hasAnyItem(), "Expected no items dropped when inventory is empty");
     }
 
     @Test
@@ -112,6 +112,6 @@ class ColonistDeathTest {
         needsSystem.update(ecsWorld, world, 0.1f);
 
         Tile tile = world.getTile(1, 1);
-        assertEquals(1, tile.getGroundItems().size(), "Expected exactly one item on the tile");
+        assertEquals(1, tile.getItemCount(), "Expected exactly one item on the tile");
     }
 }
@@ -0,0 +1,86 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.IdentityComponent;
+import com.haraldsson.syntropy.ecs.components.LeaderComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.world.EntitySpatialHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntitySpatialHashTest {
+
+    private Entity pawn(ECSWorld ecsWorld, float x, float y) {
+        Entity e = ecsWorld.createEntity();
+        e.add(new PositionComponent(x, y));
+        e.add(new HealthComponent());
+        e.add(new IdentityComponent("P" + e.getId(), 30));
+        return e;
+    }
+
+    private static float distSq(Entity e, float x, float y) {
+        PositionComponent p = e.get(PositionComponent.class);
+        return (p.x - x) * (p.x - x) + (p.y - y) * (p.y - y);
+    }
+
+    @Test
+    void radiusAndKNearestMatchBruteForce() {
+        ECSWorld ecsWorld = new ECSWorld();
+        Random rng = new Random(3);
+        List<Entity> all = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Entity e = pawn(ecsWorld, rng.nextFloat() * 60f, rng.nextFloat() * 45f);
+            if (i % 7 == 0) e.get(HealthComponent.class).dead = true;
+            if (i == 11) e.add(new LeaderComponent());
+            all.add(e);
+        }
+        EntitySpatialHash hash = new EntitySpatialHash(60, 45);
+        hash.rebuild(ecsWorld);
+        assertEquals(300, hash.size());
+
+        for (int q = 0; q < 50; q++) {
+            float x = rng.nextFloat() * 60f, y = rng.nextFloat() * 45f;
+            List<Entity> expected = new ArrayList<>();
+            for (Entity e : all) {
+                if (EntitySpatialHash.ALIVE_NON_LEADER.test(e)) expected.add(e);
+            }
+            expected.sort(Comparator.comparingDouble(e -> distSq(e, x, y)));
+
+            int k = q % 2 == 0 ? 5 : 20; // alternating sizes exercise the hash's reused scratch
+            Entity[] out = new Entity[k];
+            assertEquals(k, hash.kNearest(x, y, k, null, EntitySpatialHash.ALIVE_NON_LEADER, out));
+            for (int i = 0; i < k; i++) {
+                assertEquals(distSq(expected.get(i), x, y), distSq(out[i], x, y), 1e-5f);
+            }
+
+            List<Entity> inRange = hash.queryRadius(x, y, 6f, null, EntitySpatialHash.ALIVE_NON_LEADER, new ArrayList<>());
+            long expectedCount = expected.stream().filter(e -> distSq(e, x, y) <= 36f).count();
+            assertEquals(expectedCount, inRange.size());
+        }
+    }
+
+    @Test
+    void excludesSelfAndSeesSmallMovesSinceRebuild() {
+        ECSWorld ecsWorld = new ECSWorld();
+        Entity a = pawn(ecsWorld, 3.9f, 3.9f);
+        Entity b = pawn(ecsWorld, 10f, 10f);
+        EntitySpatialHash hash = new EntitySpatialHash(20, 20);
+        hash.rebuild(ecsWorld);
+
+        assertFalse(hash.anyInRadius(3.9f, 3.9f, 2f, a, EntitySpatialHash.ALIVE_NON_LEADER));
+        assertSame(b, hash.nearest(3.9f, 3.9f, a, EntitySpatialHash.ALIVE_NON_LEADER));
+
+        // b drifts across a cell boundary without a rebuild
+        b.get(PositionComponent.class).x = 7.5f;
+        b.get(PositionComponent.class).y = 7.5f;
+        assertTrue(hash.anyInRadius(6.5f, 6.5f, 1.5f, a, EntitySpatialHash.ALIVE_NON_LEADER));
+    }
+}
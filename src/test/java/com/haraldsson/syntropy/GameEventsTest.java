@@ -0,0 +1,98 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.core.ColonistDied;
+import com.haraldsson.syntropy.core.EventType;
+import com.haraldsson.syntropy.core.GameEvents;
+import com.haraldsson.syntropy.core.LeaderDied;
+import com.haraldsson.syntropy.core.ResourceProduced;
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventsTest {
+
+    @Test
+    void typedListenersGetTheDeclaredPayload() {
+        GameEvents events = new GameEvents();
+        List<String> names = new ArrayList<>();
+        events.on(EventType.COLONIST_DIED, ColonistDied.class, died -> names.add(died.name()));
+        events.on(EventType.COLONIST_DIED, Object.class, died -> names.add("any"));
+
+        events.fire(EventType.COLONIST_DIED, new ColonistDied("Ari"));
+        events.fire(EventType.LEADER_DIED, new LeaderDied("Kael"));
+
+        assertEquals(List.of("Ari", "any"), names);
+    }
+
+    @Test
+    void mismatchedPayloadsAreRejectedInsteadOfDropped() {
+        GameEvents events = new GameEvents();
+        assertThrows(IllegalArgumentException.class,
+                () -> events.on(EventType.COLONIST_DIED, String.class, name -> {}));
+        assertThrows(IllegalArgumentException.class,
+                () -> events.fire(EventType.COLONIST_DIED, "Ari"));
+    }
+
+    @Test
+    void resourceProducedReachesBothChannels() {
+        GameEvents events = new GameEvents();
+        Entity building = new ECSWorld().createEntity();
+        List<ItemType> typed = new ArrayList<>();
+        List<Object> untyped = new ArrayList<>();
+        events.onResourceProduced((b, type) -> typed.add(type));
+        events.on(EventType.RESOURCE_PRODUCED, untyped::add);
+
+        events.fireResourceProduced(building, ItemType.STONE);
+
+        assertEquals(List.of(ItemType.STONE), typed);
+        ResourceProduced payload = assertInstanceOf(ResourceProduced.class, untyped.get(0));
+        assertSame(building, payload.building());
+    }
+
+    @Test
+    void logKeepsTheLastEntriesAndFormatsOnRead() {
+        GameEvents events = new GameEvents();
+        for (int i = 0; i < 25; i++) events.log("tick %s", i);
+        events.log("PRODUCED: %s from %s", ItemType.METAL, BuildingType.SMELTER);
+
+        List<String> log = events.getEventLog();
+        assertEquals(20, log.size());
+        assertEquals("tick 6", log.get(0));
+        assertEquals("PRODUCED: METAL from SMELTER", log.get(19));
+        assertSame(log, events.getEventLog(), "unchanged log is not rebuilt");
+    }
+
+    /** Reads allocation counters, so it's a benchmark: excluded from `test`, run with `gradlew benchmark`. */
+    @Test
+    @Tag("benchmark")
+    void hotPathDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        GameEvents events = new GameEvents();
+        Entity building = new ECSWorld().createEntity();
+        int[] seen = new int[1];
+        events.onResourceProduced((b, type) -> seen[0]++);
+
+        for (int i = 0; i < 20_000; i++) { // warm up
+            events.fireResourceProduced(building, ItemType.STONE);
+            events.log("PRODUCED: %s from %s", ItemType.STONE, BuildingType.MINER);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            events.fireResourceProduced(building, ItemType.STONE);
+            events.log("PRODUCED: %s from %s", ItemType.STONE, BuildingType.MINER);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(120_000, seen[0]);
+        assertTrue(allocated < 64 * 1024, "allocated " + allocated + " bytes over 100k events");
+    }
+}
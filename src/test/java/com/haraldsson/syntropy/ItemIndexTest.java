@@ -0,0 +1,84 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.entities.Item;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemIndexTest {
+
+    private World buildWorld(int w, int h) {
+        Tile[][] tiles = new Tile[w][h];
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+            }
+        }
+        return new World(w, h, tiles);
+    }
+
+    /** Reference answer: full scan, same distance metric as the index. */
+    private float bruteForceDist(World world, ItemType type, float fx, float fy) {
+        float best = Float.MAX_VALUE;
+        for (int x = 0; x < world.getWidth(); x++) {
+            for (int y = 0; y < world.getHeight(); y++) {
+                if (!world.getTile(x, y).hasItem(type)) continue;
+                float dx = fx - (x + 0.5f);
+                float dy = fy - (y + 0.5f);
+                best = Math.min(best, dx * dx + dy * dy);
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void nearestMatchesFullScan() {
+        World world = buildWorld(50, 37);
+        Random rng = new Random(7);
+        for (int i = 0; i < 40; i++) {
+            world.getTile(rng.nextInt(50), rng.nextInt(37)).addItem(new Item(ItemType.FOOD));
+            world.getTile(rng.nextInt(50), rng.nextInt(37)).addItem(new Item(ItemType.WOOD));
+        }
+        for (int q = 0; q < 200; q++) {
+            float fx = rng.nextFloat() * 50f;
+            float fy = rng.nextFloat() * 37f;
+            Tile found = world.findNearestFoodTile(fx, fy);
+            assertNotNull(found);
+            float dx = fx - (found.getX() + 0.5f);
+            float dy = fy - (found.getY() + 0.5f);
+            assertEquals(bruteForceDist(world, ItemType.FOOD, fx, fy), dx * dx + dy * dy, 1e-4f);
+            // Drain food as we go so the index is exercised through removals too
+            if (q % 10 == 0) found.takeFirstItem(ItemType.FOOD);
+        }
+    }
+
+    @Test
+    void takingLastItemClearsIndex() {
+        World world = buildWorld(20, 20);
+        world.getTile(3, 4).addItem(new Item(ItemType.FOOD));
+        assertSame(world.getTile(3, 4), world.findNearestFoodTile(18f, 18f));
+
+        assertNotNull(world.getTile(3, 4).takeAnyItem());
+        assertNull(world.findNearestFoodTile(18f, 18f));
+        assertEquals(0, world.getItemIndex().getTotal(ItemType.FOOD));
+    }
+
+    @Test
+    void itemsPresentBeforeWorldConstructionAreIndexed() {
+        Tile[][] tiles = new Tile[10][10];
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 10; y++) {
+                tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+            }
+        }
+        tiles[9][9].addItem(new Item(ItemType.FOOD));
+        World world = new World(10, 10, tiles);
+        assertSame(tiles[9][9], world.findNearestFoodTile(0f, 0f));
+    }
+}
@@ -0,0 +1,134 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.systems.jobs.Job;
+import com.haraldsson.syntropy.systems.jobs.JobBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobBoardTest {
+
+    private ECSWorld ecsWorld;
+    private JobBoard board;
+    private Entity miner;
+    private BuildingComponent minerBc;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        board = new JobBoard();
+        miner = ecsWorld.createEntity();
+        minerBc = new BuildingComponent("MINER", 1f, 5, ItemType.STONE);
+        miner.add(minerBc);
+        miner.add(new PositionComponent(5f, 5f));
+    }
+
+    private Entity pawn() {
+        Entity p = ecsWorld.createEntity();
+        p.add(new HealthComponent());
+        return p;
+    }
+
+    private void produce(Entity building, BuildingComponent bc) {
+        bc.outputBuffer.add(bc.producedItemType);
+        board.onResourceProduced(building, bc.producedItemType);
+    }
+
+    @Test
+    void seedsFromExistingOutputAndIgnoresEventsBeforeSeeding() {
+        minerBc.outputBuffer.add(ItemType.STONE);
+        board.onResourceProduced(miner, ItemType.STONE); // before seeding — scan will count it
+        board.ensureSeeded(ecsWorld);
+        assertEquals(1, board.getOpenJobCount());
+        assertTrue(board.hasOpenJobFrom(BuildingType.MINER));
+    }
+
+    @Test
+    void twoPawnsNeverClaimTheSameUnit() {
+        board.ensureSeeded(ecsWorld);
+        produce(miner, minerBc);
+
+        Entity a = pawn();
+        Entity b = pawn();
+        assertNotNull(board.claimHaul(a, 0f, 0f, t -> true));
+        assertNull(board.claimHaul(b, 0f, 0f, t -> true), "Only one unit of output exists");
+
+        produce(miner, minerBc);
+        Job second = board.claimCollect(b, BuildingType.MINER, 0f, 0f);
+        assertNotNull(second);
+        assertNotSame(board.getClaim(a), second);
+    }
+
+    @Test
+    void staleJobsAreDroppedWhenOutputWasTakenElsewhere() {
+        board.ensureSeeded(ecsWorld);
+        produce(miner, minerBc);
+        minerBc.takeOutput(); // e.g. the player grabbed it
+
+        assertNull(board.claimHaul(pawn(), 0f, 0f, t -> true));
+        assertEquals(0, board.getOpenJobCount());
+    }
+
+    @Test
+    void hasOpenJobIgnoresStaleJobs() {
+        board.ensureSeeded(ecsWorld);
+        produce(miner, minerBc);
+        minerBc.takeOutput();
+
+        assertFalse(board.hasOpenJob(ItemType.STONE));
+        assertFalse(board.hasOpenJobFrom(BuildingType.MINER));
+        assertFalse(board.hasOpenJob(t -> true));
+        assertEquals(0, board.getOpenJobCount(), "stale job pruned by the check");
+
+        produce(miner, minerBc);
+        produce(miner, minerBc);
+        minerBc.takeOutput(); // one of the two units is still there
+        assertTrue(board.hasOpenJobFrom(BuildingType.MINER));
+        assertNotNull(board.claimCollect(pawn(), BuildingType.MINER, 0f, 0f));
+        assertFalse(board.hasOpenJob(ItemType.STONE));
+    }
+
+    @Test
+    void claimsAreReleasedOnDeathAndTimeout() {
+        board.ensureSeeded(ecsWorld);
+        produce(miner, minerBc);
+        produce(miner, minerBc);
+
+        Entity dying = pawn();
+        Entity slow = pawn();
+        board.claimHaul(dying, 0f, 0f, t -> true);
+        board.claimHaul(slow, 0f, 0f, t -> true);
+        assertEquals(0, board.getOpenJobCount());
+
+        dying.get(HealthComponent.class).dead = true;
+        board.update(0.1f);
+        assertEquals(1, board.getOpenJobCount());
+        assertNotNull(board.getClaim(slow));
+
+        board.update(JobBoard.CLAIM_TIMEOUT + 1f);
+        assertEquals(2, board.getOpenJobCount());
+        assertEquals(0, board.getClaimCount());
+    }
+
+    @Test
+    void foodIsOfferedBeforeOlderStone() {
+        board.ensureSeeded(ecsWorld);
+        produce(miner, minerBc);
+        Entity grower = ecsWorld.createEntity();
+        BuildingComponent growerBc = new BuildingComponent("FOOD_GROWER", 1f, 5, ItemType.FOOD);
+        grower.add(growerBc);
+        grower.add(new PositionComponent(9f, 9f));
+        produce(grower, growerBc);
+
+        Job job = board.claimHaul(pawn(), 5f, 5f, t -> true);
+        assertEquals(ItemType.FOOD, job.getItemType());
+    }
+}
@@ -0,0 +1,97 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BotComponent;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.ecs.components.InventoryComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.ecs.systems.LogisticsSystem;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.entities.RecipeBook;
+import com.haraldsson.syntropy.systems.logistics.LogisticsNetwork;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogisticsNetworkTest {
+
+    private ECSWorld ecsWorld;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        Tile[][] tiles = new Tile[20][20];
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 20; y++) {
+                tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+            }
+        }
+        world = new World(20, 20, tiles);
+        world.getStockpiles().createZone(List.of(world.getTile(10, 10)));
+    }
+
+    private Entity building(BuildingComponent bc, float x, float y) {
+        Entity e = ecsWorld.createEntity();
+        e.add(bc);
+        e.add(new PositionComponent(x, y));
+        return e;
+    }
+
+    private Entity bot(float x, float y) {
+        Entity e = ecsWorld.createEntity();
+        e.add(new PositionComponent(x, y));
+        e.add(new InventoryComponent());
+        e.add(new BotComponent());
+        return e;
+    }
+
+    @Test
+    void botsFeedConsumersBeforeStockpiles() {
+        Entity miner = building(new BuildingComponent("MINER", 1f, 5, ItemType.STONE), 2f, 2f);
+        BuildingComponent smelterBc = new BuildingComponent(RecipeBook.SMELT_METAL, 5);
+        building(smelterBc, 6f, 2f);
+        miner.get(BuildingComponent.class).addOutput(ItemType.STONE);
+        miner.get(BuildingComponent.class).addOutput(ItemType.STONE);
+        bot(2f, 3f);
+
+        LogisticsSystem system = new LogisticsSystem();
+        for (int i = 0; i < 600; i++) system.update(ecsWorld, world, 1f / 30f);
+
+        assertEquals(2, smelterBc.inputBuffer.count(ItemType.STONE));
+        assertEquals(0, world.getStockpiles().count(ItemType.STONE));
+        assertFalse(miner.get(BuildingComponent.class).hasOutput());
+        assertEquals(0, world.getLogistics().getReservedSupply(miner, ItemType.STONE));
+    }
+
+    @Test
+    void matchReservesEachUnitOnceAndSwapsToNearerBots() {
+        Entity west = building(new BuildingComponent("MINER", 1f, 5, ItemType.STONE), 0f, 0f);
+        Entity east = building(new BuildingComponent("FOOD_GROWER", 1f, 5, ItemType.FOOD), 18f, 0f);
+        west.get(BuildingComponent.class).addOutput(ItemType.STONE);
+        east.get(BuildingComponent.class).addOutput(ItemType.FOOD);
+        Entity nearEast = bot(17f, 0f);
+        Entity nearWest = bot(1f, 0f);
+        Entity spare = bot(10f, 19f);
+        world.getBuildings().sync(ecsWorld);
+
+        List<Entity> idle = new ArrayList<>(List.of(nearEast, nearWest, spare));
+        LogisticsNetwork network = world.getLogistics();
+        List<LogisticsNetwork.Delivery> plan = network.match(world, idle);
+
+        assertEquals(2, plan.size(), "one delivery per unit of output");
+        for (LogisticsNetwork.Delivery d : plan) {
+            assertSame(d.source == west ? nearWest : nearEast, d.bot);
+            assertNull(d.targetBuilding, "no consumers — goes to the stockpile");
+        }
+        assertTrue(network.match(world, idle).isEmpty(), "everything is already reserved");
+    }
+}
@@ -0,0 +1,132 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.MoodComponent;
+import com.haraldsson.syntropy.ecs.components.NeedsComponent;
+import com.haraldsson.syntropy.ecs.components.SleepQualityComponent;
+import com.haraldsson.syntropy.ecs.systems.MoodSystem;
+import com.haraldsson.syntropy.entities.TaskType;
+import com.haraldsson.syntropy.systems.mood.HungerThoughtWorker;
+import com.haraldsson.syntropy.systems.mood.ThoughtInput;
+import com.haraldsson.syntropy.systems.mood.ThoughtQuery;
+import com.haraldsson.syntropy.systems.mood.ThoughtWorker;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoodSystemTest {
+
+    private ECSWorld ecsWorld;
+    private World world;
+    private MoodSystem system;
+    private Entity pawn;
+    private NeedsComponent needs;
+    private MoodComponent mood;
+    private SleepQualityComponent sleep;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        Tile[][] tiles = new Tile[3][3];
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) {
+                tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+            }
+        }
+        world = new World(3, 3, tiles);
+        system = new MoodSystem();
+        pawn = ecsWorld.createEntity();
+        needs = new NeedsComponent();
+        mood = new MoodComponent();
+        sleep = new SleepQualityComponent();
+        pawn.add(needs);
+        pawn.add(mood);
+        pawn.add(sleep);
+        pawn.add(new HealthComponent());
+    }
+
+    @Test
+    void unchangedInputsAreNotReEvaluated() {
+        system.update(ecsWorld, world, 0.1f);
+        int first = system.getEvaluationCount();
+        assertEquals(4, first);
+
+        needs.setHealth(0.9f); // still in the healthy band
+        system.update(ecsWorld, world, 0.1f);
+        system.update(ecsWorld, world, 0.1f);
+        assertEquals(first, system.getEvaluationCount(), "nothing a worker reads has changed");
+
+        AIComponent ai = new AIComponent();
+        ai.taskType = TaskType.WANDER;
+        pawn.add(ai);
+        system.update(ecsWorld, world, 0.1f);
+        system.update(ecsWorld, world, 0.1f);
+        // The task change, then SURROUNDINGS every tick while wandering — social worker only
+        assertEquals(first + 2, system.getEvaluationCount());
+    }
+
+    @Test
+    void inputChangeMovesTheTarget() {
+        sleep.lastSleepQuality = SleepQualityComponent.Quality.IN_BED;
+        for (int i = 0; i < 100; i++) system.update(ecsWorld, world, 0.1f);
+        assertEquals(50f, mood.mood, 1e-4f);
+
+        needs.setHunger(0.05f); // STARVING
+        for (int i = 0; i < 100; i++) system.update(ecsWorld, world, 0.1f);
+        assertEquals(10f, mood.mood, 1e-4f);
+
+        needs.setHunger(1f);
+        sleep.lastSleepQuality = SleepQualityComponent.Quality.ON_GROUND;
+        for (int i = 0; i < 100; i++) system.update(ecsWorld, world, 0.1f);
+        assertEquals(40f, mood.mood, 1e-4f);
+    }
+
+    @Test
+    void registeredWorkerOnlySeesPawnsWhoseInputsChanged() {
+        Entity other = ecsWorld.createEntity();
+        NeedsComponent otherNeeds = new NeedsComponent();
+        other.add(otherNeeds);
+        other.add(new MoodComponent());
+        other.add(new HealthComponent());
+
+        List<Integer> batchSizes = new ArrayList<>();
+        system.getRegistry().register("test_hunger", w -> new ThoughtWorker() {
+            @Override
+            public float getMoodOffset(Entity entity) {
+                return 0f;
+            }
+
+            @Override
+            public void evaluate(ThoughtQuery query, float[] offsetsOut) {
+                batchSizes.add(query.size());
+                for (int i = 0; i < query.size(); i++) offsetsOut[i] = query.pawn(i) == other ? 7f : 0f;
+            }
+
+            @Override
+            public Set<ThoughtInput> getInputs() {
+                return EnumSet.of(ThoughtInput.HUNGER);
+            }
+        });
+
+        system.update(ecsWorld, world, 0.1f);
+        system.update(ecsWorld, world, 0.1f);
+        otherNeeds.setHunger(0.5f);
+        system.update(ecsWorld, world, 0.1f);
+
+        assertEquals(List.of(2, 1), batchSizes);
+        assertEquals(7f + new HungerThoughtWorker().getMoodOffset(other) + 50f, // no SleepQualityComponent
+                other.get(MoodComponent.class).targetMood, 1e-4f);
+    }
+}
@@ -0,0 +1,152 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.ecs.systems.MovementSystem;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.entities.TaskType;
+import com.haraldsson.syntropy.world.OccupancyGrid;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovementSystemTest {
+
+    private ECSWorld ecsWorld;
+    private World world;
+    private MovementSystem movement;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        Tile[][] tiles = new Tile[20][20];
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 20; y++) {
+                // Wall at x = 5 with a gap at y = 10
+                boolean wall = x == 5 && y != 10;
+                tiles[x][y] = new Tile(x, y, wall ? TerrainType.STONE : TerrainType.GRASS);
+            }
+        }
+        world = new World(20, 20, tiles);
+        movement = new MovementSystem();
+    }
+
+    private Entity walker(float x, float y, int tx, int ty) {
+        Entity e = ecsWorld.createEntity();
+        e.add(new PositionComponent(x, y));
+        AIComponent ai = new AIComponent();
+        ai.setTask(TaskType.WANDER, tx, ty);
+        e.add(ai);
+        return e;
+    }
+
+    /** Stand-in for the think tree: every walker asks to move each tick until it arrives. */
+    private void run(List<Entity> walkers, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            for (Entity e : walkers) {
+                AIComponent ai = e.get(AIComponent.class);
+                PositionComponent pos = e.get(PositionComponent.class);
+                if (!ai.isAtTarget(pos.x, pos.y)) ai.walk(2f);
+            }
+            movement.update(ecsWorld, world, 1f / 30f);
+        }
+    }
+
+    @Test
+    void walksAroundAWallThroughTheGap() {
+        Entity e = walker(2.5f, 2.5f, 8, 2);
+        run(List.of(e), 600);
+
+        PositionComponent pos = e.get(PositionComponent.class);
+        assertTrue(e.get(AIComponent.class).isAtTarget(pos.x, pos.y), "ended at " + pos.x + "," + pos.y);
+    }
+
+    @Test
+    void nothingMovesWithoutAWalkRequest() {
+        Entity e = walker(2.5f, 2.5f, 8, 2);
+        movement.update(ecsWorld, world, 1f / 30f);
+
+        PositionComponent pos = e.get(PositionComponent.class);
+        assertEquals(2.5f, pos.x);
+        assertEquals(2.5f, pos.y);
+        assertEquals(0, movement.getLastBatchSize());
+    }
+
+    @Test
+    void largeBatchMovesEveryWalker() {
+        List<Entity> walkers = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            walkers.add(walker(1.5f + (i % 3), 1.5f + (i % 17), 12 + (i % 5), 15));
+        }
+        run(walkers, 1);
+        run(walkers, 1); // first tick only snaps onto the start waypoint
+        assertEquals(600, movement.getLastBatchSize());
+
+        run(walkers, 900);
+        for (Entity e : walkers) {
+            AIComponent ai = e.get(AIComponent.class);
+            PositionComponent pos = e.get(PositionComponent.class);
+            assertTrue(ai.isAtTarget(pos.x, pos.y), "walker stopped at " + pos.x + "," + pos.y);
+        }
+    }
+
+    @Test
+    void crossingCrowdsKeepFlowingWithoutStuckTimeouts() {
+        List<Entity> walkers = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            walkers.add(walker(7.5f, 4.5f + i, 17, 4 + i));  // eastbound
+            walkers.add(walker(17.5f, 4.5f + i, 7, 4 + i));  // westbound, head-on
+        }
+        float worst = 0f;
+        for (int t = 0; t < 600; t++) {
+            run(walkers, 1);
+            for (Entity e : walkers) worst = Math.max(worst, e.get(AIComponent.class).stuckTimer);
+        }
+        for (Entity e : walkers) {
+            AIComponent ai = e.get(AIComponent.class);
+            PositionComponent pos = e.get(PositionComponent.class);
+            assertTrue(ai.isAtTarget(pos.x, pos.y), "walker stopped at " + pos.x + "," + pos.y);
+        }
+        assertTrue(worst < 1f, "longest no-progress stretch was " + worst + "s");
+    }
+
+    @Test
+    void haulersAreSpreadOverStockpileTiles() {
+        world.getStockpiles().createZone(List.of(world.getTile(12, 12), world.getTile(13, 12), world.getTile(14, 12)));
+        Tile first = world.getStockpiles().findDepositTile(world, ItemType.STONE, 12.5f, 8.5f, -1, -1);
+        walker(12.5f, 8.5f, first.getX(), first.getY());
+        movement.update(ecsWorld, world, 1f / 30f); // records the reservation
+
+        Tile second = world.getStockpiles().findDepositTile(world, ItemType.STONE, 12.5f, 8.5f, -1, -1);
+        assertNotSame(first, second);
+        assertTrue(world.getOccupancy().isReserved(first.getX(), first.getY()));
+    }
+
+    @Test
+    void occupancyRebuildForgetsTilesLeftSinceLastTick() {
+        OccupancyGrid grid = new OccupancyGrid(20, 20);
+        grid.rebuild(new float[]{3.2f, 3.7f, 9.5f}, new float[]{4.1f, 4.9f, 9.5f}, 3);
+        assertEquals(2, grid.getOccupantCount(3, 4));
+        assertEquals(1, grid.getOccupantCount(9, 9));
+
+        grid.rebuild(new float[]{9.5f, 12.5f}, new float[]{9.5f, 0.5f}, 2);
+        assertEquals(0, grid.getOccupantCount(3, 4));
+        assertEquals(1, grid.getOccupantCount(9, 9));
+        assertEquals(1, grid.getOccupantCount(12, 0));
+
+        float[] push = new float[2];
+        grid.separation(0, 9.6f, 9.5f, 0.6f, push); // pawn 0 only sees itself — no push
+        assertEquals(0f, push[0], 1e-6f);
+        grid.separation(5, 9.6f, 9.5f, 0.6f, push); // an outsider is pushed away from pawn 0
+        assertTrue(push[0] > 0f);
+    }
+}
@@ -0,0 +1,104 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.NeedsComponent;
+import com.haraldsson.syntropy.ecs.systems.NeedsSystem;
+import com.haraldsson.syntropy.entities.HungerCategory;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NeedsSystemTest {
+
+    private ECSWorld ecsWorld;
+    private World world;
+    private NeedsSystem system;
+    private Entity pawn;
+    private NeedsComponent needs;
+    private AIComponent ai;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        Tile[][] tiles = new Tile[3][3];
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) {
+                tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+            }
+        }
+        world = new World(3, 3, tiles);
+        system = new NeedsSystem();
+        pawn = ecsWorld.createEntity();
+        needs = new NeedsComponent();
+        ai = new AIComponent();
+        pawn.add(needs);
+        pawn.add(new HealthComponent());
+        pawn.add(ai);
+    }
+
+    @Test
+    void decayIsEvaluatedFromTheClock() {
+        system.update(ecsWorld, world, 10f);
+        assertEquals(1f - NeedsComponent.HUNGER_DECAY * 10f, needs.getHunger(), 1e-5f);
+        assertEquals(1f - NeedsComponent.ENERGY_DECAY * 10f, needs.getEnergy(), 1e-5f);
+        assertEquals(1, system.getScheduledCount());
+    }
+
+    @Test
+    void crossingRequestsARethinkOnTheTickItHappens() {
+        system.update(ecsWorld, world, 0f);
+        ai.rethinkRequested = false;
+        // Energy leaves RESTED first: (1 - 0.6) / 0.008 = 50 s
+        for (int t = 1; t <= 49; t++) {
+            system.update(ecsWorld, world, 1f);
+            assertFalse(ai.rethinkRequested, "no crossing yet at " + t + "s");
+        }
+        system.update(ecsWorld, world, 1.5f); // crosses at 50 s
+        assertTrue(ai.rethinkRequested);
+    }
+
+    @Test
+    void eatingIsReplannedOnTheNextTick() {
+        needs.setHunger(0.2f);
+        system.update(ecsWorld, world, 0.1f);
+        assertEquals(HungerCategory.URGENTLY_HUNGRY, needs.notifiedHunger);
+
+        needs.eat();
+        system.update(ecsWorld, world, 0.1f);
+        assertEquals(HungerCategory.FED, needs.notifiedHunger);
+    }
+
+    @Test
+    void starvationKillsWhenHealthRunsOut() {
+        needs.setHunger(0f);
+        needs.setHealth(0.05f);
+        system.update(ecsWorld, world, 0f);
+        for (int t = 0; t < 4; t++) system.update(ecsWorld, world, 1f);
+        assertFalse(pawn.get(HealthComponent.class).dead);
+        system.update(ecsWorld, world, 1.1f);
+        assertTrue(pawn.get(HealthComponent.class).dead);
+    }
+
+    @Test
+    void deathOutsideTheScheduleDespawnsThroughTheDyingSet() {
+        system.update(ecsWorld, world, 0.1f);
+        assertEquals(0, system.getDyingCount());
+
+        pawn.get(HealthComponent.class).dead = true; // e.g. AgingSystem, old age
+        needs.died();
+        system.update(ecsWorld, world, 0.1f);
+        assertEquals(1, system.getDyingCount());
+        assertEquals(0, system.getScheduledCount());
+
+        for (int i = 0; i < 310; i++) system.update(ecsWorld, world, 0.1f);
+        assertFalse(ecsWorld.getAll().contains(pawn), "despawned after the death timer");
+        assertEquals(0, system.getDyingCount());
+    }
+}
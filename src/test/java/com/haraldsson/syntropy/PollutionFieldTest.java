@@ -0,0 +1,73 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.world.PollutionField;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PollutionFieldTest {
+
+    @Test
+    void emissionSpreadsEvenlyAcrossBandsAndEdges() {
+        PollutionField field = new PollutionField(64, 64);
+        field.emit(10, 32, 1f); // row 32 starts the second band
+        field.emit(0, 0, 1f);   // corner
+        for (int i = 0; i < 10; i++) field.step(0.1f);
+
+        assertTrue(field.get(10, 32) > field.get(11, 32));
+        assertTrue(field.get(11, 32) > 0f);
+        assertEquals(field.get(9, 32), field.get(11, 32), 1e-7f);
+        assertEquals(field.get(10, 31), field.get(10, 33), 1e-7f);
+        assertEquals(field.get(1, 0), field.get(0, 1), 1e-7f);
+        assertTrue(field.getTotal() < 2f);
+        assertTrue(field.getTotal() > 1.9f, "decay over 1 s should be about 2%, total " + field.getTotal());
+    }
+
+    @Test
+    void fieldFadesBackToCleanWhenEmissionStops() {
+        PollutionField field = new PollutionField(32, 32);
+        assertTrue(field.isClean());
+        field.emit(16, 16, 0.01f);
+        assertFalse(field.isClean());
+        for (int i = 0; i < 600 && !field.isClean(); i++) field.step(1f);
+        assertTrue(field.isClean());
+        assertEquals(0f, field.get(16, 16));
+        assertEquals(0f, field.getTotal());
+    }
+
+    @Test
+    void largeMapStepsEveryRowOnce() {
+        PollutionField field = new PollutionField(1024, 1024);
+        for (int y = 0; y < 1024; y += 16) field.emit(512, y, 1f);
+        field.step(1f / 30f);
+
+        float spread = Math.min(0.2f, 0.6f / 30f);
+        float keep = 1f - 0.02f / 30f;
+        assertEquals((1f - 4f * spread) * keep, field.get(512, 16), 1e-6f);
+        assertEquals(spread * keep, field.get(512, 17), 1e-6f);
+        assertEquals(0f, field.get(512, 18));
+        assertEquals(0f, field.sample(-3f, 5f));
+    }
+
+    /** Wall-clock timing, so it's a benchmark: excluded from `test`, run with `gradlew benchmark`. */
+    @Test
+    @Tag("benchmark")
+    void fullyActiveLargeMapStepsWithinBudget() {
+        final float stepBudgetMs = 8f; // a quarter of a 30 fps frame
+        PollutionField field = new PollutionField(1024, 1024);
+        for (int y = 0; y < 1024; y++) {
+            for (int x = 0; x < 1024; x++) field.emit(x, y, 1f);
+        }
+        for (int i = 0; i < 30; i++) field.step(1f / 30f); // warm up
+        assertTrue(field.get(0, 0) > 0f && field.get(1023, 1023) > 0f, "every row still active");
+
+        int steps = 120;
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) field.step(1f / 30f);
+        float perStepMs = (System.nanoTime() - start) / 1e6f / steps;
+
+        assertFalse(field.isClean());
+        assertTrue(perStepMs <= stepBudgetMs, "1024x1024 step took " + perStepMs + " ms, budget " + stepBudgetMs + " ms");
+    }
+}
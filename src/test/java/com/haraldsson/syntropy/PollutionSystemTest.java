@@ -0,0 +1,106 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.NeedsComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.ecs.systems.NeedsSystem;
+import com.haraldsson.syntropy.ecs.systems.PollutionSystem;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PollutionSystemTest {
+
+    private ECSWorld ecsWorld;
+    private World world;
+    private PollutionSystem pollution;
+    private NeedsSystem needsSystem;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        Tile[][] tiles = new Tile[40][40];
+        for (int x = 0; x < 40; x++) {
+            for (int y = 0; y < 40; y++) {
+                tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+            }
+        }
+        world = new World(40, 40, tiles);
+        pollution = new PollutionSystem();
+        needsSystem = new NeedsSystem();
+    }
+
+    private BuildingComponent smelter(int x, int y) {
+        Entity e = ecsWorld.createEntity();
+        e.add(new PositionComponent(x, y));
+        BuildingComponent bc = new BuildingComponent(BuildingType.SMELTER, 10f, 5, ItemType.METAL);
+        e.add(bc);
+        return bc;
+    }
+
+    private NeedsComponent pawn(float x, float y) {
+        Entity e = ecsWorld.createEntity();
+        e.add(new PositionComponent(x, y));
+        e.add(new HealthComponent());
+        NeedsComponent needs = new NeedsComponent();
+        e.add(needs);
+        return needs;
+    }
+
+    private void tick(float delta) {
+        needsSystem.update(ecsWorld, world, delta);
+        pollution.update(ecsWorld, world, delta);
+    }
+
+    @Test
+    void emissionTotalFollowsBuildStateAndRemoval() {
+        BuildingComponent a = smelter(5, 5);
+        BuildingComponent b = smelter(30, 30);
+        tick(0.1f);
+        assertEquals(2 * BuildingType.SMELTER.defaultPollutionRate, world.getBuildings().getPollutionRate(), 1e-6f);
+        assertEquals(2, world.getPollution().getSourceCount());
+
+        b.setBuilt(false);
+        tick(0.1f);
+        assertEquals(BuildingType.SMELTER.defaultPollutionRate, world.getBuildings().getPollutionRate(), 1e-6f);
+        assertEquals(1, world.getPollution().getSourceCount());
+
+        a.setPollutionRate(0.1f);
+        b.setBuilt(true);
+        tick(0.1f);
+        assertEquals(0.1f + BuildingType.SMELTER.defaultPollutionRate, world.getBuildings().getPollutionRate(), 1e-6f);
+
+        for (Entity e : ecsWorld.getEntitiesWith(BuildingComponent.class)) ecsWorld.removeEntity(e);
+        tick(0.1f);
+        assertEquals(0f, world.getBuildings().getPollutionRate());
+        assertEquals(0, world.getPollution().getSourceCount());
+    }
+
+    @Test
+    void exposureIsALocalRateNotPerFrameDamage() {
+        for (int i = 0; i < 4; i++) smelter(10 + (i % 2), 10 + (i / 2));
+        NeedsComponent near = pawn(10.5f, 10.5f);
+        NeedsComponent far = pawn(35.5f, 35.5f);
+
+        for (int t = 0; t < 30 * 120; t++) tick(1f / 30f);
+
+        assertTrue(near.getExposure() > 0f);
+        assertEquals(0f, far.getExposure());
+        assertTrue(near.getHealth() < 1f);
+        assertEquals(1f, far.getHealth());
+
+        // Health keeps falling between samples without anything writing to the pawn
+        float before = near.getHealth();
+        needsSystem.update(ecsWorld, world, 10f);
+        assertEquals(before - 10f * near.getExposure(), near.getHealth(), 1e-4f);
+    }
+}
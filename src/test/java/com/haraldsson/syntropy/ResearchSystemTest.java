@@ -1,9 +1,26 @@
 package com.haraldsson.syntropy;
 
+import com.haraldsson.syntropy.ai.nodes.ThinkNode_DoAssignedJob;
 import com.haraldsson.syntropy.core.EventType;
 import com.haraldsson.syntropy.core.GameEvents;
+import com.haraldsson.syntropy.core.ResearchCompleted;
+import com.haraldsson.syntropy.core.SaveData;
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.InventoryComponent;
+import com.haraldsson.syntropy.ecs.components.LeaderComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.ecs.components.SkillsComponent;
+import com.haraldsson.syntropy.ecs.components.WorkSettingsComponent;
+import com.haraldsson.syntropy.entities.ColonistRole;
+import com.haraldsson.syntropy.entities.TaskType;
 import com.haraldsson.syntropy.systems.ResearchSystem;
 import com.haraldsson.syntropy.systems.Technology;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -28,7 +45,9 @@ class ResearchSystemTest {
 
         // assert
         assertFalse(fired.isEmpty(), "Expected RESEARCH_COMPLETED event to be fired");
-        assertEquals("Basic Farming", fired.get(0));
+        ResearchCompleted done = assertInstanceOf(ResearchCompleted.class, fired.get(0));
+        assertEquals("basic_farming", done.techId());
+        assertEquals("Basic Farming", done.name());
     }
 
     @Test
@@ -76,4 +95,162 @@ class ResearchSystemTest {
         assertEquals(1, current.getEra(), "Should pick an era-1 tech first");
         assertTrue(current.getPrerequisites().isEmpty(), "Selected tech should have no unmet prerequisites");
     }
+
+    @Test
+    void frontierAdvancesWhenEveryPrerequisiteCompletes() {
+        List<Technology> techs = new ArrayList<>();
+        techs.add(new Technology("a", "A", "", 1f, 1, List.of()));
+        techs.add(new Technology("b", "B", "", 1f, 1, List.of()));
+        techs.add(new Technology("ab", "AB", "", 1f, 2, List.of("a", "b")));
+        ResearchSystem research = new ResearchSystem(new GameEvents(), techs);
+
+        assertEquals(List.of("a", "b"), ids(research.getAvailable()));
+        research.startResearch("a");
+        research.update(2f);
+        assertFalse(research.isAvailable("ab"), "ab still needs b");
+        assertEquals(List.of("b"), ids(research.getAvailable()));
+
+        research.startNextResearch();
+        research.update(2f);
+        assertTrue(research.isAvailable("ab"));
+        assertTrue(research.prerequisitesMet(techs.get(2)));
+        assertEquals(2, research.indexOf("ab"));
+    }
+
+    @Test
+    void largeTreeStartsNextInTreeOrder() {
+        List<Technology> techs = new ArrayList<>();
+        techs.add(new Technology("t0", "T0", "", 1f, 1, List.of()));
+        for (int i = 1; i < 500; i++) {
+            techs.add(new Technology("t" + i, "T" + i, "", 1f, 1, List.of("t" + (i - 1))));
+        }
+        ResearchSystem research = new ResearchSystem(new GameEvents(), techs);
+        for (int i = 0; i < 500; i++) {
+            research.startNextResearch();
+            assertEquals("t" + i, research.getCurrentResearch().getId());
+            research.update(1f);
+        }
+        assertTrue(research.isCompleted("t499"));
+        assertTrue(research.getAvailable().isEmpty());
+    }
+
+    @Test
+    void unknownPrerequisiteIsRejected() {
+        List<Technology> techs = List.of(new Technology("x", "X", "", 1f, 1, List.of("missing")));
+        assertThrows(IllegalStateException.class, () -> new ResearchSystem(new GameEvents(), techs));
+    }
+
+    @Test
+    void scientistsSplitAcrossConcurrentProjects() {
+        ECSWorld ecsWorld = new ECSWorld();
+        for (int i = 0; i < 3; i++) {
+            Entity e = ecsWorld.createEntity();
+            e.add(new HealthComponent());
+            AIComponent ai = new AIComponent();
+            ai.taskType = TaskType.RESEARCHING;
+            e.add(ai);
+            SkillsComponent skills = new SkillsComponent();
+            skills.skills.put(ResearchSystem.RESEARCH_SKILL, i == 0 ? 5 : 0);
+            e.add(skills);
+        }
+        Entity eating = ecsWorld.createEntity(); // a researcher by settings, but off eating
+        eating.add(new HealthComponent());
+        AIComponent eatingAi = new AIComponent();
+        eatingAi.taskType = TaskType.MOVE_TO_FOOD;
+        eating.add(eatingAi);
+        eating.add(WorkSettingsComponent.defaultsFor(ColonistRole.RESEARCHER));
+        Entity leader = ecsWorld.createEntity();
+        LeaderComponent lc = new LeaderComponent();
+        lc.science = 5f; // +50%
+        leader.add(lc);
+
+        ResearchSystem research = new ResearchSystem(new GameEvents());
+        research.enqueue("basic_farming");
+        research.enqueue("basic_mining");
+        research.update(ecsWorld, 1f);
+
+        List<Technology> active = research.getActiveProjects();
+        assertEquals(2, active.size());
+        // project 0: scientists 0 (skill 5) and 2; project 1: scientist 1
+        assertEquals((2f + 1f) * 1.5f, active.get(0).getProgress(), 1e-5f);
+        assertEquals(1f * 1.5f, active.get(1).getProgress(), 1e-5f);
+        assertEquals(3, research.getScientistCount());
+        assertEquals(4f * 1.5f, research.getResearchRate(), 1e-5f);
+    }
+
+    @Test
+    void queuedTechWaitsForPrerequisitesThenTakesTheFreeSlot() {
+        ResearchSystem research = new ResearchSystem(new GameEvents());
+        research.setMaxConcurrentProjects(1);
+        assertTrue(research.enqueue("fast_mining"));  // needs basic_mining
+        assertTrue(research.enqueue("basic_mining"));
+        assertFalse(research.enqueue("basic_mining"));
+
+        assertEquals("basic_mining", research.getCurrentResearch().getId());
+        assertEquals(List.of("fast_mining"), research.getQueue());
+        research.update(20f);
+        assertTrue(research.isCompleted("basic_mining"));
+        assertEquals("fast_mining", research.getCurrentResearch().getId());
+        assertTrue(research.getQueue().isEmpty());
+    }
+
+    @Test
+    void stateSurvivesSaveAndLoad() {
+        ResearchSystem research = new ResearchSystem(new GameEvents());
+        research.enqueue("basic_mining");
+        research.enqueue("basic_farming");
+        research.enqueue("fast_mining");
+        research.update(20f);  // basic_mining done, fast_mining takes its slot
+        research.update(5f);
+
+        SaveData.ResearchData saved = research.saveState();
+        ResearchSystem loaded = new ResearchSystem(new GameEvents());
+        loaded.loadState(saved);
+
+        assertTrue(loaded.isCompleted("basic_mining"));
+        assertTrue(loaded.isAvailable("fast_mining"));
+        assertEquals(ids(research.getActiveProjects()), ids(loaded.getActiveProjects()));
+        assertEquals(5f, loaded.getCurrentResearch().getProgress(), 1e-5f);
+        assertEquals(research.getQueue(), loaded.getQueue());
+    }
+
+    @Test
+    void idleColonistsStaffResearchThroughTheirWorkSettings() {
+        ECSWorld ecsWorld = new ECSWorld();
+        Tile[][] tiles = new Tile[3][3];
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+        }
+        World world = new World(3, 3, tiles);
+        ResearchSystem research = new ResearchSystem(new GameEvents());
+        world.setResearch(research);
+
+        Entity miner = ecsWorld.createEntity(); // spawn settings: MINER 3, HAULER 2, RESEARCHER 1
+        miner.add(new PositionComponent(1f, 1f));
+        miner.add(new HealthComponent());
+        miner.add(new AIComponent());
+        miner.add(new InventoryComponent());
+        miner.add(WorkSettingsComponent.defaultsFor(ColonistRole.MINER));
+
+        ThinkNode_DoAssignedJob node = new ThinkNode_DoAssignedJob();
+        assertEquals(0f, node.getPriority(miner, ecsWorld, world), "No project, nothing to research");
+
+        research.enqueue("basic_farming");
+        research.update(ecsWorld, 0f);
+        assertTrue(node.getPriority(miner, ecsWorld, world) > 0f);
+        assertTrue(node.execute(miner, ecsWorld, world, 0.1f));
+        assertEquals(TaskType.RESEARCHING, miner.get(AIComponent.class).taskType);
+        research.update(ecsWorld, 1f);
+        assertEquals(1, research.getScientistCount());
+
+        node.onExit(miner, ecsWorld, world); // e.g. hunger interrupts
+        research.update(ecsWorld, 1f);
+        assertEquals(0, research.getScientistCount());
+    }
+
+    private static List<String> ids(List<Technology> techs) {
+        List<String> ids = new ArrayList<>();
+        for (Technology t : techs) ids.add(t.getId());
+        return ids;
+    }
 }
@@ -0,0 +1,37 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.world.SimplexNoise;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimplexNoiseTest {
+
+    @Test
+    void blockMatchesPerTileNoise() {
+        long seed = 12345L;
+        double freq = 0.08;
+        int w = 17, h = 9;
+        float[] out = new float[w * h];
+
+        SimplexNoise.noise2Block(seed, 3, -4, w, h, freq, out);
+
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                float expected = (float) SimplexNoise.noise2(seed, (3 + x) * freq, (-4 + y) * freq);
+                assertEquals(expected, out[y * w + x], "Mismatch at (" + x + "," + y + ")");
+            }
+        }
+    }
+
+    @Test
+    void blockWritesAtOffsetOnly() {
+        float[] out = new float[20];
+        out[0] = 42f;
+
+        SimplexNoise.noise2Block(7L, 0, 0, 4, 4, 0.1, out, 4);
+
+        assertEquals(42f, out[0], "Values before the offset must be untouched");
+        assertEquals((float) SimplexNoise.noise2(7L, 0.0, 0.0), out[4]);
+    }
+}
@@ -0,0 +1,104 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.entities.Item;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.StockpileIndex;
+import com.haraldsson.syntropy.world.StockpileZone;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockpileIndexTest {
+
+    private World world;
+    private StockpileIndex stockpiles;
+    private StockpileZone west;
+    private StockpileZone east;
+
+    @BeforeEach
+    void setUp() {
+        Tile[][] tiles = new Tile[30][10];
+        for (int x = 0; x < 30; x++) {
+            for (int y = 0; y < 10; y++) {
+                tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+            }
+        }
+        world = new World(30, 10, tiles);
+        stockpiles = world.getStockpiles();
+        west = stockpiles.createZone(List.of(world.getTile(1, 1), world.getTile(2, 1)));
+        east = stockpiles.createZone(List.of(world.getTile(27, 1)));
+    }
+
+    @Test
+    void nearestAcceptingRespectsFilterAndCapacity() {
+        assertSame(east, stockpiles.nearestAccepting(ItemType.STONE, 25f, 1f));
+
+        east.setAccepts(ItemType.STONE, false);
+        assertSame(west, stockpiles.nearestAccepting(ItemType.STONE, 25f, 1f));
+
+        // West holds 2 tiles × 5 = 10 stone before it is full
+        assertEquals(10, west.getCapacityPerType());
+        world.getTile(1, 1).addItems(ItemType.STONE, 10);
+        assertNull(stockpiles.nearestAccepting(ItemType.STONE, 25f, 1f));
+        assertFalse(stockpiles.hasSpaceFor(ItemType.STONE));
+        assertTrue(stockpiles.hasSpaceFor(ItemType.FOOD));
+
+        world.getTile(1, 1).takeFirstItem(ItemType.STONE);
+        assertTrue(stockpiles.hasSpaceFor(ItemType.STONE));
+    }
+
+    @Test
+    void nearestHoldingAndTotalsTrackTileChanges() {
+        assertNull(stockpiles.nearestHolding(ItemType.FOOD, 0f, 0f));
+
+        world.getTile(27, 1).addItem(new Item(ItemType.FOOD));
+        world.getTile(2, 1).addItem(new Item(ItemType.FOOD));
+        assertEquals(2, stockpiles.count(ItemType.FOOD));
+        assertSame(west, stockpiles.nearestHolding(ItemType.FOOD, 0f, 0f));
+        assertSame(world.getTile(27, 1), stockpiles.findTileHolding(ItemType.FOOD, 29f, 1f));
+
+        // Items on non-stockpile tiles do not count
+        world.getTile(15, 5).addItem(new Item(ItemType.FOOD));
+        assertEquals(2, stockpiles.count(ItemType.FOOD));
+
+        assertEquals(2, stockpiles.take(ItemType.FOOD, 3, 0f, 0f));
+        assertEquals(0, stockpiles.count(ItemType.FOOD));
+    }
+
+    @Test
+    void depositTileSticksWithCurrentTarget() {
+        Tile current = world.getTile(2, 1);
+        assertSame(current, stockpiles.findDepositTile(world, ItemType.WOOD, 26f, 1f, 2, 1));
+        assertSame(world.getTile(27, 1), stockpiles.findDepositTile(world, ItemType.WOOD, 26f, 1f, -1, -1));
+    }
+
+    @Test
+    void depositTileLeavesAFullTarget() {
+        Tile current = world.getTile(2, 1);
+        world.getTile(1, 1).addItems(ItemType.STONE, 5);
+        world.getTile(2, 1).addItems(ItemType.STONE, 5); // west is full of stone
+        assertSame(world.getTile(27, 1), stockpiles.findDepositTile(world, ItemType.STONE, 3f, 1f, 2, 1),
+                "a full zone must not keep the hauler");
+
+        world.getTile(1, 1).takeFirstItem(ItemType.STONE); // room again, but not on the target tile
+        assertSame(world.getTile(1, 1), stockpiles.findDepositTile(world, ItemType.STONE, 3f, 1f, 2, 1),
+                "a stacked tile is skipped for a free one in the same zone");
+        assertSame(current, stockpiles.findDepositTile(world, ItemType.WOOD, 3f, 1f, 2, 1));
+    }
+
+    @Test
+    void zoneOverTakenTilesIsNotCreated() {
+        assertNull(stockpiles.createZone(List.of(world.getTile(1, 1), world.getTile(27, 1))));
+        assertEquals(2, stockpiles.getZones().size());
+        assertSame(world.getTile(1, 1), stockpiles.firstTile());
+
+        StockpileZone partial = stockpiles.createZone(List.of(world.getTile(2, 1), world.getTile(5, 5)));
+        assertEquals(List.of(world.getTile(5, 5)), partial.getTiles());
+    }
+}
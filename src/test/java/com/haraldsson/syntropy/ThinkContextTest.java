@@ -0,0 +1,99 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ai.ThinkContext;
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.ecs.components.HealthComponent;
+import com.haraldsson.syntropy.ecs.components.IdentityComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.ecs.components.WorkSettingsComponent;
+import com.haraldsson.syntropy.entities.BuildingType;
+import com.haraldsson.syntropy.entities.ColonistRole;
+import com.haraldsson.syntropy.entities.ItemType;
+import com.haraldsson.syntropy.world.TerrainType;
+import com.haraldsson.syntropy.world.Tile;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThinkContextTest {
+
+    private ECSWorld ecsWorld;
+    private World world;
+    private ThinkContext context;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        Tile[][] tiles = new Tile[10][10];
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 10; y++) {
+                tiles[x][y] = new Tile(x, y, TerrainType.GRASS);
+            }
+        }
+        world = new World(10, 10, tiles);
+        context = world.getThinkContext();
+    }
+
+    private Entity colonist() {
+        Entity e = ecsWorld.createEntity();
+        e.add(new PositionComponent(1f, 1f));
+        e.add(new HealthComponent());
+        e.add(new IdentityComponent("Test", 30));
+        return e;
+    }
+
+    @Test
+    void countsAreMemoisedUntilTheNextPass() {
+        colonist();
+        Entity doomed = colonist();
+
+        context.begin();
+        assertEquals(2, context.getAliveNonLeaderCount(ecsWorld));
+        doomed.get(HealthComponent.class).dead = true;
+        assertEquals(2, context.getAliveNonLeaderCount(ecsWorld), "same pass — memoised");
+        context.end();
+
+        context.begin();
+        assertEquals(1, context.getAliveNonLeaderCount(ecsWorld));
+        context.end();
+    }
+
+    @Test
+    void jobFactsFollowTheBoardWithinAPass() {
+        Entity miner = ecsWorld.createEntity();
+        BuildingComponent bc = new BuildingComponent("MINER", 1f, 5, ItemType.STONE);
+        miner.add(bc);
+        miner.add(new PositionComponent(3f, 3f));
+
+        context.begin();
+        assertFalse(context.hasOpenJobFrom(ecsWorld, world, BuildingType.MINER));
+        bc.outputBuffer.add(ItemType.STONE);
+        world.getJobBoard().onResourceProduced(miner, ItemType.STONE);
+        assertTrue(context.hasOpenJobFrom(ecsWorld, world, BuildingType.MINER), "board changed — memo dropped");
+        assertTrue(context.hasOpenHaulJob(ecsWorld, world));
+
+        world.getJobBoard().claimHaul(colonist(), 0f, 0f, t -> true);
+        assertFalse(context.hasOpenJob(ecsWorld, world));
+        context.end();
+    }
+
+    @Test
+    void sortedJobListIsCachedUntilAPriorityChanges() {
+        WorkSettingsComponent ws = new WorkSettingsComponent();
+        ws.setPriority(ColonistRole.MINER, 2);
+        ws.setPriority(ColonistRole.HAULER, 4);
+
+        List<ColonistRole> first = ws.getActiveJobsSorted();
+        assertEquals(List.of(ColonistRole.HAULER, ColonistRole.MINER), first);
+        assertSame(first, ws.getActiveJobsSorted());
+
+        ws.setPriority(ColonistRole.MINER, 0);
+        assertEquals(List.of(ColonistRole.HAULER), ws.getActiveJobsSorted());
+    }
+}
@@ -39,7 +39,7 @@ class ThinkNodeHaulTest {
         // Place a MINER building with output
         Entity miner = ecsWorld.createEntity();
         BuildingComponent bc = new BuildingComponent("MINER", 1f, 5, ItemType.STONE);
-        bc.built = true;
+        bc.setBuilt(true);
         bc.outputBuffer.add(new com.haraldsson.syntropy.entities.Item(ItemType.STONE));
         miner.add(bc);
         miner.add(new PositionComponent(2f, 2f));
@@ -103,4 +103,38 @@ class ThinkNodeHaulTest {
         assertEquals(0f, priority,
                 "Expected colonist without WorkSettingsComponent to have priority 0");
     }
+
+    @Test
+    void interruptedHaulReleasesItsClaim() {
+        Entity hauler = createColonist(ColonistRole.HAULER);
+        Entity other = createColonist(ColonistRole.HAULER);
+
+        assertTrue(haulNode.execute(hauler, ecsWorld, world, 0.1f));
+        assertNotNull(world.getJobBoard().getClaim(hauler), "Hauler should hold the job while walking");
+
+        // Hunger or rest wins the next think — the root calls onExit on the haul node
+        haulNode.onExit(hauler, ecsWorld, world);
+
+        assertNull(world.getJobBoard().getClaim(hauler));
+        assertTrue(haulNode.execute(other, ecsWorld, world, 0.1f));
+        assertNotNull(world.getJobBoard().getClaim(other),
+                "Released output should be claimable by another hauler right away");
+    }
+
+    @Test
+    void haulerPicksUpTheTypeItClaimed() {
+        BuildingComponent bc = ecsWorld.getEntitiesWith(BuildingComponent.class).get(0).get(BuildingComponent.class);
+        bc.outputBuffer.add(ItemType.FOOD); // buffered after the STONE, which comes first in type order
+
+        Entity hauler = createColonist(ColonistRole.HAULER);
+        hauler.get(PositionComponent.class).x = 2.5f; // standing on the building
+        hauler.get(PositionComponent.class).y = 2.5f;
+        for (int i = 0; i < 10 && hauler.get(InventoryComponent.class).carriedItem == null; i++) {
+            haulNode.execute(hauler, ecsWorld, world, 0.1f);
+        }
+
+        // Food jobs are claimed first, so the pawn must come back with food, not the stone
+        assertEquals(ItemType.FOOD, hauler.get(InventoryComponent.class).carriedItem.getType());
+        assertEquals(1, bc.outputBuffer.count(ItemType.STONE));
+    }
 }
@@ -0,0 +1,119 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ai.ThinkNode;
+import com.haraldsson.syntropy.ai.ThinkTreeRoot;
+import com.haraldsson.syntropy.ecs.ECSWorld;
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.AIComponent;
+import com.haraldsson.syntropy.world.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThinkTreeRootTest {
+
+    /** Fixed-priority node that counts how often it is scored and run. */
+    private static class CountingNode extends ThinkNode {
+        float priority;
+        boolean result = true;
+        int priorityCalls;
+        int executeCalls;
+        int enters;
+        int exits;
+
+        CountingNode(float priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public float getPriority(Entity entity, ECSWorld ecsWorld, World world) {
+            priorityCalls++;
+            return priority;
+        }
+
+        @Override
+        public boolean execute(Entity entity, ECSWorld ecsWorld, World world, float delta) {
+            executeCalls++;
+            return result;
+        }
+
+        @Override
+        public void onEnter(Entity entity, ECSWorld ecsWorld, World world) {
+            enters++;
+        }
+
+        @Override
+        public void onExit(Entity entity, ECSWorld ecsWorld, World world) {
+            exits++;
+        }
+    }
+
+    private ECSWorld ecsWorld;
+    private Entity pawn;
+    private AIComponent ai;
+    private CountingNode low;
+    private CountingNode high;
+    private ThinkTreeRoot root;
+
+    @BeforeEach
+    void setUp() {
+        ecsWorld = new ECSWorld();
+        pawn = ecsWorld.createEntity();
+        ai = new AIComponent();
+        pawn.add(ai);
+        low = new CountingNode(10f);
+        high = new CountingNode(0f);
+        root = new ThinkTreeRoot().addChild(low).addChild(high);
+        root.setThinkInterval(1f);
+    }
+
+    @Test
+    void keepsRunningTheActiveNodeBetweenThinks() {
+        for (int i = 0; i < 60; i++) root.execute(pawn, ecsWorld, null, 1f / 60f);
+
+        assertEquals(60, low.executeCalls);
+        assertTrue(low.priorityCalls <= 2, "scored once up front, at most once more on the interval");
+    }
+
+    @Test
+    void requestRethinkSwitchesImmediately() {
+        root.execute(pawn, ecsWorld, null, 0.01f);
+        high.priority = 50f;
+        root.execute(pawn, ecsWorld, null, 0.01f);
+        assertEquals(0, high.executeCalls, "no re-think yet");
+
+        ai.requestRethink();
+        root.execute(pawn, ecsWorld, null, 0.01f);
+        assertEquals(1, high.executeCalls);
+        assertSame(high, ai.activeNode);
+    }
+
+    @Test
+    void finishedNodeTriggersRethinkNextTick() {
+        low.result = false;
+        root.execute(pawn, ecsWorld, null, 0.01f);
+        int scored = low.priorityCalls;
+        root.execute(pawn, ecsWorld, null, 0.01f);
+        assertEquals(scored + 1, low.priorityCalls);
+    }
+
+    @Test
+    void activeNodeWinsTiesAndGetsEnterExitOnSwitch() {
+        root.execute(pawn, ecsWorld, null, 0.01f);
+        assertEquals(1, low.enters);
+
+        high.priority = 10f; // tie — stay put
+        ai.requestRethink();
+        root.execute(pawn, ecsWorld, null, 0.01f);
+        assertSame(low, ai.activeNode);
+        assertEquals(0, low.exits);
+
+        high.priority = 11f;
+        ai.requestRethink();
+        root.execute(pawn, ecsWorld, null, 0.01f);
+        assertSame(high, ai.activeNode);
+        assertEquals(1, low.exits);
+        assertEquals(1, high.enters);
+    }
+}
@@ -0,0 +1,83 @@
+package com.haraldsson.syntropy;
+
+import com.haraldsson.syntropy.ecs.Entity;
+import com.haraldsson.syntropy.ecs.components.BuildingComponent;
+import com.haraldsson.syntropy.ecs.components.PositionComponent;
+import com.haraldsson.syntropy.world.StockpileZone;
+import com.haraldsson.syntropy.world.World;
+import com.haraldsson.syntropy.world.WorldGenerator;
+import com.haraldsson.syntropy.world.gen.GenerationContext;
+import com.haraldsson.syntropy.world.gen.GenerationPipeline;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldGeneratorTest {
+
+    private static String terrainSignature(World world) {
+        StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < world.getHeight(); y++) {
+            for (int x = 0; x < world.getWidth(); x++) {
+                sb.append(world.getTile(x, y).getTerrainType().ordinal());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String positionSignature(List<Entity> entities) {
+        StringBuilder sb = new StringBuilder();
+        for (Entity e : entities) {
+            PositionComponent pos = e.get(PositionComponent.class);
+            if (pos != null) sb.append(pos.x).append(',').append(pos.y).append(';');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void sameSeedProducesIdenticalWorld() {
+        // Two independent pipeline runs — nothing is shared between them
+        GenerationContext ca = GenerationPipeline.standard().run(64, 48, 42L);
+        GenerationContext cb = GenerationPipeline.standard().run(64, 48, 42L);
+        assertNotSame(ca, cb);
+        assertArrayEquals(ca.terrain, cb.terrain, "Pipeline terrain must be reproducible");
+
+        WorldGenerator.GenerationResult a = WorldGenerator.generate(64, 48, 42L);
+        WorldGenerator.GenerationResult b = WorldGenerator.generate(64, 48, 42L);
+
+        assertEquals(terrainSignature(a.world), terrainSignature(b.world), "Terrain must be reproducible");
+        assertEquals(positionSignature(a.ecsWorld.getAll()), positionSignature(b.ecsWorld.getAll()),
+                "Building and colonist placement must be reproducible");
+        StockpileZone za = a.world.getStockpiles().getZones().get(0);
+        StockpileZone zb = b.world.getStockpiles().getZones().get(0);
+        assertEquals(za.getTiles().size(), zb.getTiles().size());
+        for (int i = 0; i < za.getTiles().size(); i++) {
+            assertEquals(za.getTiles().get(i).getX(), zb.getTiles().get(i).getX());
+            assertEquals(za.getTiles().get(i).getY(), zb.getTiles().get(i).getY());
+        }
+    }
+
+    @Test
+    void differentSeedsProduceDifferentTerrain() {
+        WorldGenerator.GenerationResult a = WorldGenerator.generate(64, 48, 1L);
+        WorldGenerator.GenerationResult b = WorldGenerator.generate(64, 48, 2L);
+
+        assertNotEquals(terrainSignature(a.world), terrainSignature(b.world));
+    }
+
+    @Test
+    void buildingsAndSpawnsAreOnPassableTiles() {
+        WorldGenerator.GenerationResult result = WorldGenerator.generate(50, 50, 7L);
+
+        for (Entity e : result.ecsWorld.getAll()) {
+            PositionComponent pos = e.get(PositionComponent.class);
+            int tx = (int) Math.floor(pos.x);
+            int ty = (int) Math.floor(pos.y);
+            assertTrue(result.world.isPassable(tx, ty), "Entity placed on impassable tile " + tx + "," + ty);
+            if (e.has(BuildingComponent.class)) {
+                assertSame(e, result.world.getTile(tx, ty).getBuildingEntity());
+            }
+        }
+    }
+}